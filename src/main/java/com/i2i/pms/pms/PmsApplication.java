@@ -2,8 +2,10 @@ package com.i2i.pms.pms;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class PmsApplication {
 
 	public static void main(String[] args) {
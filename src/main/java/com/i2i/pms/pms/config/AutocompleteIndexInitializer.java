@@ -0,0 +1,18 @@
+package com.i2i.pms.pms.config;
+
+import com.i2i.pms.pms.service.AutocompleteService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AutocompleteIndexInitializer implements CommandLineRunner {
+
+    @Autowired
+    private AutocompleteService autocompleteService;
+
+    @Override
+    public void run(String... args) {
+        autocompleteService.rebuildIndexes();
+    }
+}
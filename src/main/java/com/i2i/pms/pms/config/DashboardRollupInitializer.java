@@ -0,0 +1,18 @@
+package com.i2i.pms.pms.config;
+
+import com.i2i.pms.pms.service.DashboardRollupService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DashboardRollupInitializer implements CommandLineRunner {
+
+    @Autowired
+    private DashboardRollupService dashboardRollupService;
+
+    @Override
+    public void run(String... args) {
+        dashboardRollupService.backfillIfEmpty();
+    }
+}
@@ -0,0 +1,47 @@
+package com.i2i.pms.pms.config;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Installs the PostgreSQL full-text search schema that ddl-auto cannot express: a generated tsvector
+ * column over key, summary, tags and description, and its GIN index. The tag text comes from
+ * issues.search_tags, which the Issue entity writes with the row. Runs once Hibernate has updated the
+ * tables and before the web server starts, since adding the column rewrites the table. Every
+ * statement is idempotent.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@ConditionalOnProperty(name = "issues.search.engine", havingValue = "postgres", matchIfMissing = true)
+public class IssueSearchSchemaInitializer implements InitializingBean {
+
+    private static final String[] STATEMENTS = {
+            "ALTER TABLE issues ADD COLUMN IF NOT EXISTS search_tags TEXT",
+            "ALTER TABLE issues ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS ("
+                    + "setweight(to_tsvector('english', coalesce(issue_key, '') || ' ' || coalesce(summary, '')), 'A') || "
+                    + "setweight(to_tsvector('english', coalesce(search_tags, '')), 'B') || "
+                    + "setweight(to_tsvector('english', coalesce(description, '')), 'C')) STORED",
+            "CREATE INDEX IF NOT EXISTS idx_issues_search_vector ON issues USING GIN (search_vector)",
+            // Earlier versions kept search_tags up to date with a row trigger, one issue update per tag row
+            "DROP TRIGGER IF EXISTS trg_issue_tags_search ON issue_tags",
+            "DROP FUNCTION IF EXISTS issues_refresh_search_tags()",
+            // Backfill tags written before the entity maintained the column
+            "UPDATE issues i SET search_tags = t.tags "
+                    + "FROM (SELECT issue_id, string_agg(tag, ' ') AS tags FROM issue_tags GROUP BY issue_id) t "
+                    + "WHERE i.id = t.issue_id AND i.search_tags IS DISTINCT FROM t.tags"
+    };
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        for (String statement : STATEMENTS) {
+            jdbcTemplate.execute(statement);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.i2i.pms.pms.config;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recreates the foreign keys of notifications with ON DELETE CASCADE on databases created before the
+ * entity declared them, which ddl-auto does not alter. Notifications are written asynchronously, so
+ * deleting an issue, project or user must not depend on finding and removing them first. Only keys
+ * still lacking the cascade are touched, so this is idempotent. Also creates the partial index used by
+ * the retention purge, which JPA index definitions cannot express. Runs once Hibernate has created or
+ * updated the tables, while the context is still starting: the constraint swap locks the table, and
+ * nothing may write notifications until the key is back, so it must finish before the web server,
+ * the scheduled jobs and the command line runners start.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class NotificationSchemaInitializer implements InitializingBean {
+
+    private static final String[] STATEMENTS = {
+            "DO $$ "
+                    + "DECLARE fk RECORD; "
+                    + "BEGIN "
+                    + "FOR fk IN SELECT c.conname, a.attname, t.relname AS target FROM pg_constraint c "
+                    + "JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = c.conkey[1] "
+                    + "JOIN pg_class t ON t.oid = c.confrelid "
+                    + "WHERE c.conrelid = 'notifications'::regclass AND c.contype = 'f' AND c.confdeltype <> 'c' LOOP "
+                    + "EXECUTE format('ALTER TABLE notifications DROP CONSTRAINT %I', fk.conname); "
+                    + "EXECUTE format('ALTER TABLE notifications ADD CONSTRAINT %I FOREIGN KEY (%I) REFERENCES %I (id) ON DELETE CASCADE', "
+                    + "fk.conname, fk.attname, fk.target); "
+                    + "END LOOP; "
+                    + "END $$",
+            // Partial, so only read rows pay for it; the retention purge finds its batches here
+            "CREATE INDEX IF NOT EXISTS idx_notifications_read_created_at ON notifications (created_at) WHERE is_read = true"
+    };
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        for (String statement : STATEMENTS) {
+            jdbcTemplate.execute(statement);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.i2i.pms.pms.config;
+
+import com.i2i.pms.pms.service.RealtimeDashboardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RealtimeDashboardInitializer implements CommandLineRunner {
+
+    @Autowired
+    private RealtimeDashboardService realtimeDashboardService;
+
+    @Override
+    public void run(String... args) {
+        realtimeDashboardService.seed();
+    }
+}
@@ -0,0 +1,56 @@
+package com.i2i.pms.pms.config;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves the write-heavy tables from identity columns to the sequences their entities now allocate
+ * ids from. Hibernate reserves a block of ALLOCATION_SIZE ids per nextval (pooled-lo), so inserts no
+ * longer need a round trip each and can be sent in JDBC batches. The EntityManagerFactory depends on
+ * this bean, so the switch is done before Hibernate starts and before the web server and scheduled
+ * jobs can insert anything. Tables that do not exist yet are left to Hibernate, which creates them
+ * with their sequences. Every statement is idempotent.
+ */
+@Component
+public class SequenceIdInitializer implements InitializingBean {
+
+    // Must match the allocationSize of the entities' @SequenceGenerator
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final String[] TABLES = {
+            "issues", "comments", "work_logs", "notifications", "issue_history", "file_attachments", "milestones"
+    };
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        for (String table : TABLES) {
+            if (jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, table) != Boolean.TRUE) {
+                continue;
+            }
+            String sequence = table + "_seq";
+            jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + sequence + " START WITH 1 INCREMENT BY " + ALLOCATION_SIZE);
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id DROP IDENTITY IF EXISTS");
+            // The next block must start above every existing id, including ones the identity column handed out
+            jdbcTemplate.queryForList("SELECT setval('" + sequence + "', m.max_id + 1, false) "
+                    + "FROM (SELECT COALESCE(MAX(id), 0) AS max_id FROM " + table + ") m, " + sequence + " s "
+                    + "WHERE CASE WHEN s.is_called THEN s.last_value + " + ALLOCATION_SIZE + " ELSE s.last_value END <= m.max_id");
+            // Plain SQL inserts take one id per row from the sequence, outside any block Hibernate holds
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id SET DEFAULT nextval('" + sequence + "')");
+        }
+    }
+
+    // Makes the EntityManagerFactory wait for the switch, the way Spring Boot orders Flyway before JPA
+    @Component
+    static class EntityManagerFactoryDependency extends EntityManagerFactoryDependsOnPostProcessor {
+
+        EntityManagerFactoryDependency() {
+            super(SequenceIdInitializer.class);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.i2i.pms.pms.controller;
+
+import com.i2i.pms.pms.dto.CacheStatsDto;
+import com.i2i.pms.pms.security.PrincipalCache;
+import com.i2i.pms.pms.service.DashboardCacheService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/caches")
+public class CacheController {
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private DashboardCacheService dashboardCacheService;
+
+    // Hit/miss statistics of the in-process caches
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<CacheStatsDto>> getCacheStats() {
+        return ResponseEntity.ok(List.of(principalCache.getStats(), dashboardCacheService.getStats()));
+    }
+}
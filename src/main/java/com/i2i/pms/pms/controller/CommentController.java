@@ -10,13 +10,15 @@ import com.i2i.pms.pms.exception.ResourceNotFoundException;
 import com.i2i.pms.pms.mapper.CommentMapper;
 import com.i2i.pms.pms.repository.IssueRepository;
 import com.i2i.pms.pms.repository.UserRepository;
-import com.i2i.pms.pms.service.AuthService;
+import com.i2i.pms.pms.security.JwtPrincipal;
+import com.i2i.pms.pms.security.JwtPrincipalResolver;
 import com.i2i.pms.pms.service.CommentService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.net.URI;
 import java.util.List;
@@ -32,7 +34,7 @@ public class CommentController {
     private CommentMapper commentMapper;
 
     @Autowired
-    private AuthService authService;
+    private JwtPrincipalResolver jwtPrincipalResolver;
 
     @Autowired
     private UserRepository userRepository;
@@ -44,17 +46,14 @@ public class CommentController {
     @PostMapping("/api/comments")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
     public ResponseEntity<CommentDto> createCommentSimple(
-            @RequestHeader("Authorization") String authorization,
+            HttpServletRequest httpRequest,
             @Valid @RequestBody CreateCommentSimpleRequest request) {
-        // Extract token
-        String token = authorization;
-        if (token.startsWith("Bearer ")) {
-            token = token.substring(7);
-        }
-        Long userId = authService.getUserIdFromToken(token);
-        if (userId == null) {
+        // Resolve author from the authenticated principal
+        JwtPrincipal principal = jwtPrincipalResolver.resolve(httpRequest);
+        if (principal == null) {
             return ResponseEntity.status(401).build();
         }
+        Long userId = principal.getUserId();
 
         User author = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId.toString()));
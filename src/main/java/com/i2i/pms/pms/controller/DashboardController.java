@@ -1,11 +1,22 @@
 package com.i2i.pms.pms.controller;
 
+import com.i2i.pms.pms.dto.CounterReconciliationReport;
 import com.i2i.pms.pms.dto.DashboardDto;
+import com.i2i.pms.pms.dto.MyDashboardDto;
+import com.i2i.pms.pms.security.JwtPrincipal;
+import com.i2i.pms.pms.security.JwtPrincipalResolver;
+import com.i2i.pms.pms.service.DashboardCacheService;
+import com.i2i.pms.pms.service.DashboardCacheService.Scope;
+import com.i2i.pms.pms.service.DashboardCounterService;
 import com.i2i.pms.pms.service.DashboardService;
+import com.i2i.pms.pms.service.RealtimeDashboardService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/dashboard")
@@ -14,11 +25,24 @@ public class DashboardController {
     @Autowired
     private DashboardService dashboardService;
 
+    @Autowired
+    private DashboardCounterService dashboardCounterService;
+
+    // Computed dashboards are served from a short-lived cache that writes invalidate by scope
+    @Autowired
+    private DashboardCacheService dashboardCacheService;
+
+    @Autowired
+    private RealtimeDashboardService realtimeDashboardService;
+
+    @Autowired
+    private JwtPrincipalResolver jwtPrincipalResolver;
+
     // Get admin dashboard - matches API /api/dashboard/admin
     @GetMapping("/admin")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<DashboardDto> getAdminDashboard() {
-        DashboardDto dashboard = dashboardService.getOverallDashboard();
+        DashboardDto dashboard = dashboardCacheService.get(Scope.OVERALL, null, dashboardService::getOverallDashboard);
         return ResponseEntity.ok(dashboard);
     }
 
@@ -26,7 +50,7 @@ public class DashboardController {
     @GetMapping("/project-manager")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
     public ResponseEntity<DashboardDto> getProjectManagerDashboard() {
-        DashboardDto dashboard = dashboardService.getOverallDashboard();
+        DashboardDto dashboard = dashboardCacheService.get(Scope.OVERALL, null, dashboardService::getOverallDashboard);
         return ResponseEntity.ok(dashboard);
     }
 
@@ -34,7 +58,7 @@ public class DashboardController {
     @GetMapping("/project-manager/{managerId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
     public ResponseEntity<DashboardDto> getSpecificManagerDashboard(@PathVariable Long managerId) {
-        DashboardDto dashboard = dashboardService.getManagerDashboard(managerId);
+        DashboardDto dashboard = dashboardCacheService.get(Scope.MANAGER, managerId, () -> dashboardService.getManagerDashboard(managerId));
         return ResponseEntity.ok(dashboard);
     }
 
@@ -42,7 +66,7 @@ public class DashboardController {
     @GetMapping("/developer")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
     public ResponseEntity<DashboardDto> getDeveloperDashboard() {
-        DashboardDto dashboard = dashboardService.getOverallDashboard();
+        DashboardDto dashboard = dashboardCacheService.get(Scope.OVERALL, null, dashboardService::getOverallDashboard);
         return ResponseEntity.ok(dashboard);
     }
 
@@ -50,7 +74,7 @@ public class DashboardController {
     @GetMapping("/developer/{developerId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
     public ResponseEntity<DashboardDto> getDeveloperDashboardById(@PathVariable Long developerId) {
-        DashboardDto dashboard = dashboardService.getAssignedIssuesDashboard(developerId);
+        DashboardDto dashboard = dashboardCacheService.get(Scope.ASSIGNEE, developerId, () -> dashboardService.getAssignedIssuesDashboard(developerId));
         return ResponseEntity.ok(dashboard);
     }
 
@@ -58,7 +82,7 @@ public class DashboardController {
     @GetMapping("/manager/{managerId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
     public ResponseEntity<DashboardDto> getManagerDashboard(@PathVariable Long managerId) {
-        DashboardDto dashboard = dashboardService.getManagerDashboard(managerId);
+        DashboardDto dashboard = dashboardCacheService.get(Scope.MANAGER, managerId, () -> dashboardService.getManagerDashboard(managerId));
         return ResponseEntity.ok(dashboard);
     }
 
@@ -66,7 +90,7 @@ public class DashboardController {
     @GetMapping("/project/{projectId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
     public ResponseEntity<DashboardDto> getProjectDashboard(@PathVariable Long projectId) {
-        DashboardDto dashboard = dashboardService.getProjectDashboard(projectId);
+        DashboardDto dashboard = dashboardCacheService.get(Scope.PROJECT, projectId, () -> dashboardService.getProjectDashboard(projectId));
         return ResponseEntity.ok(dashboard);
     }
 
@@ -74,7 +98,7 @@ public class DashboardController {
     @GetMapping("/projects-as-lead/{leadUserId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
     public ResponseEntity<DashboardDto> getProjectsAsLeadDashboard(@PathVariable Long leadUserId) {
-        DashboardDto dashboard = dashboardService.getProjectsAsLeadDashboard(leadUserId);
+        DashboardDto dashboard = dashboardCacheService.get(Scope.MANAGER, leadUserId, () -> dashboardService.getProjectsAsLeadDashboard(leadUserId));
         return ResponseEntity.ok(dashboard);
     }
 
@@ -82,7 +106,7 @@ public class DashboardController {
     @GetMapping("/projects-as-member/{memberUserId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
     public ResponseEntity<DashboardDto> getProjectsAsMemberDashboard(@PathVariable Long memberUserId) {
-        DashboardDto dashboard = dashboardService.getProjectsAsMemberDashboard(memberUserId);
+        DashboardDto dashboard = dashboardCacheService.get(Scope.MEMBER, memberUserId, () -> dashboardService.getProjectsAsMemberDashboard(memberUserId));
         return ResponseEntity.ok(dashboard);
     }
 
@@ -90,7 +114,7 @@ public class DashboardController {
     @GetMapping("/assigned-issues/{assigneeId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
     public ResponseEntity<DashboardDto> getAssignedIssuesDashboard(@PathVariable Long assigneeId) {
-        DashboardDto dashboard = dashboardService.getAssignedIssuesDashboard(assigneeId);
+        DashboardDto dashboard = dashboardCacheService.get(Scope.ASSIGNEE, assigneeId, () -> dashboardService.getAssignedIssuesDashboard(assigneeId));
         return ResponseEntity.ok(dashboard);
     }
 
@@ -98,7 +122,7 @@ public class DashboardController {
     @GetMapping("/reported-issues/{reporterId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
     public ResponseEntity<DashboardDto> getReportedIssuesDashboard(@PathVariable Long reporterId) {
-        DashboardDto dashboard = dashboardService.getReportedIssuesDashboard(reporterId);
+        DashboardDto dashboard = dashboardCacheService.get(Scope.REPORTER, reporterId, () -> dashboardService.getReportedIssuesDashboard(reporterId));
         return ResponseEntity.ok(dashboard);
     }
 
@@ -120,14 +144,38 @@ public class DashboardController {
         return ResponseEntity.ok(dashboard);
     }
 
-    // Get current user's dashboard (combines multiple perspectives)
+    // Stream real-time dashboard updates (last 24 hours) as Server-Sent Events
+    @GetMapping(value = "/realtime/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public SseEmitter streamRealTimeDashboard() {
+        return realtimeDashboardService.subscribe();
+    }
+
+    // Get current user's dashboard (combines manager, member, assignee and reporter perspectives)
     @GetMapping("/my-dashboard")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
-    public ResponseEntity<DashboardDto> getMyDashboard(@RequestParam(required = false) Long userId) {
-        // This endpoint combines multiple dashboard perspectives for the current user
-        // For now, return overall dashboard, but this could be enhanced to combine
-        // manager, member, assignee, and reporter dashboards
-        DashboardDto dashboard = dashboardService.getOverallDashboard();
+    public ResponseEntity<MyDashboardDto> getMyDashboard(@RequestParam(required = false) Long userId,
+                                                         HttpServletRequest request) {
+        JwtPrincipal principal = jwtPrincipalResolver.resolve(request);
+        if (principal == null) {
+            return ResponseEntity.status(401).build();
+        }
+        // Other users' dashboards and the manager section need the roles of /project-manager/{managerId}
+        boolean managerAccess = principal.getRoles().contains("ADMIN") || principal.getRoles().contains("MANAGER");
+        if (userId == null) {
+            userId = principal.getUserId();
+        } else if (!userId.equals(principal.getUserId()) && !managerAccess) {
+            return ResponseEntity.status(403).build();
+        }
+        MyDashboardDto dashboard = dashboardService.getMyDashboard(userId, managerAccess);
         return ResponseEntity.ok(dashboard);
     }
-} 
\ No newline at end of file
+
+    // Rebuild the materialized dashboard counters and report any drift that was corrected
+    @PostMapping("/counters/reconcile")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CounterReconciliationReport> reconcileCounters() {
+        CounterReconciliationReport report = dashboardCounterService.reconcile();
+        return ResponseEntity.ok(report);
+    }
+}
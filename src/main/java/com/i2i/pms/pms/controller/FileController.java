@@ -10,6 +10,8 @@ import com.i2i.pms.pms.mapper.FileMapper;
 import com.i2i.pms.pms.repository.IssueRepository;
 import com.i2i.pms.pms.repository.ProjectRepository;
 import com.i2i.pms.pms.repository.UserRepository;
+import com.i2i.pms.pms.security.JwtPrincipal;
+import com.i2i.pms.pms.security.JwtPrincipalResolver;
 import com.i2i.pms.pms.service.FileAttachmentService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
@@ -17,10 +19,10 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
 
 @RestController
@@ -41,6 +43,9 @@ public class FileController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private JwtPrincipalResolver jwtPrincipalResolver;
+
     // Get files by project - matches API /api/projects/{projectId}/files
     @GetMapping("/api/projects/{projectId}/files")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
@@ -65,12 +70,10 @@ public class FileController {
     public ResponseEntity<FileDto> uploadFileToProject(
             @PathVariable Long projectId,
             @RequestParam("file") MultipartFile file,
-            Authentication authentication) {
+            HttpServletRequest httpRequest) {
         
-        // Get current user
-        String currentUserEmail = authentication.getName();
-        User currentUser = userRepository.findByEmail(currentUserEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "email", currentUserEmail));
+        // Get current user; the principal already carries the id, so only a reference is needed
+        User currentUser = currentUser(httpRequest);
 
         // Get project
         Project project = projectRepository.findById(projectId)
@@ -88,12 +91,10 @@ public class FileController {
     public ResponseEntity<FileDto> uploadFileToIssue(
             @PathVariable Long issueId,
             @RequestParam("file") MultipartFile file,
-            Authentication authentication) {
+            HttpServletRequest httpRequest) {
         
-        // Get current user
-        String currentUserEmail = authentication.getName();
-        User currentUser = userRepository.findByEmail(currentUserEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "email", currentUserEmail));
+        // Get current user; the principal already carries the id, so only a reference is needed
+        User currentUser = currentUser(httpRequest);
 
         // Get issue
         Issue issue = issueRepository.findById(issueId)
@@ -147,4 +148,13 @@ public class FileController {
         fileAttachmentService.deleteFile(fileId);
         return ResponseEntity.ok().build();
     }
+
+    // Helper methods
+    private User currentUser(HttpServletRequest httpRequest) {
+        JwtPrincipal principal = jwtPrincipalResolver.resolve(httpRequest);
+        if (principal == null) {
+            throw new RuntimeException("Invalid token");
+        }
+        return userRepository.getReferenceById(principal.getUserId());
+    }
 }
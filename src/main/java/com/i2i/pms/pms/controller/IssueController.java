@@ -1,23 +1,40 @@
 package com.i2i.pms.pms.controller;
 
+import com.i2i.pms.pms.dto.BulkIssueUpdateRequest;
+import com.i2i.pms.pms.dto.BulkIssueUpdateResult;
 import com.i2i.pms.pms.dto.CreateIssueRequest;
 import com.i2i.pms.pms.dto.IssueDto;
+import com.i2i.pms.pms.dto.IssueImportDto;
+import com.i2i.pms.pms.dto.SearchPage;
 import com.i2i.pms.pms.dto.UpdateIssueStatusRequest;
 import com.i2i.pms.pms.entity.Issue;
 import com.i2i.pms.pms.entity.Project;
 import com.i2i.pms.pms.entity.User;
 import com.i2i.pms.pms.exception.ResourceNotFoundException;
 import com.i2i.pms.pms.mapper.IssueMapper;
+import com.i2i.pms.pms.repository.IssueListScope;
 import com.i2i.pms.pms.repository.ProjectRepository;
 import com.i2i.pms.pms.repository.UserRepository;
-import com.i2i.pms.pms.service.AuthService;
+import com.i2i.pms.pms.security.JwtPrincipal;
+import com.i2i.pms.pms.security.JwtPrincipalResolver;
+import com.i2i.pms.pms.service.IssueExportService;
+import com.i2i.pms.pms.service.IssueImportService;
+import com.i2i.pms.pms.service.IssueQueryService;
+import com.i2i.pms.pms.service.IssueSearchService;
 import com.i2i.pms.pms.service.IssueService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 import java.util.Locale;
@@ -40,15 +57,82 @@ public class IssueController {
     private ProjectRepository projectRepository;
 
     @Autowired
-    private AuthService authService;
+    private JwtPrincipalResolver jwtPrincipalResolver;
 
-    // Get all issues
+    @Autowired
+    private IssueExportService issueExportService;
+
+    @Autowired
+    private IssueImportService issueImportService;
+
+    @Autowired
+    private IssueQueryService issueQueryService;
+
+    @Autowired
+    private IssueSearchService issueSearchService;
+
+    // Get all issues, one keyset page at a time unless unpaged=true
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
-    public ResponseEntity<List<IssueDto>> getAllIssues() {
-        List<Issue> issues = issueService.getAllIssues();
-        List<IssueDto> issueDtos = issueMapper.toDtoList(issues);
-        return ResponseEntity.ok(issueDtos);
+    public ResponseEntity<?> getAllIssues(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean unpaged) {
+        if (unpaged) {
+            return ResponseEntity.ok(issueQueryService.getIssues(IssueListScope.ALL, null));
+        }
+        return ResponseEntity.ok(issueQueryService.getIssuePage(IssueListScope.ALL, null, cursor, size));
+    }
+
+    // Export issues as NDJSON or CSV, streamed to the client row by row
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
+    public void exportIssues(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) Long projectId,
+            HttpServletResponse response) throws IOException {
+        IssueExportService.Format exportFormat = IssueExportService.Format.from(format);
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"issues." + exportFormat.getExtension() + "\"");
+        issueExportService.exportIssues(exportFormat, projectId, response.getWriter());
+    }
+
+    // Import issues from NDJSON or CSV, created chunk by chunk as the request body arrives;
+    // pass the importId of an interrupted import with the same file to resume it
+    @PostMapping("/import")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<IssueImportDto> importIssues(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) Long importId,
+            HttpServletRequest request) throws IOException {
+        JwtPrincipal principal = jwtPrincipalResolver.resolve(request);
+        if (principal == null) {
+            throw new RuntimeException("Invalid token");
+        }
+        IssueImportService.Format importFormat = IssueImportService.Format.from(format);
+        Reader reader = new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8);
+        return ResponseEntity.ok(issueImportService.importIssues(importFormat, reader, importId, principal.getUserId()));
+    }
+
+    // Progress of an import, updated as each chunk commits
+    @GetMapping("/import/{importId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<IssueImportDto> getImport(@PathVariable Long importId) {
+        return ResponseEntity.ok(issueImportService.getImport(importId));
+    }
+
+    // Ranked full-text search over key, summary, tags and description
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
+    public ResponseEntity<SearchPage<IssueDto>> searchIssues(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        Issue.Status statusFilter = status != null ? Issue.Status.valueOf(status.toUpperCase(Locale.ROOT)) : null;
+        return ResponseEntity.ok(issueSearchService.searchIssues(query, projectId, statusFilter, page, size));
     }
 
     // Get issue by ID
@@ -76,19 +160,14 @@ public class IssueController {
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
     public ResponseEntity<IssueDto> createIssue(
             @Valid @RequestBody CreateIssueRequest createIssueRequest,
-            @RequestHeader("Authorization") String authorization) {
+            HttpServletRequest request) {
         
-        // Extract token from Authorization header
-        String token = authorization;
-        if (token.startsWith("Bearer ")) {
-            token = token.substring(7);
-        }
-
-        // Get user ID from token
-        Long userId = authService.getUserIdFromToken(token);
-        if (userId == null) {
+        // Get user ID from the principal resolved by the JWT filter
+        JwtPrincipal principal = jwtPrincipalResolver.resolve(request);
+        if (principal == null) {
             throw new RuntimeException("Invalid token");
         }
+        Long userId = principal.getUserId();
 
         // Get current user as reporter
         User currentUser = userRepository.findById(userId)
@@ -170,37 +249,57 @@ public class IssueController {
     // Get issues by project
     @GetMapping("/project/{projectId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
-    public ResponseEntity<List<IssueDto>> getIssuesByProject(@PathVariable Long projectId) {
-        List<Issue> issues = issueService.getIssuesByProject(projectId);
-        List<IssueDto> issueDtos = issueMapper.toDtoList(issues);
-        return ResponseEntity.ok(issueDtos);
+    public ResponseEntity<?> getIssuesByProject(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean unpaged) {
+        if (unpaged) {
+            return ResponseEntity.ok(issueQueryService.getIssues(IssueListScope.PROJECT, projectId));
+        }
+        return ResponseEntity.ok(issueQueryService.getIssuePage(IssueListScope.PROJECT, projectId, cursor, size));
     }
 
     // Get issues by project key
     @GetMapping("/project/key/{projectKey}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
-    public ResponseEntity<List<IssueDto>> getIssuesByProjectKey(@PathVariable String projectKey) {
-        List<Issue> issues = issueService.getIssuesByProjectKey(projectKey);
-        List<IssueDto> issueDtos = issueMapper.toDtoList(issues);
-        return ResponseEntity.ok(issueDtos);
+    public ResponseEntity<?> getIssuesByProjectKey(
+            @PathVariable String projectKey,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean unpaged) {
+        if (unpaged) {
+            return ResponseEntity.ok(issueQueryService.getIssuesByProjectKey(projectKey));
+        }
+        return ResponseEntity.ok(issueQueryService.getIssuePageByProjectKey(projectKey, cursor, size));
     }
 
     // Get issues by reporter
     @GetMapping("/reporter/{reporterId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
-    public ResponseEntity<List<IssueDto>> getIssuesByReporter(@PathVariable Long reporterId) {
-        List<Issue> issues = issueService.getIssuesByReporter(reporterId);
-        List<IssueDto> issueDtos = issueMapper.toDtoList(issues);
-        return ResponseEntity.ok(issueDtos);
+    public ResponseEntity<?> getIssuesByReporter(
+            @PathVariable Long reporterId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean unpaged) {
+        if (unpaged) {
+            return ResponseEntity.ok(issueQueryService.getIssues(IssueListScope.REPORTER, reporterId));
+        }
+        return ResponseEntity.ok(issueQueryService.getIssuePage(IssueListScope.REPORTER, reporterId, cursor, size));
     }
 
     // Get issues by assignee
     @GetMapping("/assignee/{assigneeId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
-    public ResponseEntity<List<IssueDto>> getIssuesByAssignee(@PathVariable Long assigneeId) {
-        List<Issue> issues = issueService.getIssuesByAssignee(assigneeId);
-        List<IssueDto> issueDtos = issueMapper.toDtoList(issues);
-        return ResponseEntity.ok(issueDtos);
+    public ResponseEntity<?> getIssuesByAssignee(
+            @PathVariable Long assigneeId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "false") boolean unpaged) {
+        if (unpaged) {
+            return ResponseEntity.ok(issueQueryService.getIssues(IssueListScope.ASSIGNEE, assigneeId));
+        }
+        return ResponseEntity.ok(issueQueryService.getIssuePage(IssueListScope.ASSIGNEE, assigneeId, cursor, size));
     }
 
     // Update issue status via path variable (existing)
@@ -262,6 +361,14 @@ public class IssueController {
         return ResponseEntity.ok(issueDto);
     }
 
+    // Apply the same operations to many issues at once; assignment changes keep the assign endpoint's roles
+    @PatchMapping("/bulk")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER') or (hasAnyRole('DEVELOPER', 'TESTER') " +
+            "and #request.assigneeId == null and #request.unassign != true)")
+    public ResponseEntity<BulkIssueUpdateResult> bulkUpdateIssues(@Valid @RequestBody BulkIssueUpdateRequest request) {
+        return ResponseEntity.ok(issueService.bulkUpdateIssues(request));
+    }
+
     // Add watcher to issue
     @PostMapping("/{id}/watchers/{userId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
@@ -1,18 +1,25 @@
 package com.i2i.pms.pms.controller;
 
+import com.i2i.pms.pms.dto.CursorPage;
 import com.i2i.pms.pms.dto.NotificationDto;
 import com.i2i.pms.pms.entity.Notification;
-import com.i2i.pms.pms.entity.User;
 import com.i2i.pms.pms.exception.ResourceNotFoundException;
 import com.i2i.pms.pms.mapper.NotificationMapper;
-import com.i2i.pms.pms.repository.UserRepository;
+import com.i2i.pms.pms.security.JwtPrincipal;
+import com.i2i.pms.pms.security.JwtPrincipalResolver;
 import com.i2i.pms.pms.service.NotificationService;
+import com.i2i.pms.pms.service.NotificationStreamService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -22,38 +29,64 @@ public class NotificationController {
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private NotificationStreamService notificationStreamService;
+
     @Autowired
     private NotificationMapper notificationMapper;
 
     @Autowired
-    private UserRepository userRepository;
+    private JwtPrincipalResolver jwtPrincipalResolver;
 
     // Get notifications for current user - matches API /api/notifications
+    // One keyset page at a time, optionally only those created since a time, unless unpaged=true
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
-    public ResponseEntity<List<NotificationDto>> getNotifications(Authentication authentication) {
+    public ResponseEntity<?> getNotifications(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(defaultValue = "false") boolean unpaged,
+            HttpServletRequest httpRequest) {
         // Get current user
-        String currentUserEmail = authentication.getName();
-        User currentUser = userRepository.findByEmail(currentUserEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "email", currentUserEmail));
-
-        List<Notification> notifications = notificationService.getNotificationsByUser(currentUser.getId());
-        List<NotificationDto> notificationDtos = notificationMapper.toDtoList(notifications);
-        return ResponseEntity.ok(notificationDtos);
+        Long currentUserId = currentUserId(httpRequest);
+
+        if (unpaged) {
+            List<Notification> notifications = notificationService.getNotificationsByUser(currentUserId);
+            List<NotificationDto> notificationDtos = notificationMapper.toDtoList(notifications);
+            return ResponseEntity.ok(notificationDtos);
+        }
+        return ResponseEntity.ok(toDtoPage(notificationService.getNotificationPage(currentUserId, false, since, cursor, size)));
     }
 
-    // Get unread notifications for current user
+    // Get unread notifications for current user, paged like /api/notifications
     @GetMapping("/unread")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
-    public ResponseEntity<List<NotificationDto>> getUnreadNotifications(Authentication authentication) {
+    public ResponseEntity<?> getUnreadNotifications(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(defaultValue = "false") boolean unpaged,
+            HttpServletRequest httpRequest) {
         // Get current user
-        String currentUserEmail = authentication.getName();
-        User currentUser = userRepository.findByEmail(currentUserEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "email", currentUserEmail));
+        Long currentUserId = currentUserId(httpRequest);
+
+        if (unpaged) {
+            List<Notification> notifications = notificationService.getUnreadNotificationsByUser(currentUserId);
+            List<NotificationDto> notificationDtos = notificationMapper.toDtoList(notifications);
+            return ResponseEntity.ok(notificationDtos);
+        }
+        return ResponseEntity.ok(toDtoPage(notificationService.getNotificationPage(currentUserId, true, since, cursor, size)));
+    }
 
-        List<Notification> notifications = notificationService.getUnreadNotificationsByUser(currentUser.getId());
-        List<NotificationDto> notificationDtos = notificationMapper.toDtoList(notifications);
-        return ResponseEntity.ok(notificationDtos);
+    // Stream the current user's new notifications as Server-Sent Events; reconnecting clients resume after Last-Event-ID
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
+    public SseEmitter streamNotifications(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            HttpServletRequest httpRequest) {
+
+        return notificationStreamService.subscribe(currentUserId(httpRequest), lastEventId);
     }
 
     // Mark notification as read - matches API /api/notifications/{notificationId}/read
@@ -61,14 +94,12 @@ public class NotificationController {
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
     public ResponseEntity<NotificationDto> markAsRead(
             @PathVariable Long notificationId,
-            Authentication authentication) {
+            HttpServletRequest httpRequest) {
         
         // Get current user
-        String currentUserEmail = authentication.getName();
-        User currentUser = userRepository.findByEmail(currentUserEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "email", currentUserEmail));
+        Long currentUserId = currentUserId(httpRequest);
 
-        Notification notification = notificationService.markAsRead(notificationId, currentUser.getId());
+        Notification notification = notificationService.markAsRead(notificationId, currentUserId);
         NotificationDto notificationDto = notificationMapper.toDto(notification);
         return ResponseEntity.ok(notificationDto);
     }
@@ -76,26 +107,22 @@ public class NotificationController {
     // Mark all notifications as read
     @PutMapping("/mark-all-read")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
-    public ResponseEntity<Void> markAllAsRead(Authentication authentication) {
+    public ResponseEntity<Void> markAllAsRead(HttpServletRequest httpRequest) {
         // Get current user
-        String currentUserEmail = authentication.getName();
-        User currentUser = userRepository.findByEmail(currentUserEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "email", currentUserEmail));
+        Long currentUserId = currentUserId(httpRequest);
 
-        notificationService.markAllAsRead(currentUser.getId());
+        notificationService.markAllAsRead(currentUserId);
         return ResponseEntity.ok().build();
     }
 
     // Get notification count
     @GetMapping("/count")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
-    public ResponseEntity<Long> getNotificationCount(Authentication authentication) {
+    public ResponseEntity<Long> getNotificationCount(HttpServletRequest httpRequest) {
         // Get current user
-        String currentUserEmail = authentication.getName();
-        User currentUser = userRepository.findByEmail(currentUserEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "email", currentUserEmail));
+        Long currentUserId = currentUserId(httpRequest);
 
-        Long count = notificationService.getUnreadCount(currentUser.getId());
+        Long count = notificationService.getUnreadCount(currentUserId);
         return ResponseEntity.ok(count);
     }
 
@@ -104,14 +131,12 @@ public class NotificationController {
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
     public ResponseEntity<NotificationDto> getNotification(
             @PathVariable Long notificationId,
-            Authentication authentication) {
+            HttpServletRequest httpRequest) {
         
         // Get current user
-        String currentUserEmail = authentication.getName();
-        User currentUser = userRepository.findByEmail(currentUserEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "email", currentUserEmail));
+        Long currentUserId = currentUserId(httpRequest);
 
-        Notification notification = notificationService.getNotificationById(notificationId, currentUser.getId())
+        Notification notification = notificationService.getNotificationById(notificationId, currentUserId)
                 .orElseThrow(() -> new ResourceNotFoundException("Notification", "id", notificationId.toString()));
         
         NotificationDto notificationDto = notificationMapper.toDto(notification);
@@ -123,14 +148,25 @@ public class NotificationController {
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
     public ResponseEntity<Void> deleteNotification(
             @PathVariable Long notificationId,
-            Authentication authentication) {
+            HttpServletRequest httpRequest) {
         
         // Get current user
-        String currentUserEmail = authentication.getName();
-        User currentUser = userRepository.findByEmail(currentUserEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "email", currentUserEmail));
+        Long currentUserId = currentUserId(httpRequest);
 
-        notificationService.deleteNotification(notificationId, currentUser.getId());
+        notificationService.deleteNotification(notificationId, currentUserId);
         return ResponseEntity.ok().build();
     }
+
+    // Helper methods
+    private Long currentUserId(HttpServletRequest httpRequest) {
+        JwtPrincipal principal = jwtPrincipalResolver.resolve(httpRequest);
+        if (principal == null) {
+            throw new RuntimeException("Invalid token");
+        }
+        return principal.getUserId();
+    }
+
+    private CursorPage<NotificationDto> toDtoPage(CursorPage<Notification> page) {
+        return new CursorPage<>(notificationMapper.toDtoList(page.getItems()), page.getNextCursor(), page.getSize());
+    }
 }
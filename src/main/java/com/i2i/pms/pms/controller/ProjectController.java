@@ -7,6 +7,7 @@ import com.i2i.pms.pms.entity.Issue;
 import com.i2i.pms.pms.entity.Project;
 import com.i2i.pms.pms.mapper.IssueMapper;
 import com.i2i.pms.pms.mapper.ProjectMapper;
+import com.i2i.pms.pms.repository.ProjectCounts;
 import com.i2i.pms.pms.service.IssueService;
 import com.i2i.pms.pms.service.ProjectService;
 import com.i2i.pms.pms.service.UserService;
@@ -17,7 +18,9 @@ import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/projects")
@@ -41,18 +44,19 @@ public class ProjectController {
     // Get all projects
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
-    public ResponseEntity<List<ProjectDto>> getAllProjects() {
+    public ResponseEntity<List<ProjectDto>> getAllProjects(@RequestParam(defaultValue = "false") boolean includeMembers) {
         List<Project> projects = projectService.getAllProjects();
-        List<ProjectDto> projectDtos = projectMapper.toDtoList(projects);
+        List<ProjectDto> projectDtos = toDtoList(projects, includeMembers);
         return ResponseEntity.ok(projectDtos);
     }
 
     // Get project by ID
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
-    public ResponseEntity<ProjectDto> getProjectById(@PathVariable Long id) {
+    public ResponseEntity<ProjectDto> getProjectById(@PathVariable Long id,
+            @RequestParam(defaultValue = "true") boolean includeMembers) {
         Optional<Project> project = projectService.getProjectById(id);
-        return project.map(projectMapper::toDto)
+        return project.map(found -> toDto(found, includeMembers))
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -60,9 +64,10 @@ public class ProjectController {
     // Get project by key
     @GetMapping("/key/{projectKey}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
-    public ResponseEntity<ProjectDto> getProjectByKey(@PathVariable String projectKey) {
+    public ResponseEntity<ProjectDto> getProjectByKey(@PathVariable String projectKey,
+            @RequestParam(defaultValue = "true") boolean includeMembers) {
         Optional<Project> project = projectService.getProjectByKey(projectKey);
-        return project.map(projectMapper::toDto)
+        return project.map(found -> toDto(found, includeMembers))
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -80,7 +85,7 @@ public class ProjectController {
         }
         
         Project savedProject = projectService.createProject(project);
-        ProjectDto projectDto = projectMapper.toDto(savedProject);
+        ProjectDto projectDto = toDto(savedProject, true);
         return ResponseEntity.ok(projectDto);
     }
 
@@ -100,7 +105,7 @@ public class ProjectController {
         }
         
         Project updatedProject = projectService.updateProject(id, project);
-        ProjectDto projectDto = projectMapper.toDto(updatedProject);
+        ProjectDto projectDto = toDto(updatedProject, true);
         return ResponseEntity.ok(projectDto);
     }
 
@@ -115,45 +120,50 @@ public class ProjectController {
     // Get projects by type
     @GetMapping("/type/{projectType}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
-    public ResponseEntity<List<ProjectDto>> getProjectsByType(@PathVariable Project.ProjectType projectType) {
+    public ResponseEntity<List<ProjectDto>> getProjectsByType(@PathVariable Project.ProjectType projectType,
+            @RequestParam(defaultValue = "false") boolean includeMembers) {
         List<Project> projects = projectService.getProjectsByType(projectType);
-        List<ProjectDto> projectDtos = projectMapper.toDtoList(projects);
+        List<ProjectDto> projectDtos = toDtoList(projects, includeMembers);
         return ResponseEntity.ok(projectDtos);
     }
 
     // Get projects by category
     @GetMapping("/category/{projectCategory}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
-    public ResponseEntity<List<ProjectDto>> getProjectsByCategory(@PathVariable Project.ProjectCategory projectCategory) {
+    public ResponseEntity<List<ProjectDto>> getProjectsByCategory(@PathVariable Project.ProjectCategory projectCategory,
+            @RequestParam(defaultValue = "false") boolean includeMembers) {
         List<Project> projects = projectService.getProjectsByCategory(projectCategory);
-        List<ProjectDto> projectDtos = projectMapper.toDtoList(projects);
+        List<ProjectDto> projectDtos = toDtoList(projects, includeMembers);
         return ResponseEntity.ok(projectDtos);
     }
 
     // Get projects by lead
     @GetMapping("/lead/{leadUserId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
-    public ResponseEntity<List<ProjectDto>> getProjectsByLead(@PathVariable Long leadUserId) {
+    public ResponseEntity<List<ProjectDto>> getProjectsByLead(@PathVariable Long leadUserId,
+            @RequestParam(defaultValue = "false") boolean includeMembers) {
         List<Project> projects = projectService.getProjectsByLead(leadUserId);
-        List<ProjectDto> projectDtos = projectMapper.toDtoList(projects);
+        List<ProjectDto> projectDtos = toDtoList(projects, includeMembers);
         return ResponseEntity.ok(projectDtos);
     }
 
     // Get projects by member
     @GetMapping("/member/{memberUserId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
-    public ResponseEntity<List<ProjectDto>> getProjectsByMember(@PathVariable Long memberUserId) {
+    public ResponseEntity<List<ProjectDto>> getProjectsByMember(@PathVariable Long memberUserId,
+            @RequestParam(defaultValue = "false") boolean includeMembers) {
         List<Project> projects = projectService.getProjectsByMember(memberUserId);
-        List<ProjectDto> projectDtos = projectMapper.toDtoList(projects);
+        List<ProjectDto> projectDtos = toDtoList(projects, includeMembers);
         return ResponseEntity.ok(projectDtos);
     }
 
     // Search projects
     @GetMapping("/search")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
-    public ResponseEntity<List<ProjectDto>> searchProjects(@RequestParam String keyword) {
+    public ResponseEntity<List<ProjectDto>> searchProjects(@RequestParam String keyword,
+            @RequestParam(defaultValue = "false") boolean includeMembers) {
         List<Project> projects = projectService.searchProjects(keyword);
-        List<ProjectDto> projectDtos = projectMapper.toDtoList(projects);
+        List<ProjectDto> projectDtos = toDtoList(projects, includeMembers);
         return ResponseEntity.ok(projectDtos);
     }
 
@@ -171,7 +181,7 @@ public class ProjectController {
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
     public ResponseEntity<ProjectDto> addMemberToProject(@PathVariable Long projectId, @PathVariable Long userId) {
         Project project = projectService.addMemberToProject(projectId, userId);
-        ProjectDto projectDto = projectMapper.toDto(project);
+        ProjectDto projectDto = toDto(project, true);
         return ResponseEntity.ok(projectDto);
     }
 
@@ -180,7 +190,7 @@ public class ProjectController {
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
     public ResponseEntity<ProjectDto> removeMemberFromProject(@PathVariable Long projectId, @PathVariable Long userId) {
         Project project = projectService.removeMemberFromProject(projectId, userId);
-        ProjectDto projectDto = projectMapper.toDto(project);
+        ProjectDto projectDto = toDto(project, true);
         return ResponseEntity.ok(projectDto);
     }
 
@@ -189,7 +199,7 @@ public class ProjectController {
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
     public ResponseEntity<ProjectDto> setProjectLead(@PathVariable Long projectId, @PathVariable Long userId) {
         Project project = projectService.setProjectLead(projectId, userId);
-        ProjectDto projectDto = projectMapper.toDto(project);
+        ProjectDto projectDto = toDto(project, true);
         return ResponseEntity.ok(projectDto);
     }
 
@@ -264,4 +274,17 @@ public class ProjectController {
         // TODO: Implement project velocity chart functionality
         return ResponseEntity.ok().build();
     }
+
+    // Helper methods
+    private ProjectDto toDto(Project project, boolean includeMembers) {
+        ProjectCounts counts = projectService.getProjectCounts(List.of(project.getId())).get(project.getId());
+        return projectMapper.toDto(project, counts, includeMembers);
+    }
+
+    // Counts for the whole list come from one grouped lookup instead of each project's collections
+    private List<ProjectDto> toDtoList(List<Project> projects, boolean includeMembers) {
+        Map<Long, ProjectCounts> counts = projectService.getProjectCounts(
+                projects.stream().map(Project::getId).collect(Collectors.toList()));
+        return projectMapper.toDtoList(projects, counts, includeMembers);
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.i2i.pms.pms.controller;
+
+import com.i2i.pms.pms.dto.SuggestionDto;
+import com.i2i.pms.pms.service.AutocompleteService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+    @Autowired
+    private AutocompleteService autocompleteService;
+
+    // Type-ahead suggestions for projects and issues, served from memory
+    @GetMapping("/autocomplete")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
+    public ResponseEntity<List<SuggestionDto>> autocomplete(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(autocompleteService.suggest(query, limit));
+    }
+}
@@ -12,7 +12,8 @@ import com.i2i.pms.pms.exception.ResourceNotFoundException;
 import com.i2i.pms.pms.mapper.IssueMapper;
 import com.i2i.pms.pms.mapper.RoleMapper;
 import com.i2i.pms.pms.mapper.UserMapper;
-import com.i2i.pms.pms.service.AuthService;
+import com.i2i.pms.pms.security.JwtPrincipal;
+import com.i2i.pms.pms.security.JwtPrincipalResolver;
 import com.i2i.pms.pms.service.IssueService;
 import com.i2i.pms.pms.service.RoleService;
 import com.i2i.pms.pms.service.UserService;
@@ -21,6 +22,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.Optional;
@@ -36,7 +38,7 @@ public class UserController {
     private RoleService roleService;
 
     @Autowired
-    private AuthService authService;
+    private JwtPrincipalResolver jwtPrincipalResolver;
 
     @Autowired
     private IssueService issueService;
@@ -61,24 +63,14 @@ public class UserController {
 
     // Get current user
     @GetMapping("/me")
-    public ResponseEntity<UserDto> getCurrentUser(@RequestHeader("Authorization") String authorization) {
+    public ResponseEntity<UserDto> getCurrentUser(HttpServletRequest request) {
         try {
-            // Extract token from Authorization header
-            String token = authorization;
-            if (token.startsWith("Bearer ")) {
-                token = token.substring(7);
-            }
-
-            // Validate token
-            if (!authService.validateToken(token)) {
-                return ResponseEntity.status(401).build();
-            }
-
-            // Get user ID from token
-            Long userId = authService.getUserIdFromToken(token);
-            if (userId == null) {
+            // Principal resolved by the JWT filter; null when the token is missing or invalid
+            JwtPrincipal principal = jwtPrincipalResolver.resolve(request);
+            if (principal == null) {
                 return ResponseEntity.status(401).build();
             }
+            Long userId = principal.getUserId();
 
             // Find user by ID
             User user = userService.getUserById(userId)
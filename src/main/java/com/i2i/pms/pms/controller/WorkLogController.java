@@ -9,14 +9,16 @@ import com.i2i.pms.pms.exception.ResourceNotFoundException;
 import com.i2i.pms.pms.mapper.WorkLogMapper;
 import com.i2i.pms.pms.repository.IssueRepository;
 import com.i2i.pms.pms.repository.UserRepository;
+import com.i2i.pms.pms.security.JwtPrincipal;
+import com.i2i.pms.pms.security.JwtPrincipalResolver;
 import com.i2i.pms.pms.service.WorkLogService;
-import com.i2i.pms.pms.service.AuthService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 // import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.List;
 
@@ -37,7 +39,7 @@ public class WorkLogController {
     private UserRepository userRepository;
 
     @Autowired
-    private AuthService authService;
+    private JwtPrincipalResolver jwtPrincipalResolver;
 
     // Get work logs by issue - matches API /api/issues/{issueId}/worklogs
     @GetMapping("/issue/{issueId}")
@@ -71,17 +73,14 @@ public class WorkLogController {
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'TESTER')")
     public ResponseEntity<WorkLogDto> createWorkLog(
             @Valid @RequestBody CreateWorkLogRequest request,
-            @RequestHeader("Authorization") String authorization) {
+            HttpServletRequest httpRequest) {
 
-        // Resolve current user from JWT
-        String token = authorization;
-        if (token.startsWith("Bearer ")) {
-            token = token.substring(7);
-        }
-        Long userId = authService.getUserIdFromToken(token);
-        if (userId == null) {
+        // Resolve current user from the authenticated principal
+        JwtPrincipal principal = jwtPrincipalResolver.resolve(httpRequest);
+        if (principal == null) {
             throw new RuntimeException("Invalid token");
         }
+        Long userId = principal.getUserId();
         User currentUser = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId.toString()));
 
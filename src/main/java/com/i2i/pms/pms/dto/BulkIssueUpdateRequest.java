@@ -0,0 +1,32 @@
+package com.i2i.pms.pms.dto;
+
+import com.i2i.pms.pms.entity.Issue;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkIssueUpdateRequest {
+
+    public static final int MAX_ISSUES = 500;
+
+    @NotEmpty(message = "At least one issue id is required")
+    @Size(max = MAX_ISSUES, message = "At most " + MAX_ISSUES + " issues can be updated at once")
+    private List<Long> issueIds = new ArrayList<>();
+
+    // Operations; every one left null is not applied
+    private Issue.Status status;
+    private Issue.Priority priority;
+    private Issue.Resolution resolution;
+    private Long assigneeId;
+    private Boolean unassign;
+    private List<String> addTags = new ArrayList<>();
+    private List<String> removeTags = new ArrayList<>();
+}
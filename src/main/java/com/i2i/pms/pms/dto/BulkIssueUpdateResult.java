@@ -0,0 +1,29 @@
+package com.i2i.pms.pms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkIssueUpdateResult {
+
+    private Integer requested;
+    private Integer updated;
+    private Integer failed;
+    private List<ItemResult> items = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        private Long issueId;
+        private String issueKey;
+        private Boolean success;
+        private String error;
+    }
+}
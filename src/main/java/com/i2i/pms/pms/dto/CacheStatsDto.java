@@ -0,0 +1,22 @@
+package com.i2i.pms.pms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsDto {
+
+    private String name;
+    private long size;
+    private long maxSize;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+    private double hitRate;
+    private long loads;
+    private double averageLoadMillis;
+}
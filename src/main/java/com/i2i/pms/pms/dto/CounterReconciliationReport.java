@@ -0,0 +1,32 @@
+package com.i2i.pms.pms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CounterReconciliationReport {
+
+    private LocalDateTime reconciledAt;
+    private Integer countersChecked;
+    private Integer driftCount;
+    private List<CounterDrift> drifts = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CounterDrift {
+        private String scope;
+        private Long projectId;
+        private String dimension;
+        private String dimensionValue;
+        private Long expected;
+        private Long actual;
+    }
+}
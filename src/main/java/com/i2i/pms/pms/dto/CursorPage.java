@@ -0,0 +1,18 @@
+package com.i2i.pms.pms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private List<T> items;
+    // Opaque cursor for the next page; null on the last page
+    private String nextCursor;
+    private int size;
+}
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -46,6 +47,13 @@ public class DashboardDto {
     private Long dueThisWeekIssues;
     private Long dueNextWeekIssues;
     
+    // Period statistics, read from the daily rollups
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private Long createdIssues;
+    private Long resolvedIssues;
+    private Double loggedHours;
+    
     // Project lead specific statistics
     private Long projectsAsLead;
     private Long issuesInLeadProjects;
@@ -0,0 +1,36 @@
+package com.i2i.pms.pms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueImportDto {
+
+    private Long id;
+    private String format;
+    private String status;
+    private Long recordsProcessed;
+    private Long issuesCreated;
+    private Long recordsFailed;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    // Rejected records of this run only, up to a configured limit
+    private List<RecordError> errors = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RecordError {
+        private Long record; // 1-based position among the file's records
+        private String issueKey;
+        private String message;
+    }
+}
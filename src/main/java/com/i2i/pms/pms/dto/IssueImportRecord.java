@@ -0,0 +1,34 @@
+package com.i2i.pms.pms.dto;
+
+import com.i2i.pms.pms.entity.Issue;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// One issue of an import file; users and projects are referenced by username and project key
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueImportRecord {
+
+    private String issueKey; // allocated from the project's counter when absent
+    private String projectKey;
+    private String summary;
+    private String description;
+    private Issue.IssueType issueType;
+    private Issue.Priority priority;
+    private Issue.Status status;
+    private Issue.Resolution resolution;
+    private String reporter; // defaults to the importing user
+    private String assignee;
+    private Integer estimatedTime; // in minutes
+    private Integer actualTime; // in minutes
+    private LocalDateTime dueDate;
+    private List<String> tags = new ArrayList<>();
+    private LocalDateTime createdAt;
+    private LocalDateTime resolvedAt;
+}
@@ -0,0 +1,25 @@
+package com.i2i.pms.pms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MyDashboardDto {
+    
+    private Long userId;
+    
+    // One dashboard per perspective; null when that section missed the deadline
+    private DashboardDto asManager;
+    private DashboardDto asMember;
+    private DashboardDto assignedIssues;
+    private DashboardDto reportedIssues;
+    
+    // True when at least one section timed out; missingSections names them
+    private boolean partial;
+    private List<String> missingSections;
+}
@@ -18,6 +18,7 @@ public class NotificationDto {
     private String message;
     private String type; // TASK_ASSIGNED, TASK_UPDATED, etc.
     private Boolean isRead;
+    private Integer occurrences; // notifications collapsed into this one
     private LocalDateTime createdAt;
     private Long relatedTaskId;
     private Long relatedProjectId;
@@ -40,6 +40,7 @@ public class ProjectDto {
     private String status; // PLANNING, IN_PROGRESS, ON_HOLD, COMPLETED, CANCELLED
     private Set<UserDto> members = new HashSet<>();
     private Set<MilestoneDto> milestones = new HashSet<>();
+    private Integer memberCount;
     private Integer issueCount;
     private Integer completedIssueCount;
     private LocalDateTime createdAt;
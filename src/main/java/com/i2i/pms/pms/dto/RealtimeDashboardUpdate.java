@@ -0,0 +1,21 @@
+package com.i2i.pms.pms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RealtimeDashboardUpdate {
+    
+    // Increases with every computed snapshot; deltas carry the sequence of the snapshot they lead to
+    private Long sequence;
+    private LocalDateTime windowStart;
+    private LocalDateTime windowEnd;
+    // All counters in a snapshot, only the changed ones in a delta
+    private Map<String, Long> counters;
+}
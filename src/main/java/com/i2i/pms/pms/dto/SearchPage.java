@@ -0,0 +1,19 @@
+package com.i2i.pms.pms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchPage<T> {
+
+    private List<T> items;
+    // Zero-based page number
+    private int page;
+    private int size;
+    private boolean hasNext;
+}
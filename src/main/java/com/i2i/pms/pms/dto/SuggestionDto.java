@@ -0,0 +1,18 @@
+package com.i2i.pms.pms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestionDto {
+
+    // ISSUE or PROJECT
+    private String type;
+    private Long id;
+    private String key;
+    private String label;
+    private Long projectId;
+}
@@ -0,0 +1,123 @@
+package com.i2i.pms.pms.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Materialized dashboard counter, maintained incrementally by issue writes.
+ * Global counters use {@link #GLOBAL_PROJECT_ID} so that the natural key stays unique.
+ */
+@Entity
+@Table(name = "dashboard_counters",
+        uniqueConstraints = @UniqueConstraint(name = "uk_dashboard_counters_key",
+                columnNames = {"scope", "project_id", "dimension", "dimension_value"}))
+public class DashboardCounter {
+
+    public static final Long GLOBAL_PROJECT_ID = 0L;
+    public static final String ALL = "ALL";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "scope", nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private Scope scope;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "dimension", nullable = false, length = 30)
+    @Enumerated(EnumType.STRING)
+    private Dimension dimension;
+
+    @Column(name = "dimension_value", nullable = false, length = 50)
+    private String dimensionValue;
+
+    @Column(name = "counter_value", nullable = false)
+    private Long counterValue = 0L;
+
+    // Enums
+    public enum Scope {
+        GLOBAL, PROJECT
+    }
+
+    public enum Dimension {
+        TOTAL, STATUS, PRIORITY, TYPE, ESTIMATED_TIME, ACTUAL_TIME
+    }
+
+    // Constructors
+    public DashboardCounter() {}
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Scope getScope() {
+        return scope;
+    }
+
+    public void setScope(Scope scope) {
+        this.scope = scope;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public Dimension getDimension() {
+        return dimension;
+    }
+
+    public void setDimension(Dimension dimension) {
+        this.dimension = dimension;
+    }
+
+    public String getDimensionValue() {
+        return dimensionValue;
+    }
+
+    public void setDimensionValue(String dimensionValue) {
+        this.dimensionValue = dimensionValue;
+    }
+
+    public Long getCounterValue() {
+        return counterValue;
+    }
+
+    public void setCounterValue(Long counterValue) {
+        this.counterValue = counterValue;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DashboardCounter that = (DashboardCounter) o;
+        return id != null && id.equals(that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "DashboardCounter{" +
+                "scope=" + scope +
+                ", projectId=" + projectId +
+                ", dimension=" + dimension +
+                ", dimensionValue='" + dimensionValue + '\'' +
+                ", counterValue=" + counterValue +
+                '}';
+    }
+}
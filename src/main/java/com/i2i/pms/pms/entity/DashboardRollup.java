@@ -0,0 +1,88 @@
+package com.i2i.pms.pms.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+
+/**
+ * One day of issue and work log activity for a project, status and assignee.
+ * Rows are rebuilt a whole day at a time by the rollup job.
+ */
+@Entity
+@Table(name = "dashboard_daily_rollups",
+    uniqueConstraints = @UniqueConstraint(name = "uk_dashboard_daily_rollups",
+        columnNames = {"bucket_date", "project_id", "status", "assignee_id"}),
+    indexes = @Index(name = "idx_dashboard_daily_rollups_project_date", columnList = "project_id, bucket_date"))
+public class DashboardRollup {
+
+    // Stands in for "no assignee" so the unique key has no NULLs
+    public static final long UNASSIGNED = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "bucket_date", nullable = false)
+    private LocalDate bucketDate;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "status", nullable = false)
+    private String status;
+
+    @Column(name = "assignee_id", nullable = false)
+    private Long assigneeId;
+
+    // Issues created on the day, by their current status and assignee
+    @Column(name = "created_count", nullable = false)
+    private Long createdCount = 0L;
+
+    @Column(name = "resolved_count", nullable = false)
+    private Long resolvedCount = 0L;
+
+    // Issues due on the day that were not resolved by their due date
+    @Column(name = "overdue_count", nullable = false)
+    private Long overdueCount = 0L;
+
+    @Column(name = "logged_minutes", nullable = false)
+    private Long loggedMinutes = 0L;
+
+    public DashboardRollup() {}
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDate getBucketDate() {
+        return bucketDate;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    public Long getCreatedCount() {
+        return createdCount;
+    }
+
+    public Long getResolvedCount() {
+        return resolvedCount;
+    }
+
+    public Long getOverdueCount() {
+        return overdueCount;
+    }
+
+    public Long getLoggedMinutes() {
+        return loggedMinutes;
+    }
+}
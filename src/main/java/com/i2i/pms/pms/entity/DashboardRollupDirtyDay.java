@@ -0,0 +1,24 @@
+package com.i2i.pms.pms.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+
+/**
+ * A day whose rollup rows are stale. Written in the same transaction as the change that
+ * caused it and consumed by the rollup job.
+ */
+@Entity
+@Table(name = "dashboard_rollup_dirty_days")
+public class DashboardRollupDirtyDay {
+
+    @Id
+    @Column(name = "bucket_date")
+    private LocalDate bucketDate;
+
+    public DashboardRollupDirtyDay() {}
+
+    public LocalDate getBucketDate() {
+        return bucketDate;
+    }
+}
@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
 public class FileAttachment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "file_attachments_seq")
+    @SequenceGenerator(name = "file_attachments_seq", sequenceName = "file_attachments_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Filename is required")
@@ -6,15 +6,26 @@ import jakarta.validation.constraints.Size;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "issues")
+@Table(name = "issues", indexes = {
+    @Index(name = "idx_issues_due_date", columnList = "due_date"),
+    @Index(name = "idx_issues_created_at", columnList = "created_at"),
+    @Index(name = "idx_issues_resolved_at", columnList = "resolved_at"),
+    @Index(name = "idx_issues_updated_at", columnList = "updated_at, id"),
+    @Index(name = "idx_issues_project_updated_at", columnList = "project_id, updated_at"),
+    @Index(name = "idx_issues_assignee_updated_at", columnList = "assignee_id, updated_at"),
+    @Index(name = "idx_issues_reporter_updated_at", columnList = "reporter_id, updated_at")
+})
 public class Issue {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "issues_seq")
+    @SequenceGenerator(name = "issues_seq", sequenceName = "issues_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Issue key is required")
@@ -53,6 +64,10 @@ public class Issue {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // When the issue last moved to DONE; cleared when it is reopened
+    @Column(name = "resolved_at")
+    private LocalDateTime resolvedAt;
+
     @Column(name = "due_date")
     private LocalDateTime dueDate;
 
@@ -68,6 +83,11 @@ public class Issue {
     @Column(name = "tag")
     private Set<String> tags = new HashSet<>();
 
+    // Tag text the search vector is generated from (see IssueSearchSchemaInitializer). Set on create;
+    // changing only the tag collection leaves the issue row clean, so that code calls refreshSearchTags
+    @Column(name = "search_tags", columnDefinition = "TEXT")
+    private String searchTags;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id", nullable = false)
     private Project project;
@@ -94,6 +114,21 @@ public class Issue {
     @OneToMany(mappedBy = "issue", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private Set<IssueHistory> history = new HashSet<>();
 
+    // Maintained by atomic UPDATEs on comment and watcher writes, never by entity flushes
+    @Column(name = "comment_count", insertable = false, updatable = false, columnDefinition = "integer not null default 0")
+    private Integer commentCount = 0;
+
+    @Column(name = "watcher_count", insertable = false, updatable = false, columnDefinition = "integer not null default 0")
+    private Integer watcherCount = 0;
+
+    // Counter state last applied to the dashboard counters
+    @Transient
+    private IssueCounterState countedState;
+
+    // State last reflected in the daily dashboard rollups
+    @Transient
+    private IssueRollupState rolledUpState;
+
     // Enums
     public enum IssueType {
         BUG, TASK, STORY, EPIC, SUBTASK, IMPROVEMENT, NEW_FEATURE
@@ -174,6 +209,11 @@ public class Issue {
     }
 
     public void setStatus(Status status) {
+        if (status == Status.DONE && this.status != Status.DONE) {
+            resolvedAt = LocalDateTime.now();
+        } else if (status != Status.DONE) {
+            resolvedAt = null;
+        }
         this.status = status;
     }
 
@@ -201,6 +241,14 @@ public class Issue {
         this.updatedAt = updatedAt;
     }
 
+    public LocalDateTime getResolvedAt() {
+        return resolvedAt;
+    }
+
+    public void setResolvedAt(LocalDateTime resolvedAt) {
+        this.resolvedAt = resolvedAt;
+    }
+
     public LocalDateTime getDueDate() {
         return dueDate;
     }
@@ -277,6 +325,41 @@ public class Issue {
         this.tags = tags;
     }
 
+    public String getSearchTags() {
+        return searchTags;
+    }
+
+    // pendingTags: tags that will be added to the collection before the row is written
+    public void refreshSearchTags(Collection<String> pendingTags) {
+        Set<String> allTags = new LinkedHashSet<>(tags);
+        allTags.addAll(pendingTags);
+        searchTags = allTags.isEmpty() ? null : String.join(" ", allTags);
+    }
+
+    public Integer getCommentCount() {
+        return commentCount;
+    }
+
+    public Integer getWatcherCount() {
+        return watcherCount;
+    }
+
+    public IssueCounterState getCountedState() {
+        return countedState;
+    }
+
+    public void setCountedState(IssueCounterState countedState) {
+        this.countedState = countedState;
+    }
+
+    public IssueRollupState getRolledUpState() {
+        return rolledUpState;
+    }
+
+    public void setRolledUpState(IssueRollupState rolledUpState) {
+        this.rolledUpState = rolledUpState;
+    }
+
     // Helper methods
     public void addWatcher(User user) {
         this.watchers.add(user);
@@ -311,8 +394,15 @@ public class Issue {
     // JPA Lifecycle methods
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
+        // Imported issues keep the creation time they had in the tracker they came from
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
         updatedAt = LocalDateTime.now();
+        if (status == Status.DONE && resolvedAt == null) {
+            resolvedAt = createdAt;
+        }
+        refreshSearchTags(Set.of());
     }
 
     @PreUpdate
@@ -320,6 +410,12 @@ public class Issue {
         updatedAt = LocalDateTime.now();
     }
 
+    @PostLoad
+    protected void onLoad() {
+        countedState = IssueCounterState.of(this);
+        rolledUpState = IssueRollupState.of(this);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
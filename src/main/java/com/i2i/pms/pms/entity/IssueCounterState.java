@@ -0,0 +1,52 @@
+package com.i2i.pms.pms.entity;
+
+/**
+ * The issue columns that feed the dashboard counters, captured at a point in time
+ * so that a write can be turned into counter deltas.
+ */
+public final class IssueCounterState {
+
+    private final Long projectId;
+    private final Issue.Status status;
+    private final Issue.Priority priority;
+    private final Issue.IssueType issueType;
+    private final Integer estimatedTime;
+    private final Integer actualTime;
+
+    private IssueCounterState(Issue issue) {
+        this.projectId = issue.getProject() != null ? issue.getProject().getId() : null;
+        this.status = issue.getStatus();
+        this.priority = issue.getPriority();
+        this.issueType = issue.getIssueType();
+        this.estimatedTime = issue.getEstimatedTime();
+        this.actualTime = issue.getActualTime();
+    }
+
+    public static IssueCounterState of(Issue issue) {
+        return new IssueCounterState(issue);
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public Issue.Status getStatus() {
+        return status;
+    }
+
+    public Issue.Priority getPriority() {
+        return priority;
+    }
+
+    public Issue.IssueType getIssueType() {
+        return issueType;
+    }
+
+    public Integer getEstimatedTime() {
+        return estimatedTime;
+    }
+
+    public Integer getActualTime() {
+        return actualTime;
+    }
+}
@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 public class IssueHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "issue_history_seq")
+    @SequenceGenerator(name = "issue_history_seq", sequenceName = "issue_history_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Field name is required")
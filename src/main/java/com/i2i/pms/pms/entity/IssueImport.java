@@ -0,0 +1,152 @@
+package com.i2i.pms.pms.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of a bulk issue import. The checkpoint advances in the same transaction as each chunk
+ * of created issues, so an interrupted import resumes after the last committed chunk.
+ */
+@Entity
+@Table(name = "issue_imports")
+public class IssueImport {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "format", nullable = false)
+    private String format;
+
+    @Column(name = "status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private ImportStatus status = ImportStatus.RUNNING;
+
+    // Input records consumed so far, created or failed; a resumed import skips this many
+    @Column(name = "records_processed", nullable = false)
+    private Long recordsProcessed = 0L;
+
+    @Column(name = "issues_created", nullable = false)
+    private Long issuesCreated = 0L;
+
+    @Column(name = "records_failed", nullable = false)
+    private Long recordsFailed = 0L;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "created_by_id")
+    private Long createdById;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public enum ImportStatus {
+        RUNNING, INTERRUPTED, COMPLETED
+    }
+
+    // Constructors
+    public IssueImport() {}
+
+    public IssueImport(String format, Long createdById) {
+        this.format = format;
+        this.createdById = createdById;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public void setFormat(String format) {
+        this.format = format;
+    }
+
+    public ImportStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ImportStatus status) {
+        this.status = status;
+    }
+
+    public Long getRecordsProcessed() {
+        return recordsProcessed;
+    }
+
+    public void setRecordsProcessed(Long recordsProcessed) {
+        this.recordsProcessed = recordsProcessed;
+    }
+
+    public Long getIssuesCreated() {
+        return issuesCreated;
+    }
+
+    public void setIssuesCreated(Long issuesCreated) {
+        this.issuesCreated = issuesCreated;
+    }
+
+    public Long getRecordsFailed() {
+        return recordsFailed;
+    }
+
+    public void setRecordsFailed(Long recordsFailed) {
+        this.recordsFailed = recordsFailed;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public Long getCreatedById() {
+        return createdById;
+    }
+
+    public void setCreatedById(Long createdById) {
+        this.createdById = createdById;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    // JPA Lifecycle methods
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
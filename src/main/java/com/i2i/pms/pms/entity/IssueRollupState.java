@@ -0,0 +1,71 @@
+package com.i2i.pms.pms.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The issue columns that feed the daily dashboard rollups, captured at a point in time
+ * so that a write can be turned into the set of days whose buckets must be recomputed.
+ */
+public final class IssueRollupState {
+
+    private final Long projectId;
+    private final Issue.Status status;
+    private final Long assigneeId;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime resolvedAt;
+    private final LocalDateTime dueDate;
+
+    private IssueRollupState(Issue issue) {
+        this.projectId = issue.getProject() != null ? issue.getProject().getId() : null;
+        this.status = issue.getStatus();
+        this.assigneeId = issue.getAssignee() != null ? issue.getAssignee().getId() : null;
+        this.createdAt = issue.getCreatedAt();
+        this.resolvedAt = issue.getResolvedAt();
+        this.dueDate = issue.getDueDate();
+    }
+
+    public static IssueRollupState of(Issue issue) {
+        return new IssueRollupState(issue);
+    }
+
+    /**
+     * Days whose created, resolved or overdue buckets include this issue.
+     */
+    public Set<LocalDate> getBucketDays() {
+        Set<LocalDate> days = new HashSet<>();
+        for (LocalDateTime timestamp : new LocalDateTime[] {createdAt, resolvedAt, dueDate}) {
+            if (timestamp != null) {
+                days.add(timestamp.toLocalDate());
+            }
+        }
+        return days;
+    }
+
+    /**
+     * Whether both states fall into the same project, status and assignee bucket.
+     */
+    public boolean hasSameDimensions(IssueRollupState other) {
+        return Objects.equals(projectId, other.projectId)
+                && status == other.status
+                && Objects.equals(assigneeId, other.assigneeId);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IssueRollupState other)) return false;
+        return hasSameDimensions(other)
+                && Objects.equals(createdAt, other.createdAt)
+                && Objects.equals(resolvedAt, other.resolvedAt)
+                && Objects.equals(dueDate, other.dueDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(projectId, status, assigneeId, createdAt, resolvedAt, dueDate);
+    }
+}
@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 public class Milestone {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "milestones_seq")
+    @SequenceGenerator(name = "milestones_seq", sequenceName = "milestones_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Milestone name is required")
@@ -2,15 +2,21 @@ package com.i2i.pms.pms.entity;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+    @Index(name = "idx_notifications_user_created_at", columnList = "user_id, created_at, id"),
+    @Index(name = "idx_notifications_user_read_created_at", columnList = "user_id, is_read, created_at, id")
+})
 public class Notification {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notifications_seq")
+    @SequenceGenerator(name = "notifications_seq", sequenceName = "notifications_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Title is required")
@@ -28,19 +34,27 @@ public class Notification {
     @Column(name = "is_read")
     private Boolean isRead = false;
 
+    // How many notifications the row stands for; bursts on one target are collapsed into it (see NotificationDigestService)
+    @Column(name = "occurrences", columnDefinition = "integer default 1")
+    private Integer occurrences = 1;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    // Notifications go with the user, issue or project they point at (see NotificationSchemaInitializer)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private User user;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "related_task_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private Issue relatedTask;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "related_project_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private Project relatedProject;
 
     // Enum for notification types
@@ -101,6 +115,14 @@ public class Notification {
         this.isRead = isRead;
     }
 
+    public Integer getOccurrences() {
+        return occurrences;
+    }
+
+    public void setOccurrences(Integer occurrences) {
+        this.occurrences = occurrences;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -10,7 +10,10 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "projects")
+@Table(name = "projects", indexes = {
+    @Index(name = "idx_projects_updated_at", columnList = "updated_at"),
+    @Index(name = "idx_projects_lead_updated_at", columnList = "lead_user_id, updated_at")
+})
 public class Project {
 
     @Id
@@ -61,6 +64,10 @@ public class Project {
     @Enumerated(EnumType.STRING)
     private ProjectStatus status = ProjectStatus.PLANNING;
 
+    // Next issue number for this project's keys; only ever advanced by ProjectRepository.allocateIssueNumbers
+    @Column(name = "next_issue_number", updatable = false)
+    private Long nextIssueNumber = 1L;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "lead_user_id")
     private User projectLead;
@@ -222,6 +229,14 @@ public class Project {
         this.status = status;
     }
 
+    public Long getNextIssueNumber() {
+        return nextIssueNumber;
+    }
+
+    public void setNextIssueNumber(Long nextIssueNumber) {
+        this.nextIssueNumber = nextIssueNumber;
+    }
+
     public Set<Issue> getIssues() {
         return issues;
     }
@@ -226,6 +226,10 @@ public class User {
 
     // Generate avatar from user's name initials
     public String generateAvatar() {
+        return generateAvatar(name);
+    }
+
+    public static String generateAvatar(String name) {
         if (name == null || name.trim().isEmpty()) {
             return "UN"; // Default for Unknown
         }
@@ -9,13 +9,17 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "work_logs")
+@Table(name = "work_logs", indexes = {
+    @Index(name = "idx_work_logs_date", columnList = "date"),
+    @Index(name = "idx_work_logs_created_at", columnList = "created_at")
+})
 @Getter
 @Setter
 public class WorkLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "work_logs_seq")
+    @SequenceGenerator(name = "work_logs_seq", sequenceName = "work_logs_seq", allocationSize = 50)
     private Long id;
 
     @NotNull(message = "Time spent is required")
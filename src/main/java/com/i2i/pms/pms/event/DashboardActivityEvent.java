@@ -0,0 +1,47 @@
+package com.i2i.pms.pms.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * A change to one of the real-time dashboard counters. Published by the services inside the
+ * writing transaction and applied once it commits. A negative delta takes back an earlier
+ * contribution, for example when an issue is reopened or deleted, and is applied at the time
+ * of the original contribution.
+ */
+public class DashboardActivityEvent {
+
+    public enum Metric {
+        ISSUES_CREATED, ISSUES_RESOLVED, COMMENTS_ADDED, MINUTES_LOGGED
+    }
+
+    private final Metric metric;
+    private final LocalDateTime occurredAt;
+    private final long delta;
+
+    public DashboardActivityEvent(Metric metric, LocalDateTime occurredAt, long delta) {
+        this.metric = metric;
+        this.occurredAt = occurredAt;
+        this.delta = delta;
+    }
+
+    public Metric getMetric() {
+        return metric;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public long getDelta() {
+        return delta;
+    }
+
+    @Override
+    public String toString() {
+        return "DashboardActivityEvent{" +
+                "metric=" + metric +
+                ", occurredAt=" + occurredAt +
+                ", delta=" + delta +
+                '}';
+    }
+}
@@ -0,0 +1,86 @@
+package com.i2i.pms.pms.event;
+
+import com.i2i.pms.pms.entity.Notification.NotificationType;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A write users should hear about. Published by the services inside the writing transaction and
+ * turned into notifications after it commits, off the request thread. Recipients are resolved when
+ * the event is processed: the issues' assignee, reporter and watchers, or the one user named by
+ * assignment events. The actor, when known, is never notified of their own change.
+ */
+public class NotificationEvent {
+
+    private final NotificationType type;
+    private final List<Long> issueIds;
+    private final Long projectId;
+    private final Long assigneeId;
+    private final Long actorId;
+
+    private NotificationEvent(NotificationType type, Collection<Long> issueIds, Long projectId, Long assigneeId, Long actorId) {
+        this.type = type;
+        this.issueIds = List.copyOf(issueIds);
+        this.projectId = projectId;
+        this.assigneeId = assigneeId;
+        this.actorId = actorId;
+    }
+
+    /**
+     * Only the new assignee hears about it.
+     */
+    public static NotificationEvent taskAssigned(Long issueId, Long assigneeId, Long actorId) {
+        return new NotificationEvent(NotificationType.TASK_ASSIGNED, List.of(issueId), null, assigneeId, actorId);
+    }
+
+    /**
+     * Everyone involved in the issues hears about the change; a newly assigned user gets an
+     * assignment notification instead.
+     *
+     * @param type TASK_UPDATED or TASK_COMPLETED
+     * @param assigneeId the user the issues were just assigned to, or null
+     */
+    public static NotificationEvent taskChanged(NotificationType type, Collection<Long> issueIds, Long assigneeId, Long actorId) {
+        return new NotificationEvent(type, issueIds, null, assigneeId, actorId);
+    }
+
+    public static NotificationEvent commentAdded(Long issueId, Long authorId) {
+        return new NotificationEvent(NotificationType.COMMENT_ADDED, List.of(issueId), null, null, authorId);
+    }
+
+    public static NotificationEvent projectAssigned(Long projectId, Long userId) {
+        return new NotificationEvent(NotificationType.PROJECT_ASSIGNED, List.of(), projectId, userId, null);
+    }
+
+    public NotificationType getType() {
+        return type;
+    }
+
+    public List<Long> getIssueIds() {
+        return issueIds;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    public Long getActorId() {
+        return actorId;
+    }
+
+    @Override
+    public String toString() {
+        return "NotificationEvent{" +
+                "type=" + type +
+                ", issueIds=" + issueIds +
+                ", projectId=" + projectId +
+                ", assigneeId=" + assigneeId +
+                ", actorId=" + actorId +
+                '}';
+    }
+}
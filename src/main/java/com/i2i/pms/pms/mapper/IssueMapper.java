@@ -3,11 +3,14 @@ package com.i2i.pms.pms.mapper;
 import com.i2i.pms.pms.dto.CreateIssueRequest;
 import com.i2i.pms.pms.dto.IssueDto;
 import com.i2i.pms.pms.dto.UpdateIssueRequest;
+import com.i2i.pms.pms.dto.UserDto;
 import com.i2i.pms.pms.entity.Issue;
+import com.i2i.pms.pms.repository.IssueView;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Component
@@ -65,6 +68,48 @@ public class IssueMapper {
         return dto;
     }
 
+    // Projection variant: users and tags are resolved by the caller in batches
+    public IssueDto toDto(IssueView issue, Set<String> tags, UserDto assignee, UserDto reporter) {
+        if (issue == null) {
+            return null;
+        }
+
+        IssueDto dto = new IssueDto();
+        dto.setId(issue.id());
+        dto.setTaskKey(issue.issueKey());
+        dto.setTitle(issue.summary());
+        dto.setDescription(issue.description());
+        dto.setIssueType(issue.issueType());
+        dto.setPriority(issue.priority());
+        dto.setStatus(issue.status());
+        dto.setResolution(issue.resolution());
+        dto.setCreatedAt(issue.createdAt());
+        dto.setUpdatedAt(issue.updatedAt());
+        
+        // Convert LocalDateTime to LocalDate for dueDate
+        if (issue.dueDate() != null) {
+            dto.setDueDate(issue.dueDate().toLocalDate());
+        }
+        
+        // Convert minutes to hours
+        if (issue.estimatedTime() != null) {
+            dto.setEstimatedHours(Math.round(issue.estimatedTime() / 60.0f));
+        }
+        if (issue.actualTime() != null) {
+            dto.setActualHours(Math.round(issue.actualTime() / 60.0f));
+        }
+        
+        dto.setProjectId(issue.projectId());
+        dto.setAssignee(assignee);
+        dto.setReporter(reporter);
+
+        if (tags != null) {
+            dto.setTags(tags);
+        }
+        
+        return dto;
+    }
+
     public List<IssueDto> toDtoList(List<Issue> issues) {
         if (issues == null) {
             return null;
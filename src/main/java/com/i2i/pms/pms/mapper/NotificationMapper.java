@@ -20,6 +20,7 @@ public class NotificationMapper {
         dto.setTitle(notification.getTitle());
         dto.setMessage(notification.getMessage());
         dto.setIsRead(notification.getIsRead());
+        dto.setOccurrences(notification.getOccurrences() != null ? notification.getOccurrences() : 1);
         dto.setCreatedAt(notification.getCreatedAt());
 
         if (notification.getUser() != null) {
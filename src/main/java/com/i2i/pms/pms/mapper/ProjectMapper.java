@@ -3,10 +3,12 @@ package com.i2i.pms.pms.mapper;
 import com.i2i.pms.pms.dto.CreateProjectRequest;
 import com.i2i.pms.pms.dto.ProjectDto;
 import com.i2i.pms.pms.entity.Project;
+import com.i2i.pms.pms.repository.ProjectCounts;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Component
@@ -15,7 +17,11 @@ public class ProjectMapper {
     @Autowired
     private UserMapper userMapper;
 
-    public ProjectDto toDto(Project project) {
+    /**
+     * Map a project using counts fetched up front (see ProjectService#getProjectCounts). Members are
+     * only loaded and mapped when includeMembers is set.
+     */
+    public ProjectDto toDto(Project project, ProjectCounts counts, boolean includeMembers) {
         if (project == null) {
             return null;
         }
@@ -40,19 +46,18 @@ public class ProjectMapper {
             dto.setProjectLead(userMapper.toDto(project.getProjectLead()));
         }
         
-        // Map members (optional - you can include this too if needed)
-        if (project.getMembers() != null && !project.getMembers().isEmpty()) {
+        // Map members only on request; the count is always available
+        if (includeMembers && project.getMembers() != null && !project.getMembers().isEmpty()) {
             dto.setMembers(project.getMembers().stream()
                     .map(userMapper::toDto)
                     .collect(Collectors.toSet()));
         }
         
-        // Calculate issue counts if needed
-        if (project.getIssues() != null) {
-            dto.setIssueCount(project.getIssues().size());
-            dto.setCompletedIssueCount((int) project.getIssues().stream()
-                    .filter(issue -> "DONE".equals(issue.getStatus().toString()))
-                    .count());
+        // Issue counts are precomputed, so the issue collection is never loaded
+        if (counts != null) {
+            dto.setMemberCount((int) counts.getMemberCount());
+            dto.setIssueCount((int) counts.getIssueCount());
+            dto.setCompletedIssueCount((int) counts.getCompletedIssueCount());
         }
         
         return dto;
@@ -99,12 +104,12 @@ public class ProjectMapper {
         // Note: Other fields are ignored as per original mapping
     }
 
-    public List<ProjectDto> toDtoList(List<Project> projects) {
+    public List<ProjectDto> toDtoList(List<Project> projects, Map<Long, ProjectCounts> counts, boolean includeMembers) {
         if (projects == null) {
             return null;
         }
         return projects.stream()
-                .map(this::toDto)
+                .map(project -> toDto(project, counts.get(project.getId()), includeMembers))
                 .collect(Collectors.toList());
     }
 } 
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.i2i.pms.pms.dto.CreateUserRequest;
 import com.i2i.pms.pms.dto.UpdateUserRequest;
 import com.i2i.pms.pms.dto.UserDto;
 import com.i2i.pms.pms.entity.User;
+import com.i2i.pms.pms.repository.UserView;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -32,6 +33,24 @@ public class UserMapper {
         return dto;
     }
 
+    public UserDto toDto(UserView user, String primaryRoleName) {
+        if (user == null) {
+            return null;
+        }
+
+        UserDto dto = new UserDto();
+        dto.setId(user.id());
+        dto.setName(user.name());
+        dto.setUsername(user.username());
+        dto.setEmail(user.email());
+        dto.setCreatedAt(user.createdAt());
+        dto.setUpdatedAt(user.updatedAt());
+        dto.setIsActive(user.isActive());
+        dto.setRole(primaryRoleName != null ? primaryRoleName : "USER");
+        dto.setAvatar(User.generateAvatar(user.name()));
+        return dto;
+    }
+
     public User toEntity(CreateUserRequest request) {
         if (request == null) {
             return null;
@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -29,6 +31,12 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT COUNT(c) FROM Comment c WHERE c.author.id = :authorId")
     Long countByAuthorId(@Param("authorId") Long authorId);
     
+    // The comment and all of its replies, which are deleted along with it
+    @Query(value = "WITH RECURSIVE thread AS (SELECT id, created_at FROM comments WHERE id = :commentId " +
+            "UNION ALL SELECT c.id, c.created_at FROM comments c JOIN thread t ON c.parent_comment_id = t.id) " +
+            "SELECT created_at FROM thread", nativeQuery = true)
+    List<Timestamp> findThreadCreatedAt(@Param("commentId") Long commentId);
+    
     @Query("SELECT COUNT(c) FROM Comment c WHERE c.parentComment.id = :parentCommentId")
     Long countByParentCommentId(@Param("parentCommentId") Long parentCommentId);
     
@@ -37,4 +45,7 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     
     @Query("SELECT c FROM Comment c WHERE c.author.id = :authorId ORDER BY c.createdAt DESC")
     List<Comment> findRecentCommentsByAuthor(@Param("authorId") Long authorId);
+
+    @Query("SELECT c.createdAt FROM Comment c WHERE c.createdAt >= :since")
+    List<LocalDateTime> findCreatedAtSince(@Param("since") LocalDateTime since);
 } 
\ No newline at end of file
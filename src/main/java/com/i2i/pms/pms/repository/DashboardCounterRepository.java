@@ -0,0 +1,55 @@
+package com.i2i.pms.pms.repository;
+
+import com.i2i.pms.pms.entity.DashboardCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DashboardCounterRepository extends JpaRepository<DashboardCounter, Long> {
+
+    List<DashboardCounter> findByScopeAndProjectId(DashboardCounter.Scope scope, Long projectId);
+
+    // Issue totals and DONE counts of many projects, read from the counters instead of the issues table
+    @Query("SELECT c FROM DashboardCounter c WHERE c.scope = com.i2i.pms.pms.entity.DashboardCounter.Scope.PROJECT " +
+            "AND c.projectId IN :projectIds " +
+            "AND (c.dimension = com.i2i.pms.pms.entity.DashboardCounter.Dimension.TOTAL " +
+            "OR (c.dimension = com.i2i.pms.pms.entity.DashboardCounter.Dimension.STATUS AND c.dimensionValue = 'DONE'))")
+    List<DashboardCounter> findIssueCountsByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+
+    // Atomic increment; creates the counter on first use
+    @Modifying
+    @Query(value = "INSERT INTO dashboard_counters (scope, project_id, dimension, dimension_value, counter_value) " +
+            "VALUES (:scope, :projectId, :dimension, :dimensionValue, :delta) " +
+            "ON CONFLICT (scope, project_id, dimension, dimension_value) " +
+            "DO UPDATE SET counter_value = dashboard_counters.counter_value + EXCLUDED.counter_value",
+            nativeQuery = true)
+    int increment(@Param("scope") String scope,
+                  @Param("projectId") Long projectId,
+                  @Param("dimension") String dimension,
+                  @Param("dimensionValue") String dimensionValue,
+                  @Param("delta") Long delta);
+
+    // Subtract a project's counters from the global ones before the project goes away
+    @Modifying
+    @Query(value = "UPDATE dashboard_counters g SET counter_value = g.counter_value - p.counter_value " +
+            "FROM dashboard_counters p " +
+            "WHERE g.scope = 'GLOBAL' AND p.scope = 'PROJECT' AND p.project_id = :projectId " +
+            "AND g.dimension = p.dimension AND g.dimension_value = p.dimension_value",
+            nativeQuery = true)
+    int subtractProjectFromGlobal(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query("DELETE FROM DashboardCounter c WHERE c.scope = com.i2i.pms.pms.entity.DashboardCounter.Scope.PROJECT AND c.projectId = :projectId")
+    int deleteProjectCounters(@Param("projectId") Long projectId);
+
+    // Blocks concurrent counter updates so a rebuild sees issues and counters consistently
+    @Modifying
+    @Query(value = "LOCK TABLE dashboard_counters IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockForReconciliation();
+}
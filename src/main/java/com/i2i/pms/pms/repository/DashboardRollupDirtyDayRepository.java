@@ -0,0 +1,11 @@
+package com.i2i.pms.pms.repository;
+
+import com.i2i.pms.pms.entity.DashboardRollupDirtyDay;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+@Repository
+public interface DashboardRollupDirtyDayRepository extends JpaRepository<DashboardRollupDirtyDay, LocalDate> {
+}
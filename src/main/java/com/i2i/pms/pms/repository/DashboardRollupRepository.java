@@ -0,0 +1,113 @@
+package com.i2i.pms.pms.repository;
+
+import com.i2i.pms.pms.entity.DashboardRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DashboardRollupRepository extends JpaRepository<DashboardRollup, Long>, DashboardRollupRepositoryCustom {
+
+    // Queue a day for recomputation. Conflicts update rather than skip so the queued row stays locked
+    // until this transaction commits, and the job cannot recompute the day without seeing the write
+    @Modifying
+    @Query(value = "INSERT INTO dashboard_rollup_dirty_days (bucket_date) VALUES (:day) " +
+            "ON CONFLICT (bucket_date) DO UPDATE SET bucket_date = EXCLUDED.bucket_date",
+            nativeQuery = true)
+    int markDirty(@Param("day") LocalDate day);
+
+    // Work logs are bucketed by their issue's project, status and assignee, so those days move with the issue
+    @Modifying
+    @Query(value = "INSERT INTO dashboard_rollup_dirty_days (bucket_date) " +
+            "SELECT DISTINCT CAST(w.date AS DATE) FROM work_logs w WHERE w.issue_id = :issueId AND w.date IS NOT NULL " +
+            "ON CONFLICT (bucket_date) DO UPDATE SET bucket_date = EXCLUDED.bucket_date",
+            nativeQuery = true)
+    int markWorkLogDaysDirty(@Param("issueId") Long issueId);
+
+    @Modifying
+    @Query(value = "INSERT INTO dashboard_rollup_dirty_days (bucket_date) " +
+            "SELECT DISTINCT CAST(w.date AS DATE) FROM work_logs w WHERE w.issue_id IN (:issueIds) AND w.date IS NOT NULL " +
+            "ON CONFLICT (bucket_date) DO UPDATE SET bucket_date = EXCLUDED.bucket_date",
+            nativeQuery = true)
+    int markWorkLogDaysDirtyForIssues(@Param("issueIds") Collection<Long> issueIds);
+
+    // The project's own activity days are queued too: a day the job has claimed but not yet written
+    // has no rollup rows, and the upsert waits for that claim before queueing the day again
+    @Modifying
+    @Query(value = "INSERT INTO dashboard_rollup_dirty_days (bucket_date) " +
+            "SELECT bucket_date FROM dashboard_daily_rollups WHERE project_id = :projectId " +
+            "UNION SELECT CAST(i.created_at AS DATE) FROM issues i WHERE i.project_id = :projectId AND i.created_at IS NOT NULL " +
+            "UNION SELECT CAST(i.resolved_at AS DATE) FROM issues i WHERE i.project_id = :projectId AND i.resolved_at IS NOT NULL " +
+            "UNION SELECT CAST(i.due_date AS DATE) FROM issues i WHERE i.project_id = :projectId AND i.due_date IS NOT NULL " +
+            "UNION SELECT CAST(w.date AS DATE) FROM work_logs w JOIN issues i ON i.id = w.issue_id " +
+            "WHERE i.project_id = :projectId AND w.date IS NOT NULL " +
+            "ON CONFLICT (bucket_date) DO UPDATE SET bucket_date = EXCLUDED.bucket_date",
+            nativeQuery = true)
+    int markProjectDaysDirty(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query(value = "INSERT INTO dashboard_rollup_dirty_days (bucket_date) " +
+            "SELECT DISTINCT CAST(i.created_at AS DATE) FROM issues i WHERE i.created_at IS NOT NULL " +
+            "UNION SELECT DISTINCT CAST(i.resolved_at AS DATE) FROM issues i WHERE i.resolved_at IS NOT NULL " +
+            "UNION SELECT DISTINCT CAST(i.due_date AS DATE) FROM issues i WHERE i.due_date IS NOT NULL " +
+            "UNION SELECT DISTINCT CAST(w.date AS DATE) FROM work_logs w WHERE w.date IS NOT NULL " +
+            "ON CONFLICT (bucket_date) DO UPDATE SET bucket_date = EXCLUDED.bucket_date",
+            nativeQuery = true)
+    int markAllActivityDaysDirty();
+
+    // Issues that were closed before resolved_at existed count as resolved at their last update
+    @Modifying
+    @Query(value = "UPDATE issues SET resolved_at = updated_at WHERE status = 'DONE' AND resolved_at IS NULL",
+            nativeQuery = true)
+    int backfillResolvedAt();
+
+    @Modifying
+    @Query("DELETE FROM DashboardRollup r WHERE r.bucketDate = :day")
+    int deleteDay(@Param("day") LocalDate day);
+
+    // One pass over the day's range-indexed activity: created, resolved, overdue (due that day and not
+    // resolved by the due date) and logged minutes, grouped into the issue's current buckets
+    @Modifying
+    @Query(value = "INSERT INTO dashboard_daily_rollups " +
+            "(bucket_date, project_id, status, assignee_id, created_count, resolved_count, overdue_count, logged_minutes) " +
+            "SELECT :day, project_id, status, assignee_id, SUM(created), SUM(resolved), SUM(overdue), SUM(minutes) FROM (" +
+            "SELECT i.project_id, i.status, COALESCE(i.assignee_id, 0) AS assignee_id, " +
+            "1 AS created, 0 AS resolved, 0 AS overdue, 0 AS minutes " +
+            "FROM issues i WHERE i.created_at >= :dayStart AND i.created_at < :dayEnd " +
+            "UNION ALL SELECT i.project_id, i.status, COALESCE(i.assignee_id, 0), 0, 1, 0, 0 " +
+            "FROM issues i WHERE i.resolved_at >= :dayStart AND i.resolved_at < :dayEnd " +
+            "UNION ALL SELECT i.project_id, i.status, COALESCE(i.assignee_id, 0), 0, 0, 1, 0 " +
+            "FROM issues i WHERE i.due_date >= :dayStart AND i.due_date < :dayEnd " +
+            "AND (i.resolved_at IS NULL OR i.resolved_at > i.due_date) " +
+            "UNION ALL SELECT i.project_id, i.status, COALESCE(i.assignee_id, 0), 0, 0, 0, w.time_spent " +
+            "FROM work_logs w JOIN issues i ON i.id = w.issue_id WHERE w.date >= :dayStart AND w.date < :dayEnd" +
+            ") activity GROUP BY project_id, status, assignee_id",
+            nativeQuery = true)
+    int insertDay(@Param("day") LocalDate day,
+                  @Param("dayStart") LocalDateTime dayStart,
+                  @Param("dayEnd") LocalDateTime dayEnd);
+
+    // Overdue buckets count only once their due day has passed
+    @Query("SELECT COALESCE(SUM(r.createdCount), 0), COALESCE(SUM(r.resolvedCount), 0), " +
+            "COALESCE(SUM(CASE WHEN r.bucketDate < :today THEN r.overdueCount ELSE 0 END), 0), " +
+            "COALESCE(SUM(r.loggedMinutes), 0) " +
+            "FROM DashboardRollup r WHERE r.bucketDate BETWEEN :startDate AND :endDate")
+    List<Object[]> sumPeriod(@Param("startDate") LocalDate startDate,
+                             @Param("endDate") LocalDate endDate,
+                             @Param("today") LocalDate today);
+
+    @Query("SELECT r.status, SUM(r.createdCount) FROM DashboardRollup r " +
+            "WHERE r.bucketDate BETWEEN :startDate AND :endDate AND r.createdCount > 0 GROUP BY r.status")
+    List<Object[]> sumCreatedByStatus(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT r.assigneeId, SUM(r.createdCount) FROM DashboardRollup r " +
+            "WHERE r.bucketDate BETWEEN :startDate AND :endDate AND r.createdCount > 0 GROUP BY r.assigneeId")
+    List<Object[]> sumCreatedByAssignee(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,12 @@
+package com.i2i.pms.pms.repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface DashboardRollupRepositoryCustom {
+
+    /**
+     * Remove and return the earliest dirty day that no other transaction is working on.
+     */
+    Optional<LocalDate> claimDirtyDay();
+}
@@ -0,0 +1,25 @@
+package com.i2i.pms.pms.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public class DashboardRollupRepositoryImpl implements DashboardRollupRepositoryCustom {
+
+    // SKIP LOCKED lets several job instances drain the queue without recomputing the same day twice
+    private static final String CLAIM_DIRTY_DAY = "DELETE FROM dashboard_rollup_dirty_days WHERE bucket_date = ("
+            + "SELECT bucket_date FROM dashboard_rollup_dirty_days ORDER BY bucket_date LIMIT 1 FOR UPDATE SKIP LOCKED) "
+            + "RETURNING bucket_date";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<LocalDate> claimDirtyDay() {
+        List<?> days = entityManager.createNativeQuery(CLAIM_DIRTY_DAY, LocalDate.class).getResultList();
+        return days.stream().findFirst().map(LocalDate.class::cast);
+    }
+}
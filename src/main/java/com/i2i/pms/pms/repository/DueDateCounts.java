@@ -0,0 +1,14 @@
+package com.i2i.pms.pms.repository;
+
+/**
+ * Projection for the due-date buckets, which depend on the current time and
+ * therefore cannot be kept in the materialized dashboard counters.
+ */
+public interface DueDateCounts {
+
+    Long getOverdue();
+
+    Long getDueThisWeek();
+
+    Long getDueNextWeek();
+}
@@ -0,0 +1,115 @@
+package com.i2i.pms.pms.repository;
+
+import com.i2i.pms.pms.entity.Issue;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Alternative to the PostgreSQL text search schema: loads the candidate issues and scores them in
+ * memory with the same weights as ts_rank. The rest of the application still needs PostgreSQL; this
+ * only avoids the search column and index, e.g. where they cannot be installed. Every search scans
+ * the filtered issues, so this is meant for tests and small installations only.
+ */
+@Repository
+@ConditionalOnProperty(name = "issues.search.engine", havingValue = "memory")
+public class InMemoryIssueSearchIndex implements IssueSearchIndex {
+
+    // ts_rank's default weights for the A, B and C classes
+    private static final double SUMMARY_WEIGHT = 1.0;
+    private static final double TAG_WEIGHT = 0.4;
+    private static final double DESCRIPTION_WEIGHT = 0.2;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Long> searchIssueIds(List<String> terms, Long projectId, Issue.Status status, int offset, int limit) {
+        Map<Long, String[]> documents = new HashMap<>();
+        for (Object[] row : createQuery("SELECT i.id, i.issueKey, i.summary, i.description FROM Issue i",
+                projectId, status).getResultList()) {
+            documents.put((Long) row[0], new String[] {row[1] + " " + row[2], (String) row[3], ""});
+        }
+        for (Object[] row : createQuery("SELECT i.id, t FROM Issue i JOIN i.tags t", projectId, status).getResultList()) {
+            String[] document = documents.get((Long) row[0]);
+            document[2] = document[2] + " " + row[1];
+        }
+
+        List<Map.Entry<Long, Double>> hits = new ArrayList<>();
+        for (Map.Entry<Long, String[]> document : documents.entrySet()) {
+            double score = score(terms, document.getValue());
+            if (score > 0) {
+                hits.add(Map.entry(document.getKey(), score));
+            }
+        }
+        hits.sort(Comparator.comparing((Map.Entry<Long, Double> hit) -> hit.getValue())
+                .thenComparing(Map.Entry::getKey).reversed());
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = offset; i < hits.size() && ids.size() < limit; i++) {
+            ids.add(hits.get(i).getKey());
+        }
+        return ids;
+    }
+
+    // Helper methods
+    private TypedQuery<Object[]> createQuery(String select, Long projectId, Issue.Status status) {
+        StringBuilder jpql = new StringBuilder(select).append(" WHERE 1 = 1");
+        if (projectId != null) {
+            jpql.append(" AND i.project.id = :projectId");
+        }
+        if (status != null) {
+            jpql.append(" AND i.status = :status");
+        }
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql.toString(), Object[].class);
+        if (projectId != null) {
+            query.setParameter("projectId", projectId);
+        }
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        return query;
+    }
+
+    // Zero unless every term prefixes a word of the document
+    private double score(List<String> terms, String[] document) {
+        String[] summaryWords = words(document[0]);
+        String[] descriptionWords = words(document[1]);
+        String[] tagWords = words(document[2]);
+
+        double score = 0;
+        for (String term : terms) {
+            double termScore = SUMMARY_WEIGHT * countPrefixed(summaryWords, term)
+                    + TAG_WEIGHT * countPrefixed(tagWords, term)
+                    + DESCRIPTION_WEIGHT * countPrefixed(descriptionWords, term);
+            if (termScore == 0) {
+                return 0;
+            }
+            score += termScore;
+        }
+        return score;
+    }
+
+    private String[] words(String text) {
+        return text != null ? text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+") : new String[0];
+    }
+
+    private int countPrefixed(String[] words, String term) {
+        int count = 0;
+        for (String word : words) {
+            if (word.startsWith(term)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
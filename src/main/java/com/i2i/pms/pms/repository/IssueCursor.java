@@ -0,0 +1,54 @@
+package com.i2i.pms.pms.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last issue on a page in the (updatedAt DESC, id DESC) ordering.
+ * Clients only ever see the opaque encoded form.
+ */
+public final class IssueCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime updatedAt;
+    private final Long id;
+
+    public IssueCursor(LocalDateTime updatedAt, Long id) {
+        this.updatedAt = updatedAt;
+        this.id = id;
+    }
+
+    public static IssueCursor of(IssueView issue) {
+        return new IssueCursor(issue.updatedAt(), issue.id());
+    }
+
+    public static IssueCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new IssueCursor(LocalDateTime.parse(value.substring(0, separator)),
+                    Long.valueOf(value.substring(separator + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid cursor", ex);
+        }
+    }
+
+    public String encode() {
+        String value = updatedAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
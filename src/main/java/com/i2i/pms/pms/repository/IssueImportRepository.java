@@ -0,0 +1,17 @@
+package com.i2i.pms.pms.repository;
+
+import com.i2i.pms.pms.entity.IssueImport;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface IssueImportRepository extends JpaRepository<IssueImport, Long> {
+
+    // Held until the chunk commits, so two runs of the same import cannot both advance the checkpoint
+    @Query(value = "SELECT * FROM issue_imports WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<IssueImport> lockById(@Param("id") Long id);
+}
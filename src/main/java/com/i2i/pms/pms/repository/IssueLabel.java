@@ -0,0 +1,13 @@
+package com.i2i.pms.pms.repository;
+
+// The few issue columns shown in type-ahead suggestions
+public interface IssueLabel {
+
+    Long getId();
+
+    String getIssueKey();
+
+    String getSummary();
+
+    Long getProjectId();
+}
@@ -0,0 +1,21 @@
+package com.i2i.pms.pms.repository;
+
+/**
+ * Which issues a keyset page is drawn from, and the association the owner id refers to.
+ */
+public enum IssueListScope {
+    ALL(null),
+    PROJECT("project"),
+    ASSIGNEE("assignee"),
+    REPORTER("reporter");
+
+    private final String ownerPath;
+
+    IssueListScope(String ownerPath) {
+        this.ownerPath = ownerPath;
+    }
+
+    public String getOwnerPath() {
+        return ownerPath;
+    }
+}
@@ -1,17 +1,24 @@
 package com.i2i.pms.pms.repository;
 
 import com.i2i.pms.pms.entity.Issue;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface IssueRepository extends JpaRepository<Issue, Long> {
+public interface IssueRepository extends JpaRepository<Issue, Long>, IssueRepositoryCustom {
 
     Optional<Issue> findByIssueKey(String issueKey);
     
@@ -96,15 +103,49 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
     @Query("SELECT i FROM Issue i ORDER BY i.updatedAt DESC")
     List<Issue> findRecentIssues();
     
+    // The Pageable overloads are Top-N variants: the limit is applied by the database
+    @Query("SELECT i FROM Issue i ORDER BY i.updatedAt DESC")
+    List<Issue> findRecentIssues(Pageable pageable);
+    
     @Query("SELECT i FROM Issue i WHERE i.assignee.id = :assigneeId ORDER BY i.updatedAt DESC")
     List<Issue> findRecentIssuesByAssignee(@Param("assigneeId") Long assigneeId);
     
+    @Query("SELECT i FROM Issue i WHERE i.assignee.id = :assigneeId ORDER BY i.updatedAt DESC")
+    List<Issue> findRecentIssuesByAssignee(@Param("assigneeId") Long assigneeId, Pageable pageable);
+    
     @Query("SELECT i FROM Issue i WHERE i.reporter.id = :reporterId ORDER BY i.updatedAt DESC")
     List<Issue> findRecentIssuesByReporter(@Param("reporterId") Long reporterId);
     
+    @Query("SELECT i FROM Issue i WHERE i.reporter.id = :reporterId ORDER BY i.updatedAt DESC")
+    List<Issue> findRecentIssuesByReporter(@Param("reporterId") Long reporterId, Pageable pageable);
+    
     @Query("SELECT i FROM Issue i WHERE i.project.id = :projectId ORDER BY i.updatedAt DESC")
     List<Issue> findRecentIssuesByProject(@Param("projectId") Long projectId);
     
+    @Query("SELECT i FROM Issue i WHERE i.project.id = :projectId ORDER BY i.updatedAt DESC")
+    List<Issue> findRecentIssuesByProject(@Param("projectId") Long projectId, Pageable pageable);
+    
+    @Query("SELECT SUM(CASE WHEN i.dueDate < :now AND i.status != 'DONE' THEN 1 ELSE 0 END) AS overdue, " +
+           "SUM(CASE WHEN i.dueDate BETWEEN :weekStart AND :weekEnd THEN 1 ELSE 0 END) AS dueThisWeek, " +
+           "SUM(CASE WHEN i.dueDate BETWEEN :nextWeekStart AND :nextWeekEnd THEN 1 ELSE 0 END) AS dueNextWeek " +
+           "FROM Issue i WHERE i.dueDate <= :nextWeekEnd")
+    DueDateCounts countDueDates(@Param("now") LocalDateTime now,
+                                @Param("weekStart") LocalDateTime weekStart, @Param("weekEnd") LocalDateTime weekEnd,
+                                @Param("nextWeekStart") LocalDateTime nextWeekStart, @Param("nextWeekEnd") LocalDateTime nextWeekEnd);
+    
+    @Query("SELECT SUM(CASE WHEN i.dueDate < :now AND i.status != 'DONE' THEN 1 ELSE 0 END) AS overdue, " +
+           "SUM(CASE WHEN i.dueDate BETWEEN :weekStart AND :weekEnd THEN 1 ELSE 0 END) AS dueThisWeek, " +
+           "SUM(CASE WHEN i.dueDate BETWEEN :nextWeekStart AND :nextWeekEnd THEN 1 ELSE 0 END) AS dueNextWeek " +
+           "FROM Issue i WHERE i.project.id = :projectId AND i.dueDate <= :nextWeekEnd")
+    DueDateCounts countDueDatesByProject(@Param("projectId") Long projectId, @Param("now") LocalDateTime now,
+                                         @Param("weekStart") LocalDateTime weekStart, @Param("weekEnd") LocalDateTime weekEnd,
+                                         @Param("nextWeekStart") LocalDateTime nextWeekStart, @Param("nextWeekEnd") LocalDateTime nextWeekEnd);
+    
+    // Source data for rebuilding the dashboard counters: one row per distinct counted combination
+    @Query("SELECT i.project.id, i.status, i.priority, i.issueType, COUNT(i), SUM(i.estimatedTime), SUM(i.actualTime) " +
+           "FROM Issue i GROUP BY i.project.id, i.status, i.priority, i.issueType")
+    List<Object[]> countIssuesForDashboardCounters();
+    
     @Query("SELECT AVG(TIMESTAMPDIFF(HOUR, i.createdAt, i.updatedAt)) FROM Issue i WHERE i.status = 'DONE' AND i.updatedAt IS NOT NULL AND i.createdAt IS NOT NULL")
     Double getAverageResolutionTime();
     
@@ -132,4 +173,82 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
     
     @Query("SELECT i FROM Issue i WHERE i.project.projectLead.id = :leadUserId ORDER BY i.updatedAt DESC")
     List<Issue> findIssuesInLeadProjects(@Param("leadUserId") Long leadUserId);
+    
+    @Query("SELECT i FROM Issue i WHERE i.project.projectLead.id = :leadUserId ORDER BY i.updatedAt DESC")
+    List<Issue> findIssuesInLeadProjects(@Param("leadUserId") Long leadUserId, Pageable pageable);
+    
+    // Export queries: projections read through a server-side cursor instead of materializing the result list
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.i2i.pms.pms.repository.IssueView(" +
+           "i.id, i.issueKey, i.summary, i.description, i.issueType, i.priority, i.status, i.resolution, " +
+           "i.dueDate, i.estimatedTime, i.actualTime, i.createdAt, i.updatedAt, " +
+           "i.project.id, i.reporter.id, i.assignee.id) " +
+           "FROM Issue i ORDER BY i.id")
+    Stream<IssueView> streamViewsForExport();
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.i2i.pms.pms.repository.IssueView(" +
+           "i.id, i.issueKey, i.summary, i.description, i.issueType, i.priority, i.status, i.resolution, " +
+           "i.dueDate, i.estimatedTime, i.actualTime, i.createdAt, i.updatedAt, " +
+           "i.project.id, i.reporter.id, i.assignee.id) " +
+           "FROM Issue i WHERE i.project.id = :projectId ORDER BY i.id")
+    Stream<IssueView> streamViewsByProjectForExport(@Param("projectId") Long projectId);
+    
+    @Query("SELECT i.id AS issueId, t AS tag FROM Issue i JOIN i.tags t WHERE i.id IN :issueIds")
+    List<IssueTag> findTagsByIssueIdIn(@Param("issueIds") Collection<Long> issueIds);
+
+    @Query("SELECT i.issueKey FROM Issue i WHERE i.issueKey IN :issueKeys")
+    List<String> findExistingIssueKeys(@Param("issueKeys") Collection<String> issueKeys);
+
+    // Bulk updates: everything the write hooks read comes back in one statement
+    @Query("SELECT i FROM Issue i LEFT JOIN FETCH i.project p LEFT JOIN FETCH p.projectLead LEFT JOIN FETCH i.assignee " +
+            "WHERE i.id IN :issueIds ORDER BY i.id")
+    List<Issue> findAllForBulkUpdate(@Param("issueIds") Collection<Long> issueIds);
+
+    @Query("SELECT DISTINCT i FROM Issue i LEFT JOIN FETCH i.tags WHERE i.id IN :issueIds")
+    List<Issue> fetchTags(@Param("issueIds") Collection<Long> issueIds);
+
+    // (issue id, watcher id) pairs for a batch of issues, without loading the users
+    @Query("SELECT i.id, w.id FROM Issue i JOIN i.watchers w WHERE i.id IN :issueIds")
+    List<Object[]> findWatcherIdsByIssueIds(@Param("issueIds") Collection<Long> issueIds);
+
+    @Query("SELECT i.id AS id, i.issueKey AS issueKey, i.summary AS summary, i.project.id AS projectId FROM Issue i")
+    List<IssueLabel> findAllLabels();
+
+    @Query("SELECT i.id AS issueId, t AS tag FROM Issue i JOIN i.tags t")
+    List<IssueTag> findAllTags();
+
+    // Timestamps for seeding the real-time dashboard window; both columns are indexed
+    @Query("SELECT i.createdAt FROM Issue i WHERE i.createdAt >= :since")
+    List<LocalDateTime> findCreatedAtSince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT i.resolvedAt FROM Issue i WHERE i.resolvedAt >= :since")
+    List<LocalDateTime> findResolvedAtSince(@Param("since") LocalDateTime since);
+
+    // Denormalized comment and watcher counts; the row lock serializes concurrent adjustments
+    @Modifying
+    @Query(value = "UPDATE issues SET comment_count = comment_count + :delta WHERE id = :issueId", nativeQuery = true)
+    int adjustCommentCount(@Param("issueId") Long issueId, @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = "UPDATE issues SET watcher_count = watcher_count + :delta WHERE id = :issueId", nativeQuery = true)
+    int adjustWatcherCount(@Param("issueId") Long issueId, @Param("delta") int delta);
+
+    @Query(value = "SELECT i.id FROM issues i " +
+            "LEFT JOIN (SELECT issue_id, COUNT(*) AS n FROM comments GROUP BY issue_id) c ON c.issue_id = i.id " +
+            "LEFT JOIN (SELECT issue_id, COUNT(*) AS n FROM issue_watchers GROUP BY issue_id) w ON w.issue_id = i.id " +
+            "WHERE i.comment_count <> COALESCE(c.n, 0) OR i.watcher_count <> COALESCE(w.n, 0)",
+            nativeQuery = true)
+    List<Long> findIdsWithDriftedCounts();
+
+    @Query(value = "SELECT id FROM issues WHERE id IN (:issueIds) ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<Long> lockByIds(@Param("issueIds") Collection<Long> issueIds);
+
+    @Modifying
+    @Query(value = "UPDATE issues i SET " +
+            "comment_count = (SELECT COUNT(*) FROM comments c WHERE c.issue_id = i.id), " +
+            "watcher_count = (SELECT COUNT(*) FROM issue_watchers w WHERE w.issue_id = i.id) " +
+            "WHERE i.id IN (:issueIds)",
+            nativeQuery = true)
+    int recountCommentsAndWatchers(@Param("issueIds") Collection<Long> issueIds);
 } 
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.i2i.pms.pms.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface IssueRepositoryCustom {
+
+    /**
+     * Compute all dashboard issue counters in one conditional-aggregation query.
+     *
+     * @param projectId restrict the scan to one project, or null for all issues
+     * @param now reference time for the overdue and due-this/next-week buckets
+     */
+    IssueStatistics aggregateIssueStatistics(Long projectId, LocalDateTime now);
+
+    /**
+     * Keyset page of issue projections ordered by updatedAt DESC, id DESC.
+     *
+     * @param scope which association ownerId filters on
+     * @param ownerId id of the project, assignee or reporter; ignored for {@link IssueListScope#ALL}
+     * @param after position of the last issue already returned, or null for the first page
+     * @param limit maximum number of issues to return
+     */
+    List<IssueView> findIssueViewPage(IssueListScope scope, Long ownerId, IssueCursor after, int limit);
+
+    /**
+     * All issue projections in the scope, in the same order as {@link #findIssueViewPage}.
+     */
+    List<IssueView> findIssueViews(IssueListScope scope, Long ownerId);
+
+    /**
+     * Issue projections for the given ids, in no particular order.
+     */
+    List<IssueView> findIssueViewsByIdIn(Collection<Long> ids);
+}
@@ -0,0 +1,140 @@
+package com.i2i.pms.pms.repository;
+
+import com.i2i.pms.pms.entity.Issue;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public class IssueRepositoryImpl implements IssueRepositoryCustom {
+
+    // Association ids are read from the foreign key columns, so no joins are needed
+    private static final String ISSUE_VIEW_SELECT = "SELECT new com.i2i.pms.pms.repository.IssueView("
+            + "i.id, i.issueKey, i.summary, i.description, i.issueType, i.priority, i.status, i.resolution, "
+            + "i.dueDate, i.estimatedTime, i.actualTime, i.createdAt, i.updatedAt, "
+            + "i.project.id, i.reporter.id, i.assignee.id) FROM Issue i";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public IssueStatistics aggregateIssueStatistics(Long projectId, LocalDateTime now) {
+        StringBuilder jpql = new StringBuilder("SELECT COUNT(i) AS total");
+        for (Issue.Status status : Issue.Status.values()) {
+            appendCount(jpql, "i.status = :status_" + status.name(), "status_" + status.name());
+        }
+        for (Issue.Priority priority : Issue.Priority.values()) {
+            appendCount(jpql, "i.priority = :priority_" + priority.name(), "priority_" + priority.name());
+        }
+        for (Issue.IssueType issueType : Issue.IssueType.values()) {
+            appendCount(jpql, "i.issueType = :type_" + issueType.name(), "type_" + issueType.name());
+        }
+        appendCount(jpql, "i.dueDate < :now AND i.status <> :done", "overdue");
+        appendCount(jpql, "i.dueDate BETWEEN :weekStart AND :weekEnd", "dueThisWeek");
+        appendCount(jpql, "i.dueDate BETWEEN :nextWeekStart AND :nextWeekEnd", "dueNextWeek");
+        jpql.append(", AVG(CASE WHEN i.status = :done AND i.createdAt IS NOT NULL AND i.updatedAt IS NOT NULL")
+                .append(" THEN TIMESTAMPDIFF(HOUR, i.createdAt, i.updatedAt) ELSE NULL END) AS avgResolution");
+        jpql.append(", SUM(i.estimatedTime) AS estimated");
+        jpql.append(", SUM(i.actualTime) AS actual");
+        jpql.append(" FROM Issue i");
+        if (projectId != null) {
+            jpql.append(" WHERE i.project.id = :projectId");
+        }
+
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql.toString(), Tuple.class);
+        for (Issue.Status status : Issue.Status.values()) {
+            query.setParameter("status_" + status.name(), status);
+        }
+        for (Issue.Priority priority : Issue.Priority.values()) {
+            query.setParameter("priority_" + priority.name(), priority);
+        }
+        for (Issue.IssueType issueType : Issue.IssueType.values()) {
+            query.setParameter("type_" + issueType.name(), issueType);
+        }
+        LocalDateTime weekStart = now.toLocalDate().atStartOfDay();
+        query.setParameter("now", now);
+        query.setParameter("done", Issue.Status.DONE);
+        query.setParameter("weekStart", weekStart);
+        query.setParameter("weekEnd", weekStart.plusWeeks(1));
+        query.setParameter("nextWeekStart", weekStart.plusWeeks(1));
+        query.setParameter("nextWeekEnd", weekStart.plusWeeks(2));
+        if (projectId != null) {
+            query.setParameter("projectId", projectId);
+        }
+
+        Tuple row = query.getSingleResult();
+
+        IssueStatistics statistics = new IssueStatistics();
+        statistics.setTotalIssues(toLong(row.get("total")));
+        for (Issue.Status status : Issue.Status.values()) {
+            statistics.getByStatus().put(status, toLong(row.get("status_" + status.name())));
+        }
+        for (Issue.Priority priority : Issue.Priority.values()) {
+            statistics.getByPriority().put(priority, toLong(row.get("priority_" + priority.name())));
+        }
+        for (Issue.IssueType issueType : Issue.IssueType.values()) {
+            statistics.getByType().put(issueType, toLong(row.get("type_" + issueType.name())));
+        }
+        statistics.setOverdueIssues(toLong(row.get("overdue")));
+        statistics.setDueThisWeekIssues(toLong(row.get("dueThisWeek")));
+        statistics.setDueNextWeekIssues(toLong(row.get("dueNextWeek")));
+        Object avgResolution = row.get("avgResolution");
+        statistics.setAverageResolutionTime(avgResolution != null ? ((Number) avgResolution).doubleValue() : null);
+        Object estimated = row.get("estimated");
+        statistics.setEstimatedTime(estimated != null ? ((Number) estimated).longValue() : null);
+        Object actual = row.get("actual");
+        statistics.setActualTime(actual != null ? ((Number) actual).longValue() : null);
+        return statistics;
+    }
+
+    @Override
+    public List<IssueView> findIssueViewPage(IssueListScope scope, Long ownerId, IssueCursor after, int limit) {
+        return createIssueViewQuery(scope, ownerId, after).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<IssueView> findIssueViews(IssueListScope scope, Long ownerId) {
+        return createIssueViewQuery(scope, ownerId, null).getResultList();
+    }
+
+    @Override
+    public List<IssueView> findIssueViewsByIdIn(Collection<Long> ids) {
+        return entityManager.createQuery(ISSUE_VIEW_SELECT + " WHERE i.id IN :ids", IssueView.class)
+                .setParameter("ids", ids)
+                .getResultList();
+    }
+
+    private TypedQuery<IssueView> createIssueViewQuery(IssueListScope scope, Long ownerId, IssueCursor after) {
+        StringBuilder jpql = new StringBuilder(ISSUE_VIEW_SELECT).append(" WHERE 1 = 1");
+        if (scope.getOwnerPath() != null) {
+            jpql.append(" AND i.").append(scope.getOwnerPath()).append(".id = :ownerId");
+        }
+        if (after != null) {
+            jpql.append(" AND (i.updatedAt, i.id) < (:afterUpdatedAt, :afterId)");
+        }
+        jpql.append(" ORDER BY i.updatedAt DESC, i.id DESC");
+
+        TypedQuery<IssueView> query = entityManager.createQuery(jpql.toString(), IssueView.class);
+        if (scope.getOwnerPath() != null) {
+            query.setParameter("ownerId", ownerId);
+        }
+        if (after != null) {
+            query.setParameter("afterUpdatedAt", after.getUpdatedAt());
+            query.setParameter("afterId", after.getId());
+        }
+        return query;
+    }
+
+    private void appendCount(StringBuilder jpql, String condition, String alias) {
+        jpql.append(", SUM(CASE WHEN ").append(condition).append(" THEN 1 ELSE 0 END) AS ").append(alias);
+    }
+
+    // SUM over an empty table yields NULL rather than 0
+    private long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+}
@@ -0,0 +1,22 @@
+package com.i2i.pms.pms.repository;
+
+import com.i2i.pms.pms.entity.Issue;
+
+import java.util.List;
+
+/**
+ * Full-text lookup over issue key, summary, tags and description. Every term must match as a word
+ * prefix; results are ordered by relevance, summary and key matches weighing most, then tags, then
+ * description.
+ */
+public interface IssueSearchIndex {
+
+    /**
+     * Ids of the matching issues, best match first.
+     *
+     * @param terms lower-case words made of letters and digits only
+     * @param projectId restrict to one project, or null
+     * @param status restrict to one status, or null
+     */
+    List<Long> searchIssueIds(List<String> terms, Long projectId, Issue.Status status, int offset, int limit);
+}
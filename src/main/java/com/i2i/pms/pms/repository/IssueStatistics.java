@@ -0,0 +1,108 @@
+package com.i2i.pms.pms.repository;
+
+import com.i2i.pms.pms.entity.Issue;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Issue counters computed by a single aggregate scan over the issues table.
+ * Per-enum counts are kept for every constant, including those with no issues.
+ */
+public class IssueStatistics {
+
+    private long totalIssues;
+    private final Map<Issue.Status, Long> byStatus = new EnumMap<>(Issue.Status.class);
+    private final Map<Issue.Priority, Long> byPriority = new EnumMap<>(Issue.Priority.class);
+    private final Map<Issue.IssueType, Long> byType = new EnumMap<>(Issue.IssueType.class);
+    private long overdueIssues;
+    private long dueThisWeekIssues;
+    private long dueNextWeekIssues;
+    private Double averageResolutionTime; // in hours
+    private Long estimatedTime; // in minutes, null when no issue has an estimate
+    private Long actualTime; // in minutes, null when no issue has logged time
+
+    public long getTotalIssues() {
+        return totalIssues;
+    }
+
+    public void setTotalIssues(long totalIssues) {
+        this.totalIssues = totalIssues;
+    }
+
+    public long countByStatus(Issue.Status status) {
+        return byStatus.getOrDefault(status, 0L);
+    }
+
+    public long countByPriority(Issue.Priority priority) {
+        return byPriority.getOrDefault(priority, 0L);
+    }
+
+    public long countByType(Issue.IssueType issueType) {
+        return byType.getOrDefault(issueType, 0L);
+    }
+
+    public Map<Issue.Status, Long> getByStatus() {
+        return byStatus;
+    }
+
+    public Map<Issue.Priority, Long> getByPriority() {
+        return byPriority;
+    }
+
+    public Map<Issue.IssueType, Long> getByType() {
+        return byType;
+    }
+
+    public long getCompletedIssues() {
+        return countByStatus(Issue.Status.DONE);
+    }
+
+    public long getOverdueIssues() {
+        return overdueIssues;
+    }
+
+    public void setOverdueIssues(long overdueIssues) {
+        this.overdueIssues = overdueIssues;
+    }
+
+    public long getDueThisWeekIssues() {
+        return dueThisWeekIssues;
+    }
+
+    public void setDueThisWeekIssues(long dueThisWeekIssues) {
+        this.dueThisWeekIssues = dueThisWeekIssues;
+    }
+
+    public long getDueNextWeekIssues() {
+        return dueNextWeekIssues;
+    }
+
+    public void setDueNextWeekIssues(long dueNextWeekIssues) {
+        this.dueNextWeekIssues = dueNextWeekIssues;
+    }
+
+    public Double getAverageResolutionTime() {
+        return averageResolutionTime;
+    }
+
+    public void setAverageResolutionTime(Double averageResolutionTime) {
+        this.averageResolutionTime = averageResolutionTime;
+    }
+
+    public Long getEstimatedTime() {
+        return estimatedTime;
+    }
+
+    public void setEstimatedTime(Long estimatedTime) {
+        this.estimatedTime = estimatedTime;
+    }
+
+    public Long getActualTime() {
+        return actualTime;
+    }
+
+    public void setActualTime(Long actualTime) {
+        this.actualTime = actualTime;
+    }
+}
@@ -0,0 +1,8 @@
+package com.i2i.pms.pms.repository;
+
+public interface IssueTag {
+
+    Long getIssueId();
+
+    String getTag();
+}
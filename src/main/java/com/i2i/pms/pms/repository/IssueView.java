@@ -0,0 +1,28 @@
+package com.i2i.pms.pms.repository;
+
+import com.i2i.pms.pms.entity.Issue;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of an issue's own columns. Associations are carried as ids so lists can be
+ * assembled without loading managed entities.
+ */
+public record IssueView(
+        Long id,
+        String issueKey,
+        String summary,
+        String description,
+        Issue.IssueType issueType,
+        Issue.Priority priority,
+        Issue.Status status,
+        Issue.Resolution resolution,
+        LocalDateTime dueDate,
+        Integer estimatedTime,
+        Integer actualTime,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long projectId,
+        Long reporterId,
+        Long assigneeId) {
+}
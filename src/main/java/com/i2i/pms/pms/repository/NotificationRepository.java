@@ -7,10 +7,12 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
+public interface NotificationRepository extends JpaRepository<Notification, Long>, NotificationRepositoryCustom {
 
     List<Notification> findByUserIdOrderByCreatedAtDesc(Long userId);
 
@@ -22,10 +24,26 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Query("SELECT COUNT(n) FROM Notification n WHERE n.user.id = :userId AND n.isRead = false")
     Long countUnreadByUserId(@Param("userId") Long userId);
 
+    // Held until the transaction ends, so concurrent reads or deletes of one notification change the unread count once
+    @Query(value = "SELECT * FROM notifications WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<Notification> lockById(@Param("id") Long id);
+
+    // Returns the rows that became read, which is exactly how far the user's unread count drops
     @Modifying
     @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.id = :userId AND n.isRead = false")
     int markAllAsReadForUser(@Param("userId") Long userId);
 
+    // Folds a digest into its leading row, unless the user has read or deleted it meanwhile
+    @Modifying
+    @Query("UPDATE Notification n SET n.occurrences = COALESCE(n.occurrences, 1) + :count WHERE n.id = :id AND n.isRead = false")
+    int addOccurrencesIfUnread(@Param("id") Long id, @Param("count") int count);
+
+    // One bounded batch of the retention purge; only read rows go, so unread counts are unaffected
+    @Modifying
+    @Query(value = "DELETE FROM notifications WHERE id IN (SELECT id FROM notifications "
+            + "WHERE is_read = true AND created_at < :cutoff LIMIT :limit)", nativeQuery = true)
+    int deleteReadCreatedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
     @Query("SELECT n FROM Notification n WHERE n.relatedTask.id = :taskId ORDER BY n.createdAt DESC")
     List<Notification> findByRelatedTaskId(@Param("taskId") Long taskId);
 
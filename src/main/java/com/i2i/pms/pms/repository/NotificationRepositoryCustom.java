@@ -0,0 +1,20 @@
+package com.i2i.pms.pms.repository;
+
+import com.i2i.pms.pms.entity.Notification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationRepositoryCustom {
+
+    /**
+     * Keyset page of a user's notifications ordered by createdAt DESC, id DESC.
+     *
+     * @param unreadOnly only return notifications not yet read
+     * @param since only return notifications created at or after this time, or null for no bound
+     * @param after position of the last notification already returned, or null for the first page
+     * @param limit maximum number of notifications to return
+     */
+    List<Notification> findNotificationPage(Long userId, boolean unreadOnly, LocalDateTime since,
+                                            NotificationCursor after, int limit);
+}
@@ -0,0 +1,43 @@
+package com.i2i.pms.pms.repository;
+
+import com.i2i.pms.pms.entity.Notification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class NotificationRepositoryImpl implements NotificationRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Notification> findNotificationPage(Long userId, boolean unreadOnly, LocalDateTime since,
+                                                   NotificationCursor after, int limit) {
+        // Served by idx_notifications_user_created_at, or idx_notifications_user_read_created_at for unread only
+        StringBuilder jpql = new StringBuilder("SELECT n FROM Notification n WHERE n.user.id = :userId");
+        if (unreadOnly) {
+            jpql.append(" AND n.isRead = false");
+        }
+        if (since != null) {
+            jpql.append(" AND n.createdAt >= :since");
+        }
+        if (after != null) {
+            jpql.append(" AND (n.createdAt, n.id) < (:afterCreatedAt, :afterId)");
+        }
+        jpql.append(" ORDER BY n.createdAt DESC, n.id DESC");
+
+        TypedQuery<Notification> query = entityManager.createQuery(jpql.toString(), Notification.class)
+                .setParameter("userId", userId);
+        if (since != null) {
+            query.setParameter("since", since);
+        }
+        if (after != null) {
+            query.setParameter("afterCreatedAt", after.getCreatedAt());
+            query.setParameter("afterId", after.getId());
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -0,0 +1,54 @@
+package com.i2i.pms.pms.repository;
+
+import com.i2i.pms.pms.entity.Issue;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Search backed by the issues.search_vector column and its GIN index, installed by
+ * {@link com.i2i.pms.pms.config.IssueSearchSchemaInitializer}.
+ */
+@Repository
+@ConditionalOnProperty(name = "issues.search.engine", havingValue = "postgres", matchIfMissing = true)
+public class PostgresIssueSearchIndex implements IssueSearchIndex {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Long> searchIssueIds(List<String> terms, Long projectId, Issue.Status status, int offset, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT i.id FROM issues i, to_tsquery('english', :query) q")
+                .append(" WHERE i.search_vector @@ q");
+        if (projectId != null) {
+            sql.append(" AND i.project_id = :projectId");
+        }
+        if (status != null) {
+            sql.append(" AND i.status = :status");
+        }
+        sql.append(" ORDER BY ts_rank(i.search_vector, q) DESC, i.id DESC");
+
+        // Terms are plain words, so prefix operators can be appended without escaping
+        Query query = entityManager.createNativeQuery(sql.toString())
+                .setParameter("query", terms.stream().map(term -> term + ":*").collect(Collectors.joining(" & ")));
+        if (projectId != null) {
+            query.setParameter("projectId", projectId);
+        }
+        if (status != null) {
+            query.setParameter("status", status.name());
+        }
+        List<?> rows = query.setFirstResult(offset).setMaxResults(limit).getResultList();
+
+        List<Long> ids = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            ids.add(((Number) row).longValue());
+        }
+        return ids;
+    }
+}
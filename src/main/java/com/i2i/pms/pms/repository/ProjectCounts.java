@@ -0,0 +1,32 @@
+package com.i2i.pms.pms.repository;
+
+/**
+ * Member and issue counts of a project, fetched for a whole page of projects at once so that
+ * mapping a project never loads its member or issue collections.
+ */
+public class ProjectCounts {
+
+    public static final ProjectCounts EMPTY = new ProjectCounts(0L, 0L, 0L);
+
+    private final long memberCount;
+    private final long issueCount;
+    private final long completedIssueCount;
+
+    public ProjectCounts(long memberCount, long issueCount, long completedIssueCount) {
+        this.memberCount = memberCount;
+        this.issueCount = issueCount;
+        this.completedIssueCount = completedIssueCount;
+    }
+
+    public long getMemberCount() {
+        return memberCount;
+    }
+
+    public long getIssueCount() {
+        return issueCount;
+    }
+
+    public long getCompletedIssueCount() {
+        return completedIssueCount;
+    }
+}
@@ -1,11 +1,15 @@
 package com.i2i.pms.pms.repository;
 
 import com.i2i.pms.pms.entity.Project;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -50,6 +54,14 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     @Query("SELECT COUNT(p) FROM Project p JOIN p.members m WHERE m.id = :memberUserId")
     Long countProjectsByMember(@Param("memberUserId") Long memberUserId);
     
+    // One grouped query for a page of projects; projects without members are absent
+    @Query("SELECT p.id, COUNT(m) FROM Project p JOIN p.members m WHERE p.id IN :projectIds GROUP BY p.id")
+    List<Object[]> countMembersByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+    
+    // Project key to id pairs, for resolving many references in one query
+    @Query("SELECT p.projectKey, p.id FROM Project p WHERE p.projectKey IN :projectKeys")
+    List<Object[]> findIdsByProjectKeyIn(@Param("projectKeys") Collection<String> projectKeys);
+    
     @Query("SELECT p.projectType, COUNT(p) FROM Project p GROUP BY p.projectType")
     List<Object[]> countProjectsByType();
     
@@ -59,9 +71,40 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     @Query("SELECT p FROM Project p ORDER BY p.updatedAt DESC")
     List<Project> findRecentProjects();
     
+    // The Pageable overloads are Top-N variants: the limit is applied by the database
+    @Query("SELECT p FROM Project p ORDER BY p.updatedAt DESC")
+    List<Project> findRecentProjects(Pageable pageable);
+    
     @Query("SELECT p FROM Project p WHERE p.projectLead.id = :leadUserId ORDER BY p.updatedAt DESC")
     List<Project> findRecentProjectsByLead(@Param("leadUserId") Long leadUserId);
     
+    @Query("SELECT p FROM Project p WHERE p.projectLead.id = :leadUserId ORDER BY p.updatedAt DESC")
+    List<Project> findRecentProjectsByLead(@Param("leadUserId") Long leadUserId, Pageable pageable);
+    
     @Query("SELECT p FROM Project p JOIN p.members m WHERE m.id = :memberUserId ORDER BY p.updatedAt DESC")
     List<Project> findRecentProjectsByMember(@Param("memberUserId") Long memberUserId);
+    
+    @Query("SELECT p FROM Project p JOIN p.members m WHERE m.id = :memberUserId ORDER BY p.updatedAt DESC")
+    List<Project> findRecentProjectsByMember(@Param("memberUserId") Long memberUserId, Pageable pageable);
+
+    // Reserves count consecutive issue numbers and returns the first one. The UPDATE's row lock
+    // serializes allocations per project until the caller commits; projects created before the
+    // column existed continue after the highest number already used in their keys.
+    @Transactional
+    @Query(value = "UPDATE projects SET next_issue_number = COALESCE(next_issue_number, " +
+            "(SELECT COALESCE(MAX(CAST(SUBSTRING(i.issue_key FROM '-([0-9]+)$') AS BIGINT)), 0) + 1 " +
+            "FROM issues i WHERE i.project_id = :projectId)) + :count " +
+            "WHERE id = :projectId RETURNING next_issue_number - :count",
+            nativeQuery = true)
+    Long allocateIssueNumbers(@Param("projectId") Long projectId, @Param("count") long count);
+
+    // Moves the counter past a number taken by an explicitly keyed issue, e.g. one imported with its old key
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE projects SET next_issue_number = GREATEST(COALESCE(next_issue_number, " +
+            "(SELECT COALESCE(MAX(CAST(SUBSTRING(i.issue_key FROM '-([0-9]+)$') AS BIGINT)), 0) + 1 " +
+            "FROM issues i WHERE i.project_id = :projectId)), :number + 1) " +
+            "WHERE id = :projectId",
+            nativeQuery = true)
+    int reserveIssueNumbersThrough(@Param("projectId") Long projectId, @Param("number") long number);
 } 
\ No newline at end of file
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +23,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     boolean existsByEmail(String email);
     
+    // Username to id pairs, for resolving many references in one query
+    @Query("SELECT u.username, u.id FROM User u WHERE u.username IN :usernames")
+    List<Object[]> findIdsByUsernameIn(@Param("usernames") Collection<String> usernames);
+    
     List<User> findByIsActive(Boolean isActive);
     
     @Query("SELECT u FROM User u JOIN u.roles r WHERE r.name = :roleName")
@@ -32,4 +37,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     @Query("SELECT u FROM User u WHERE u.name LIKE %:name%")
     List<User> findByNameContaining(@Param("name") String name);
+    
+    // Projection queries for assembling issue lists without managed User entities
+    @Query("SELECT new com.i2i.pms.pms.repository.UserView(u.id, u.name, u.username, u.email, u.isActive, u.createdAt, u.updatedAt) " +
+           "FROM User u WHERE u.id IN :ids")
+    List<UserView> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+    
+    @Query("SELECT u.id AS userId, r.name AS roleName FROM User u JOIN u.roles r WHERE u.id IN :ids ORDER BY u.id, r.id")
+    List<UserRoleName> findRoleNamesByUserIdIn(@Param("ids") Collection<Long> ids);
 } 
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.i2i.pms.pms.repository;
+
+public interface UserRoleName {
+
+    Long getUserId();
+
+    String getRoleName();
+}
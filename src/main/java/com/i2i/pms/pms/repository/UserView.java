@@ -0,0 +1,16 @@
+package com.i2i.pms.pms.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of the user columns shown on issue lists.
+ */
+public record UserView(
+        Long id,
+        String name,
+        String username,
+        String email,
+        Boolean isActive,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+}
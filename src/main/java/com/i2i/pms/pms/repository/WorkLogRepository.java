@@ -43,4 +43,7 @@ public interface WorkLogRepository extends JpaRepository<WorkLog, Long> {
     
     @Query("SELECT w.issue.id, SUM(w.timeSpent) FROM WorkLog w WHERE w.issue.project.id = :projectId GROUP BY w.issue.id")
     List<Object[]> getTimeSpentByIssueForProject(@Param("projectId") Long projectId);
+
+    @Query("SELECT w.createdAt, w.timeSpent FROM WorkLog w WHERE w.createdAt >= :since")
+    List<Object[]> findTimeSpentCreatedSince(@Param("since") LocalDateTime since);
 } 
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.i2i.pms.pms.scheduler;
+
+import com.i2i.pms.pms.dto.CounterReconciliationReport;
+import com.i2i.pms.pms.service.DashboardCounterService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically rebuilds the dashboard counters from the issues table. The first run
+ * happens right after startup, which also seeds the counters on a fresh database.
+ */
+@Component
+public class DashboardCounterReconciliationJob {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardCounterReconciliationJob.class);
+
+    @Autowired
+    private DashboardCounterService dashboardCounterService;
+
+    @Scheduled(initialDelayString = "${dashboard.counters.reconcile.initial-delay-ms:0}",
+               fixedDelayString = "${dashboard.counters.reconcile.interval-ms:3600000}")
+    public void reconcile() {
+        try {
+            CounterReconciliationReport report = dashboardCounterService.reconcile();
+            if (report.getDriftCount() > 0) {
+                log.warn("Dashboard counters drifted: corrected {} of {} counters: {}",
+                        report.getDriftCount(), report.getCountersChecked(), report.getDrifts());
+            } else {
+                log.info("Dashboard counters consistent ({} checked)", report.getCountersChecked());
+            }
+        } catch (Exception e) {
+            log.error("Dashboard counter reconciliation failed", e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.i2i.pms.pms.scheduler;
+
+import com.i2i.pms.pms.service.DashboardRollupService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recomputes the daily dashboard rollups for days queued by recent writes. Period dashboards
+ * therefore trail writes by up to one interval.
+ */
+@Component
+public class DashboardRollupJob {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardRollupJob.class);
+
+    @Value("${dashboard.rollups.max-days-per-run:500}")
+    private int maxDaysPerRun;
+
+    @Autowired
+    private DashboardRollupService dashboardRollupService;
+
+    @Scheduled(initialDelayString = "${dashboard.rollups.initial-delay-ms:0}",
+               fixedDelayString = "${dashboard.rollups.interval-ms:60000}")
+    public void refresh() {
+        try {
+            int days = dashboardRollupService.processDirtyDays(maxDaysPerRun);
+            if (days > 0) {
+                log.info("Dashboard rollups recomputed for {} day(s)", days);
+            }
+        } catch (Exception e) {
+            log.error("Dashboard rollup refresh failed", e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.i2i.pms.pms.scheduler;
+
+import com.i2i.pms.pms.service.IssueService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically recounts the denormalized comment and watcher counts of issues that drifted, e.g.
+ * after rows were changed outside the services. The first run right after startup also backfills
+ * the counts of issues that existed before the columns were added.
+ */
+@Component
+public class IssueCountRepairJob {
+
+    private static final Logger log = LoggerFactory.getLogger(IssueCountRepairJob.class);
+
+    @Autowired
+    private IssueService issueService;
+
+    @Scheduled(initialDelayString = "${issues.counts.repair.initial-delay-ms:0}",
+               fixedDelayString = "${issues.counts.repair.interval-ms:3600000}")
+    public void repair() {
+        try {
+            int repaired = issueService.repairCommentAndWatcherCounts();
+            if (repaired > 0) {
+                log.warn("Issue comment/watcher counts drifted: corrected {} issues", repaired);
+            } else {
+                log.info("Issue comment/watcher counts consistent");
+            }
+        } catch (Exception e) {
+            log.error("Issue comment/watcher count repair failed", e);
+        }
+    }
+}
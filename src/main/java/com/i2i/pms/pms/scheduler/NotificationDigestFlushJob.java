@@ -0,0 +1,29 @@
+package com.i2i.pms.pms.scheduler;
+
+import com.i2i.pms.pms.service.NotificationDigestService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes the collapsed notifications of digest windows that have closed.
+ */
+@Component
+public class NotificationDigestFlushJob {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationDigestFlushJob.class);
+
+    @Autowired
+    private NotificationDigestService notificationDigestService;
+
+    @Scheduled(fixedDelayString = "${notifications.digest.flush-interval-ms:5000}")
+    public void flush() {
+        try {
+            notificationDigestService.flushExpired();
+        } catch (Exception e) {
+            log.error("Notification digest flush failed", e);
+        }
+    }
+}
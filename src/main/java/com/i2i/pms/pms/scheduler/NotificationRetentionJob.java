@@ -0,0 +1,55 @@
+package com.i2i.pms.pms.scheduler;
+
+import com.i2i.pms.pms.service.NotificationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Purges read notifications past the retention age so the table stops growing with every user's
+ * history. Each batch is its own short transaction, and a run stops after a bounded number of
+ * batches; a backlog is worked off over the following runs.
+ */
+@Component
+public class NotificationRetentionJob {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationRetentionJob.class);
+
+    @Value("${notifications.retention.read-days:90}")
+    private int readDays;
+
+    @Value("${notifications.retention.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${notifications.retention.max-batches-per-run:100}")
+    private int maxBatchesPerRun;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Scheduled(initialDelayString = "${notifications.retention.initial-delay-ms:0}",
+               fixedDelayString = "${notifications.retention.interval-ms:3600000}")
+    public void purge() {
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(readDays);
+            long purged = 0;
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                int deleted = notificationService.deleteReadNotificationsBefore(cutoff, batchSize);
+                purged += deleted;
+                if (deleted < batchSize) {
+                    break;
+                }
+            }
+            if (purged > 0) {
+                log.info("Purged {} read notifications created before {}", purged, cutoff);
+            }
+        } catch (Exception e) {
+            log.error("Notification retention purge failed", e);
+        }
+    }
+}
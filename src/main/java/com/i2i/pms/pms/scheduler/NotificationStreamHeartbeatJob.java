@@ -0,0 +1,29 @@
+package com.i2i.pms.pms.scheduler;
+
+import com.i2i.pms.pms.service.NotificationStreamService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps idle notification streams open through proxies and notices clients that went away.
+ */
+@Component
+public class NotificationStreamHeartbeatJob {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationStreamHeartbeatJob.class);
+
+    @Autowired
+    private NotificationStreamService notificationStreamService;
+
+    @Scheduled(fixedDelayString = "${notifications.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        try {
+            notificationStreamService.sendHeartbeats();
+        } catch (Exception e) {
+            log.error("Notification stream heartbeat failed", e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.i2i.pms.pms.scheduler;
+
+import com.i2i.pms.pms.service.RealtimeDashboardService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pushes the real-time dashboard to stream subscribers. Activity between two runs is coalesced
+ * into a single update.
+ */
+@Component
+public class RealtimeDashboardPushJob {
+
+    private static final Logger log = LoggerFactory.getLogger(RealtimeDashboardPushJob.class);
+
+    @Autowired
+    private RealtimeDashboardService realtimeDashboardService;
+
+    @Scheduled(fixedDelayString = "${dashboard.realtime.push-interval-ms:1000}")
+    public void push() {
+        try {
+            realtimeDashboardService.publishUpdates();
+        } catch (Exception e) {
+            log.error("Real-time dashboard push failed", e);
+        }
+    }
+}
@@ -1,8 +1,7 @@
 package com.i2i.pms.pms.security;
 
 import com.i2i.pms.pms.service.AuthService;
-import com.i2i.pms.pms.service.UserService;
-import com.i2i.pms.pms.entity.User;
+import com.i2i.pms.pms.util.TokenClaims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,7 +24,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private AuthService authService;
 
     @Autowired
-    private UserService userService;
+    private PrincipalCache principalCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -36,20 +35,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
 
-            if (authService.validateToken(token)) {
-                String email = authService.getEmailFromToken(token);
+            // One verification per request; repeated tokens are served from the claims cache
+            TokenClaims claims = authService.parseToken(token);
+            if (claims != null) {
+                String email = claims.getEmail();
                 
                 try {
-                    User user = userService.getUserByEmail(email).orElse(null);
-                    if (user != null && user.getIsActive()) {
-                        List<SimpleGrantedAuthority> authorities = user.getRoles().stream()
-                                .map(role -> new SimpleGrantedAuthority("ROLE_" + role.getName()))
+                    // User id, active flag and roles come from the principal cache, not a query per request
+                    JwtPrincipal principal = principalCache.getActivePrincipal(email);
+                    if (principal != null) {
+                        List<SimpleGrantedAuthority> authorities = principal.getRoles().stream()
+                                .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
                                 .collect(Collectors.toList());
 
                         UsernamePasswordAuthenticationToken authentication = 
                             new UsernamePasswordAuthenticationToken(email, null, authorities);
                         
                         SecurityContextHolder.getContext().setAuthentication(authentication);
+                        request.setAttribute(JwtPrincipal.REQUEST_ATTRIBUTE, principal);
                     }
                 } catch (Exception e) {
                     // Log error but don't throw exception to allow request to continue
@@ -0,0 +1,34 @@
+package com.i2i.pms.pms.security;
+
+import java.util.List;
+
+/**
+ * Authenticated caller resolved once per request by {@link JwtAuthenticationFilter} and stored as a
+ * request attribute, so controllers never parse the token again.
+ */
+public final class JwtPrincipal {
+
+    public static final String REQUEST_ATTRIBUTE = JwtPrincipal.class.getName();
+
+    private final Long userId;
+    private final String email;
+    private final List<String> roles;
+
+    public JwtPrincipal(Long userId, String email, List<String> roles) {
+        this.userId = userId;
+        this.email = email;
+        this.roles = List.copyOf(roles);
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public List<String> getRoles() {
+        return roles;
+    }
+}
@@ -0,0 +1,17 @@
+package com.i2i.pms.pms.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+
+@Component
+public class JwtPrincipalResolver {
+
+    /**
+     * Principal of the current request, or null when the caller is not authenticated.
+     */
+    public JwtPrincipal resolve(HttpServletRequest request) {
+        // Set by JwtAuthenticationFilter only for a valid token of an active user
+        Object principal = request.getAttribute(JwtPrincipal.REQUEST_ATTRIBUTE);
+        return principal instanceof JwtPrincipal jwtPrincipal ? jwtPrincipal : null;
+    }
+}
@@ -0,0 +1,159 @@
+package com.i2i.pms.pms.security;
+
+import com.i2i.pms.pms.dto.CacheStatsDto;
+import com.i2i.pms.pms.entity.Role;
+import com.i2i.pms.pms.entity.User;
+import com.i2i.pms.pms.repository.UserRepository;
+import com.i2i.pms.pms.util.TransactionHooks;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * In-process cache of the user data the JWT filter needs on every request (id, email, active flag,
+ * role names), keyed by email. Entries expire after a TTL and are invalidated explicitly when a user
+ * or role changes.
+ */
+@Component
+public class PrincipalCache {
+
+    public static final String NAME = "principals";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${security.principal-cache.ttl-ms:300000}")
+    private long ttlMillis;
+
+    @Value("${security.principal-cache.max-size:10000}")
+    private int maxSize;
+
+    private Map<String, Entry> entries;
+
+    // Bumped by every invalidation so a load that raced with it is not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+
+    @PostConstruct
+    void init() {
+        entries = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        });
+    }
+
+    /**
+     * Principal for the user with this email, or null if no such user exists or the user is inactive.
+     */
+    public JwtPrincipal getActivePrincipal(String email) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(email);
+        if (entry != null && entry.expiresAt > now) {
+            hits.increment();
+            return entry.active ? entry.principal : null;
+        }
+        misses.increment();
+
+        long loadGeneration = generation.get();
+        long loadStart = System.nanoTime();
+        Optional<User> user = userRepository.findByEmail(email);
+        if (user.isEmpty()) {
+            loadNanos.add(System.nanoTime() - loadStart);
+            entries.remove(email);
+            return null;
+        }
+
+        List<String> roles = user.get().getRoles().stream()
+                .map(Role::getName)
+                .collect(Collectors.toList());
+        loadNanos.add(System.nanoTime() - loadStart);
+        Entry loaded = new Entry(new JwtPrincipal(user.get().getId(), email, roles),
+                Boolean.TRUE.equals(user.get().getIsActive()), now + ttlMillis);
+        synchronized (entries) {
+            if (generation.get() == loadGeneration) {
+                entries.put(email, loaded);
+            }
+        }
+        return loaded.active ? loaded.principal : null;
+    }
+
+    /**
+     * Drop the cached principal of a user. Called before and again after the surrounding transaction
+     * commits, so a concurrent request cannot re-cache the pre-commit state.
+     */
+    public void invalidateUser(Long userId) {
+        removeUser(userId);
+        TransactionHooks.afterCommit(() -> removeUser(userId));
+    }
+
+    /**
+     * Drop every cached principal, e.g. after a role is renamed.
+     */
+    public void invalidateAll() {
+        clear();
+        TransactionHooks.afterCommit(this::clear);
+    }
+
+    public CacheStatsDto getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requests = hitCount + missCount;
+        // Every miss loads from the database
+        return new CacheStatsDto(NAME, entries.size(), maxSize, hitCount, missCount, evictions.sum(),
+                invalidations.sum(), requests > 0 ? (double) hitCount / requests : 0.0,
+                missCount, missCount > 0 ? loadNanos.sum() / 1_000_000.0 / missCount : 0.0);
+    }
+
+    // Helper methods
+    private void clear() {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            invalidations.add(entries.size());
+            entries.clear();
+        }
+    }
+
+    private void removeUser(Long userId) {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            boolean removed = entries.values().removeIf(entry -> entry.principal.getUserId().equals(userId));
+            if (removed) {
+                invalidations.increment();
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        private final JwtPrincipal principal;
+        private final boolean active;
+        private final long expiresAt;
+
+        private Entry(JwtPrincipal principal, boolean active, long expiresAt) {
+            this.principal = principal;
+            this.active = active;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.i2i.pms.pms.service;
 
 import com.i2i.pms.pms.dto.LoginRequest;
 import com.i2i.pms.pms.dto.LoginResponse;
+import com.i2i.pms.pms.util.TokenClaims;
 
 public interface AuthService {
 
@@ -9,6 +10,9 @@ public interface AuthService {
     
     boolean validateToken(String token);
     
+    // Verified claims of the token, or null if it is invalid or expired
+    TokenClaims parseToken(String token);
+    
     String getEmailFromToken(String token);
     
     Long getUserIdFromToken(String token);
@@ -0,0 +1,30 @@
+package com.i2i.pms.pms.service;
+
+import com.i2i.pms.pms.dto.SuggestionDto;
+import com.i2i.pms.pms.entity.Issue;
+import com.i2i.pms.pms.entity.Project;
+
+import java.util.List;
+
+/**
+ * Type-ahead suggestions served from in-memory prefix indexes over issue key, summary and tags and
+ * project key and name. The indexes are built at startup and kept current by the issue and project
+ * services; changes become visible once their transaction commits.
+ */
+public interface AutocompleteService {
+
+    /**
+     * Projects first, then issues, at most limit suggestions in total.
+     */
+    List<SuggestionDto> suggest(String query, Integer limit);
+
+    void rebuildIndexes();
+
+    void onIssueSaved(Issue issue);
+
+    void onIssueDeleted(Long issueId);
+
+    void onProjectSaved(Project project);
+
+    void onProjectDeleted(Long projectId);
+}
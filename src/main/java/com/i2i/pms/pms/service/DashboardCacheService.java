@@ -0,0 +1,48 @@
+package com.i2i.pms.pms.service;
+
+import com.i2i.pms.pms.dto.CacheStatsDto;
+import com.i2i.pms.pms.dto.DashboardDto;
+import com.i2i.pms.pms.entity.Issue;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived cache of computed dashboards, keyed by the kind of dashboard and the id it is
+ * scoped to. Writes invalidate only the dashboards whose scope they touch.
+ */
+public interface DashboardCacheService {
+
+    enum Scope {
+        OVERALL, MANAGER, PROJECT, MEMBER, ASSIGNEE, REPORTER
+    }
+
+    /**
+     * Cached dashboard, computed by the loader on a miss. Concurrent misses share one computation.
+     *
+     * @param scopeId the manager, project or user the dashboard is for; null for OVERALL
+     */
+    DashboardDto get(Scope scope, Long scopeId, Supplier<DashboardDto> loader);
+
+    /**
+     * Invalidate the dashboards an issue appears in: overall, its project, the project's lead,
+     * its reporter and its current and previous assignee.
+     *
+     * @param previousAssigneeId the assignee before the change when it may have changed, otherwise null
+     */
+    void onIssueChanged(Issue issue, Long previousAssigneeId);
+
+    /**
+     * Invalidate the dashboards any of a batch of issues appears in, in one pass over the cache.
+     *
+     * @param previousAssigneeIds assignees the issues had before the change
+     */
+    void onIssuesChanged(Collection<Issue> issues, Collection<Long> previousAssigneeIds);
+
+    /**
+     * Invalidate every dashboard, since project details and counts appear in all of them.
+     */
+    void onProjectChanged(Long projectId);
+
+    CacheStatsDto getStats();
+}
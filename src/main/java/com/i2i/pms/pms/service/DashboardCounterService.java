@@ -0,0 +1,45 @@
+package com.i2i.pms.pms.service;
+
+import com.i2i.pms.pms.dto.CounterReconciliationReport;
+import com.i2i.pms.pms.entity.Issue;
+import com.i2i.pms.pms.repository.IssueStatistics;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public interface DashboardCounterService {
+
+    /**
+     * Apply the counter deltas for an issue that was created or modified.
+     * Must be called in the same transaction as the write.
+     */
+    void onIssueSaved(Issue issue);
+
+    /**
+     * Apply the summed counter deltas for a batch of created or modified issues.
+     * Must be called in the same transaction as the writes.
+     */
+    void onIssuesSaved(Collection<Issue> issues);
+
+    /**
+     * Remove an issue's contribution before it is deleted.
+     */
+    void onIssueDeleted(Issue issue);
+
+    /**
+     * Remove all of a project's counters before the project (and its issues) is deleted.
+     */
+    void onProjectDeleted(Long projectId);
+
+    /**
+     * Read issue statistics from the materialized counters.
+     *
+     * @param projectId restrict to one project, or null for all issues
+     */
+    IssueStatistics getIssueStatistics(Long projectId, LocalDateTime now);
+
+    /**
+     * Rebuild the counters from the issues table and report any drift that was corrected.
+     */
+    CounterReconciliationReport reconcile();
+}
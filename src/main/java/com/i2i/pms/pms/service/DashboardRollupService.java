@@ -0,0 +1,56 @@
+package com.i2i.pms.pms.service;
+
+import com.i2i.pms.pms.entity.Issue;
+import com.i2i.pms.pms.entity.WorkLog;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Keeps the daily dashboard rollups up to date. Writes only queue the days they touch, in the
+ * same transaction as the write; the rollup job recomputes queued days in the background.
+ */
+public interface DashboardRollupService {
+
+    /**
+     * Queue the days an issue contributed to before and after a create or update.
+     */
+    void onIssueSaved(Issue issue);
+
+    /**
+     * Queue the days a batch of issues contributed to before and after an update, each day once.
+     */
+    void onIssuesSaved(Collection<Issue> issues);
+
+    /**
+     * Queue the days an issue contributed to before it is deleted.
+     */
+    void onIssueDeleted(Issue issue);
+
+    /**
+     * Queue the days of a created or modified work log.
+     *
+     * @param previousDate the work log's date before the change, or null for a new work log
+     */
+    void onWorkLogSaved(WorkLog workLog, LocalDateTime previousDate);
+
+    void onWorkLogDeleted(WorkLog workLog);
+
+    /**
+     * Queue every day holding the project's rollups or its issues' and work logs' activity before the
+     * project (and its issues) is deleted.
+     */
+    void onProjectDeleted(Long projectId);
+
+    /**
+     * Recompute up to maxDays queued days, each in its own transaction.
+     *
+     * @return the number of days recomputed
+     */
+    int processDirtyDays(int maxDays);
+
+    /**
+     * Queue every day with activity when no rollups exist yet, e.g. on a fresh or upgraded database.
+     */
+    void backfillIfEmpty();
+}
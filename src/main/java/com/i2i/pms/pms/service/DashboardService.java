@@ -1,6 +1,7 @@
 package com.i2i.pms.pms.service;
 
 import com.i2i.pms.pms.dto.DashboardDto;
+import com.i2i.pms.pms.dto.MyDashboardDto;
 
 public interface DashboardService {
     
@@ -48,4 +49,11 @@ public interface DashboardService {
      * Get real-time dashboard statistics (last 24 hours)
      */
     DashboardDto getRealTimeDashboard();
+    
+    /**
+     * Get the manager, member, assignee and reporter dashboards of a user, computed concurrently.
+     * Sections that miss the deadline are left out and the result is flagged as partial. The manager
+     * section is only computed when {@code includeManagerSection} is set.
+     */
+    MyDashboardDto getMyDashboard(Long userId, boolean includeManagerSection);
 } 
\ No newline at end of file
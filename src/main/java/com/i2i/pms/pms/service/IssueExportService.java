@@ -0,0 +1,45 @@
+package com.i2i.pms.pms.service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+
+public interface IssueExportService {
+
+    enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public static Format from(String value) {
+            try {
+                return Format.valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("Invalid export format. Allowed: ndjson, csv");
+            }
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    /**
+     * Write issues to the writer as they are read from the database.
+     *
+     * @param projectId restrict the export to one project, or null for all issues
+     * @return number of issues written
+     */
+    long exportIssues(Format format, Long projectId, Writer writer) throws IOException;
+}
@@ -0,0 +1,34 @@
+package com.i2i.pms.pms.service;
+
+import com.i2i.pms.pms.dto.IssueImportDto;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Locale;
+
+public interface IssueImportService {
+
+    enum Format {
+        NDJSON, CSV;
+
+        public static Format from(String value) {
+            try {
+                return Format.valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("Invalid import format. Allowed: ndjson, csv");
+            }
+        }
+    }
+
+    /**
+     * Create issues from the records read off the reader, one chunk per transaction. Records that
+     * fail validation are skipped and reported; each committed chunk advances the import's checkpoint.
+     *
+     * @param importId an interrupted import to resume, skipping the records it already processed,
+     *                 or null to start a new one
+     * @param importerId the importing user, reporter of records that name none
+     */
+    IssueImportDto importIssues(Format format, Reader reader, Long importId, Long importerId) throws IOException;
+
+    IssueImportDto getImport(Long importId);
+}
@@ -0,0 +1,29 @@
+package com.i2i.pms.pms.service;
+
+import com.i2i.pms.pms.dto.CursorPage;
+import com.i2i.pms.pms.dto.IssueDto;
+import com.i2i.pms.pms.repository.IssueListScope;
+import com.i2i.pms.pms.repository.IssueView;
+
+import java.util.List;
+
+/**
+ * Read path for issue lists. Builds {@link IssueDto}s from projections with a fixed number of
+ * queries per page: issues, tags, users and roles.
+ */
+public interface IssueQueryService {
+
+    CursorPage<IssueDto> getIssuePage(IssueListScope scope, Long ownerId, String cursor, Integer size);
+
+    CursorPage<IssueDto> getIssuePageByProjectKey(String projectKey, String cursor, Integer size);
+
+    List<IssueDto> getIssues(IssueListScope scope, Long ownerId);
+
+    List<IssueDto> getIssuesByProjectKey(String projectKey);
+
+    // Issues in the order of the given ids; ids that no longer exist are skipped
+    List<IssueDto> getIssuesByIds(List<Long> issueIds);
+
+    // DTOs for projections the caller already read, e.g. one chunk of a stream; same order
+    List<IssueDto> toIssueDtos(List<IssueView> issues);
+}
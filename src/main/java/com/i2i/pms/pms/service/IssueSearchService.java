@@ -0,0 +1,19 @@
+package com.i2i.pms.pms.service;
+
+import com.i2i.pms.pms.dto.IssueDto;
+import com.i2i.pms.pms.dto.SearchPage;
+import com.i2i.pms.pms.entity.Issue;
+
+public interface IssueSearchService {
+
+    /**
+     * Ranked full-text search. Each word of the query must match the start of a word in the issue's
+     * key, summary, tags or description.
+     *
+     * @param projectId restrict to one project, or null
+     * @param status restrict to one status, or null
+     * @param page zero-based page number, or null for the first page
+     * @param size page size, or null for the default
+     */
+    SearchPage<IssueDto> searchIssues(String query, Long projectId, Issue.Status status, Integer page, Integer size);
+}
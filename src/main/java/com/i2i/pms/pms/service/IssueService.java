@@ -1,5 +1,7 @@
 package com.i2i.pms.pms.service;
 
+import com.i2i.pms.pms.dto.BulkIssueUpdateRequest;
+import com.i2i.pms.pms.dto.BulkIssueUpdateResult;
 import com.i2i.pms.pms.entity.Issue;
 
 import java.time.LocalDateTime;
@@ -16,6 +18,12 @@ public interface IssueService {
     
     Issue createIssue(Issue issue);
     
+    /**
+     * Persist issues whose key, project, reporter and assignee the caller has already resolved and
+     * validated, applying the write hooks once for the whole batch.
+     */
+    List<Issue> createIssues(List<Issue> issues);
+    
     Issue updateIssue(Long id, Issue issue);
     
     void deleteIssue(Long id);
@@ -64,9 +72,25 @@ public interface IssueService {
     
     Issue removeWatcher(Long issueId, Long userId);
     
+    /**
+     * Apply the requested operations to every listed issue in one transaction. Unknown issue ids
+     * are reported per item; an unknown assignee or an invalid combination of operations fails the
+     * whole request.
+     */
+    BulkIssueUpdateResult bulkUpdateIssues(BulkIssueUpdateRequest request);
+    
     Long getIssueCountByProject(Long projectId);
     
     Long getIssueCountByProjectAndStatus(Long projectId, Issue.Status status);
     
     String generateIssueKey(Long projectId);
+    
+    List<String> generateIssueKeys(Long projectId, int count);
+    
+    /**
+     * Recount comment_count and watcher_count of issues whose stored values drifted.
+     *
+     * @return number of issues corrected
+     */
+    int repairCommentAndWatcherCounts();
 } 
\ No newline at end of file
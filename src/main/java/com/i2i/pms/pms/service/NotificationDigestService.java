@@ -0,0 +1,37 @@
+package com.i2i.pms.pms.service;
+
+import com.i2i.pms.pms.entity.Notification;
+
+import java.util.List;
+
+/**
+ * Collapses bursts of same-type notifications on one target (issue or project) for one user. The
+ * first notification of a burst is written right away and opens a window; the ones arriving while
+ * it is open are only counted, and when it closes are folded into the first row's occurrences, or
+ * written as one new row if the first was read or deleted meanwhile.
+ */
+public interface NotificationDigestService {
+
+    /**
+     * Pick the notifications to write now; the rest are absorbed into open windows. Must be called
+     * in the transaction that saves the returned notifications: windows are opened and counts
+     * taken only once it commits.
+     */
+    List<Notification> coalesce(List<Notification> notifications);
+
+    /**
+     * Write the digests of windows that have closed.
+     *
+     * @return the number of digests written
+     */
+    int flushExpired();
+
+    /**
+     * Close every window and write its digest.
+     *
+     * @return the number of digests written
+     */
+    int flushAll();
+
+    int getOpenWindows();
+}
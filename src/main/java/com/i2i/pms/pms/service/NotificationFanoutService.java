@@ -0,0 +1,23 @@
+package com.i2i.pms.pms.service;
+
+import com.i2i.pms.pms.event.NotificationEvent;
+
+/**
+ * Turns committed notification events into notification rows on a small pool of worker threads,
+ * so the latency of the writes that caused them never includes notification work.
+ */
+public interface NotificationFanoutService {
+
+    /**
+     * Queue the event for the workers. Called once the publishing transaction commits; when the
+     * queue is full the event is dropped and logged rather than slowing the caller down.
+     */
+    void enqueue(NotificationEvent event);
+
+    /**
+     * Events queued or being written.
+     */
+    int getPendingEvents();
+
+    long getDroppedEvents();
+}
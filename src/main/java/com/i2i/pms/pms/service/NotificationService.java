@@ -1,7 +1,9 @@
 package com.i2i.pms.pms.service;
 
+import com.i2i.pms.pms.dto.CursorPage;
 import com.i2i.pms.pms.entity.Notification;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,6 +11,16 @@ public interface NotificationService {
 
     List<Notification> getNotificationsByUser(Long userId);
 
+    /**
+     * One keyset page of the user's notifications, newest first.
+     *
+     * @param unreadOnly only notifications not yet read
+     * @param since only notifications created at or after this time, or null for the whole history
+     * @param cursor nextCursor of the previous page, or null for the first page
+     * @param size page size, or null for the default; capped by notifications.page.max-size
+     */
+    CursorPage<Notification> getNotificationPage(Long userId, boolean unreadOnly, LocalDateTime since, String cursor, Integer size);
+
     List<Notification> getUnreadNotificationsByUser(Long userId);
 
     Optional<Notification> getNotificationById(Long notificationId, Long userId);
@@ -23,6 +35,13 @@ public interface NotificationService {
 
     Long getUnreadCount(Long userId);
 
+    /**
+     * Delete up to batchSize read notifications created before the cutoff, in one transaction.
+     *
+     * @return the number deleted; less than batchSize once nothing is left to purge
+     */
+    int deleteReadNotificationsBefore(LocalDateTime cutoff, int batchSize);
+
     void createTaskAssignedNotification(Long taskId, Long assigneeId);
 
     void createTaskUpdatedNotification(Long taskId);
@@ -0,0 +1,36 @@
+package com.i2i.pms.pms.service;
+
+import com.i2i.pms.pms.entity.Notification;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Collection;
+
+/**
+ * Pushes new notifications to their users over Server-Sent Events. Streams are served by async
+ * requests, so idle connections hold no thread. Recent events are kept in a bounded replay buffer
+ * for clients reconnecting with a Last-Event-ID.
+ */
+public interface NotificationStreamService {
+
+    /**
+     * Open a stream of the user's new notifications, as "notification" events.
+     *
+     * @param lastEventId the id of the last event the client received, or null. Events after it are
+     *                    replayed first; when they are no longer all available (buffer overrun or
+     *                    server restart) the stream starts with a "resync" event instead, telling the
+     *                    client to reload its notifications
+     */
+    SseEmitter subscribe(Long userId, String lastEventId);
+
+    /**
+     * Hand the notifications to their users' streams once the current transaction commits.
+     */
+    void onNotificationsCreated(Collection<Notification> notifications);
+
+    /**
+     * Send a keepalive comment to idle streams, so proxies keep them open and dead clients are noticed.
+     */
+    void sendHeartbeats();
+
+    int getSubscriberCount();
+}
@@ -2,8 +2,11 @@ package com.i2i.pms.pms.service;
 
 import com.i2i.pms.pms.entity.Project;
 import com.i2i.pms.pms.entity.User;
+import com.i2i.pms.pms.repository.ProjectCounts;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ProjectService {
@@ -41,4 +44,10 @@ public interface ProjectService {
     boolean isProjectLead(Long projectId, Long userId);
     
     Long getProjectIssueCount(Long projectId);
+    
+    /**
+     * Member, issue and completed issue counts of the given projects in two grouped queries.
+     * Every requested id is present in the result.
+     */
+    Map<Long, ProjectCounts> getProjectCounts(Collection<Long> projectIds);
 } 
\ No newline at end of file
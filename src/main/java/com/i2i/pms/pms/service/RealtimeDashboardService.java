@@ -0,0 +1,34 @@
+package com.i2i.pms.pms.service;
+
+import com.i2i.pms.pms.dto.RealtimeDashboardUpdate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Activity counters over the last 24 hours, kept in memory from dashboard activity events
+ * and pushed to Server-Sent Events subscribers.
+ */
+public interface RealtimeDashboardService {
+
+    /**
+     * Current totals for the 24 hour window ending now. Reads memory only.
+     */
+    RealtimeDashboardUpdate getSnapshot();
+
+    /**
+     * Open a stream that starts with a "snapshot" event and then receives "delta" events
+     * holding only the counters that changed.
+     */
+    SseEmitter subscribe();
+
+    /**
+     * Compute the totals once and hand them to every subscriber. Subscribers that are still
+     * sending an earlier update only keep the newest one.
+     */
+    void publishUpdates();
+
+    /**
+     * Rebuild the window from the database, e.g. after a restart or after a project and all its
+     * activity were deleted.
+     */
+    void seed();
+}
@@ -0,0 +1,27 @@
+package com.i2i.pms.pms.service;
+
+import java.util.Map;
+
+/**
+ * Per-user unread notification counts held in memory, so polling the count does not run a COUNT over
+ * the notifications table. A user's count is loaded from the database on first access and then kept
+ * up to date by the writes that change it; entries are reloaded after a TTL as a safety net.
+ */
+public interface UnreadNotificationCountService {
+
+    long getUnreadCount(Long userId);
+
+    /**
+     * Record a change of the user's unread count made by the current transaction. Applied if and when
+     * it commits; until then loads of that user's count are not cached.
+     */
+    void adjust(Long userId, long delta);
+
+    void adjust(Map<Long, Long> deltaByUser);
+
+    /**
+     * Forget every count once the current transaction commits, e.g. after a delete that removed
+     * notifications by cascade.
+     */
+    void invalidateAll();
+}
@@ -7,6 +7,8 @@ import com.i2i.pms.pms.exception.ResourceNotFoundException;
 import com.i2i.pms.pms.service.AuthService;
 import com.i2i.pms.pms.service.UserService;
 import com.i2i.pms.pms.util.JwtUtil;
+import com.i2i.pms.pms.util.TokenClaims;
+import io.jsonwebtoken.JwtException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -55,6 +57,15 @@ public class AuthServiceImpl implements AuthService {
         return jwtUtil.validateToken(token);
     }
 
+    @Override
+    public TokenClaims parseToken(String token) {
+        try {
+            return jwtUtil.parseToken(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     @Override
     public String getEmailFromToken(String token) {
         return jwtUtil.getEmailFromToken(token);
@@ -0,0 +1,137 @@
+package com.i2i.pms.pms.service.impl;
+
+import com.i2i.pms.pms.dto.SuggestionDto;
+import com.i2i.pms.pms.entity.Issue;
+import com.i2i.pms.pms.entity.Project;
+import com.i2i.pms.pms.repository.IssueLabel;
+import com.i2i.pms.pms.repository.IssueRepository;
+import com.i2i.pms.pms.repository.IssueTag;
+import com.i2i.pms.pms.repository.ProjectRepository;
+import com.i2i.pms.pms.service.AutocompleteService;
+import com.i2i.pms.pms.util.PrefixIndex;
+import com.i2i.pms.pms.util.TransactionHooks;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class AutocompleteServiceImpl implements AutocompleteService {
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Value("${autocomplete.default-limit:10}")
+    private int defaultLimit;
+
+    @Value("${autocomplete.max-limit:50}")
+    private int maxLimit;
+
+    @Value("${autocomplete.max-prefix-length:12}")
+    private int maxPrefixLength;
+
+    @Value("${autocomplete.max-candidates:500}")
+    private int maxCandidates;
+
+    private PrefixIndex<SuggestionDto> issueIndex;
+    private PrefixIndex<SuggestionDto> projectIndex;
+
+    @PostConstruct
+    void init() {
+        issueIndex = new PrefixIndex<>(maxPrefixLength, maxCandidates);
+        projectIndex = new PrefixIndex<>(maxPrefixLength, maxCandidates);
+    }
+
+    @Override
+    public List<SuggestionDto> suggest(String query, Integer limit) {
+        int total = resolveLimit(limit);
+        // Projects are few and the likeliest target, but never crowd out issues entirely
+        List<SuggestionDto> suggestions = new ArrayList<>(projectIndex.search(query, (total + 1) / 2));
+        suggestions.addAll(issueIndex.search(query, total - suggestions.size()));
+        return suggestions;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void rebuildIndexes() {
+        Map<Long, List<String>> tagsByIssue = new HashMap<>();
+        for (IssueTag tag : issueRepository.findAllTags()) {
+            tagsByIssue.computeIfAbsent(tag.getIssueId(), id -> new ArrayList<>()).add(tag.getTag());
+        }
+
+        issueIndex.clear();
+        for (IssueLabel issue : issueRepository.findAllLabels()) {
+            indexIssue(issue.getId(), issue.getIssueKey(), issue.getSummary(), issue.getProjectId(),
+                    tagsByIssue.getOrDefault(issue.getId(), List.of()));
+        }
+        projectIndex.clear();
+        for (Project project : projectRepository.findAll()) {
+            indexProject(project.getId(), project.getProjectKey(), project.getName());
+        }
+    }
+
+    @Override
+    public void onIssueSaved(Issue issue) {
+        // Capture the values now; the entity may change before the transaction commits
+        Long id = issue.getId();
+        String issueKey = issue.getIssueKey();
+        String summary = issue.getSummary();
+        Long projectId = issue.getProject().getId();
+        List<String> tags = new ArrayList<>(issue.getTags());
+        TransactionHooks.afterCommit(() -> indexIssue(id, issueKey, summary, projectId, tags));
+    }
+
+    @Override
+    public void onIssueDeleted(Long issueId) {
+        TransactionHooks.afterCommit(() -> issueIndex.remove(issueId));
+    }
+
+    @Override
+    public void onProjectSaved(Project project) {
+        Long id = project.getId();
+        String projectKey = project.getProjectKey();
+        String name = project.getName();
+        TransactionHooks.afterCommit(() -> indexProject(id, projectKey, name));
+    }
+
+    @Override
+    public void onProjectDeleted(Long projectId) {
+        // Issues go with their project by cascade
+        TransactionHooks.afterCommit(() -> {
+            projectIndex.remove(projectId);
+            issueIndex.removeIf(suggestion -> projectId.equals(suggestion.getProjectId()));
+        });
+    }
+
+    // Helper methods
+    private void indexIssue(Long id, String issueKey, String summary, Long projectId, Collection<String> tags) {
+        List<String> texts = new ArrayList<>();
+        texts.add(issueKey + " " + summary);
+        texts.addAll(tags);
+        issueIndex.put(id, new SuggestionDto("ISSUE", id, issueKey, summary, projectId), texts);
+    }
+
+    private void indexProject(Long id, String projectKey, String name) {
+        projectIndex.put(id, new SuggestionDto("PROJECT", id, projectKey, name, id), List.of(projectKey + " " + name));
+    }
+
+    private int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return Math.min(defaultLimit, maxLimit);
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+        return Math.min(limit, maxLimit);
+    }
+}
@@ -3,15 +3,20 @@ package com.i2i.pms.pms.service.impl;
 import com.i2i.pms.pms.entity.Comment;
 import com.i2i.pms.pms.entity.Issue;
 import com.i2i.pms.pms.entity.User;
+import com.i2i.pms.pms.event.DashboardActivityEvent;
+import com.i2i.pms.pms.event.NotificationEvent;
 import com.i2i.pms.pms.exception.ResourceNotFoundException;
 import com.i2i.pms.pms.repository.CommentRepository;
 import com.i2i.pms.pms.repository.IssueRepository;
 import com.i2i.pms.pms.repository.UserRepository;
 import com.i2i.pms.pms.service.CommentService;
+import com.i2i.pms.pms.service.DashboardCacheService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,6 +33,12 @@ public class CommentServiceImpl implements CommentService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private DashboardCacheService dashboardCacheService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public List<Comment> getCommentsByIssue(Long issueId) {
         return commentRepository.findByIssueId(issueId);
@@ -56,7 +67,12 @@ public class CommentServiceImpl implements CommentService {
             comment.setParentComment(parentComment);
         }
 
-        return commentRepository.save(comment);
+        Comment savedComment = commentRepository.save(comment);
+        issueRepository.adjustCommentCount(issue.getId(), 1);
+        eventPublisher.publishEvent(new DashboardActivityEvent(DashboardActivityEvent.Metric.COMMENTS_ADDED, savedComment.getCreatedAt(), 1L));
+        dashboardCacheService.onIssueChanged(issue, null);
+        eventPublisher.publishEvent(NotificationEvent.commentAdded(issue.getId(), authorId));
+        return savedComment;
     }
 
     @Override
@@ -73,9 +89,14 @@ public class CommentServiceImpl implements CommentService {
 
     @Override
     public void deleteComment(Long id) {
-        if (!commentRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Comment", "id", id.toString());
-        }
+        Comment comment = commentRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Comment", "id", id.toString()));
+        // Replies are deleted by cascade, so the whole thread leaves the counts
+        List<Timestamp> thread = commentRepository.findThreadCreatedAt(id);
+        thread.forEach(createdAt -> eventPublisher.publishEvent(
+                new DashboardActivityEvent(DashboardActivityEvent.Metric.COMMENTS_ADDED, createdAt.toLocalDateTime(), -1L)));
+        dashboardCacheService.onIssueChanged(comment.getIssue(), null);
+        issueRepository.adjustCommentCount(comment.getIssue().getId(), -thread.size());
         commentRepository.deleteById(id);
     }
 
@@ -0,0 +1,98 @@
+package com.i2i.pms.pms.service.impl;
+
+import com.i2i.pms.pms.dto.CacheStatsDto;
+import com.i2i.pms.pms.dto.DashboardDto;
+import com.i2i.pms.pms.entity.Issue;
+import com.i2i.pms.pms.service.DashboardCacheService;
+import com.i2i.pms.pms.util.LoadingCache;
+import com.i2i.pms.pms.util.TransactionHooks;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+@Service
+public class DashboardCacheServiceImpl implements DashboardCacheService {
+
+    public static final String NAME = "dashboards";
+
+    @Value("${dashboard.cache.ttl-ms:30000}")
+    private long ttlMillis;
+
+    @Value("${dashboard.cache.max-size:1000}")
+    private int maxSize;
+
+    private LoadingCache<Key, DashboardDto> cache;
+
+    @PostConstruct
+    void init() {
+        cache = new LoadingCache<>(NAME, maxSize, ttlMillis);
+    }
+
+    @Override
+    public DashboardDto get(Scope scope, Long scopeId, Supplier<DashboardDto> loader) {
+        // A read-write transaction may see its own uncommitted writes, which must not be shared
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return loader.get();
+        }
+        return cache.get(new Key(scope, scopeId), loader);
+    }
+
+    @Override
+    public void onIssueChanged(Issue issue, Long previousAssigneeId) {
+        onIssuesChanged(List.of(issue), previousAssigneeId != null ? List.of(previousAssigneeId) : List.of());
+    }
+
+    @Override
+    public void onIssuesChanged(Collection<Issue> issues, Collection<Long> previousAssigneeIds) {
+        Set<Key> keys = new HashSet<>();
+        keys.add(new Key(Scope.OVERALL, null));
+        for (Issue issue : issues) {
+            if (issue.getProject() != null) {
+                keys.add(new Key(Scope.PROJECT, issue.getProject().getId()));
+                if (issue.getProject().getProjectLead() != null) {
+                    keys.add(new Key(Scope.MANAGER, issue.getProject().getProjectLead().getId()));
+                }
+            }
+            if (issue.getReporter() != null) {
+                keys.add(new Key(Scope.REPORTER, issue.getReporter().getId()));
+            }
+            if (issue.getAssignee() != null) {
+                keys.add(new Key(Scope.ASSIGNEE, issue.getAssignee().getId()));
+            }
+        }
+        for (Long previousAssigneeId : previousAssigneeIds) {
+            keys.add(new Key(Scope.ASSIGNEE, previousAssigneeId));
+        }
+        // Member dashboards list issue counts of every project the user belongs to
+        invalidate(key -> keys.contains(key) || key.scope == Scope.MEMBER);
+    }
+
+    @Override
+    public void onProjectChanged(Long projectId) {
+        invalidate(key -> true);
+    }
+
+    @Override
+    public CacheStatsDto getStats() {
+        return cache.getStats();
+    }
+
+    // Helper methods
+    // Invalidated now and again after commit, so a load racing with the write cannot keep the old state
+    private void invalidate(Predicate<Key> filter) {
+        cache.invalidateIf(filter);
+        TransactionHooks.afterCommit(() -> cache.invalidateIf(filter));
+    }
+
+    private record Key(Scope scope, Long scopeId) {
+    }
+}
@@ -0,0 +1,211 @@
+package com.i2i.pms.pms.service.impl;
+
+import com.i2i.pms.pms.dto.CounterReconciliationReport;
+import com.i2i.pms.pms.entity.DashboardCounter;
+import com.i2i.pms.pms.entity.Issue;
+import com.i2i.pms.pms.entity.IssueCounterState;
+import com.i2i.pms.pms.repository.DashboardCounterRepository;
+import com.i2i.pms.pms.repository.DueDateCounts;
+import com.i2i.pms.pms.repository.IssueRepository;
+import com.i2i.pms.pms.repository.IssueStatistics;
+import com.i2i.pms.pms.service.DashboardCounterService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@Transactional
+public class DashboardCounterServiceImpl implements DashboardCounterService {
+
+    @Autowired
+    private DashboardCounterRepository dashboardCounterRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Override
+    public void onIssueSaved(Issue issue) {
+        onIssuesSaved(List.of(issue));
+    }
+
+    @Override
+    public void onIssuesSaved(Collection<Issue> issues) {
+        // Deltas are summed across the issues first, so each counter row is updated at most once
+        Map<CounterKey, Long> deltas = new HashMap<>();
+        for (Issue issue : issues) {
+            IssueCounterState current = IssueCounterState.of(issue);
+            if (issue.getCountedState() != null) {
+                addContribution(deltas, issue.getCountedState(), -1L);
+            }
+            addContribution(deltas, current, 1L);
+            issue.setCountedState(current);
+        }
+        applyDeltas(deltas);
+    }
+
+    @Override
+    public void onIssueDeleted(Issue issue) {
+        IssueCounterState counted = issue.getCountedState() != null ? issue.getCountedState() : IssueCounterState.of(issue);
+        Map<CounterKey, Long> deltas = new HashMap<>();
+        addContribution(deltas, counted, -1L);
+        applyDeltas(deltas);
+        issue.setCountedState(null);
+    }
+
+    @Override
+    public void onProjectDeleted(Long projectId) {
+        dashboardCounterRepository.subtractProjectFromGlobal(projectId);
+        dashboardCounterRepository.deleteProjectCounters(projectId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public IssueStatistics getIssueStatistics(Long projectId, LocalDateTime now) {
+        List<DashboardCounter> counters = projectId == null
+                ? dashboardCounterRepository.findByScopeAndProjectId(DashboardCounter.Scope.GLOBAL, DashboardCounter.GLOBAL_PROJECT_ID)
+                : dashboardCounterRepository.findByScopeAndProjectId(DashboardCounter.Scope.PROJECT, projectId);
+
+        IssueStatistics statistics = new IssueStatistics();
+        for (Issue.Status status : Issue.Status.values()) {
+            statistics.getByStatus().put(status, 0L);
+        }
+        for (Issue.Priority priority : Issue.Priority.values()) {
+            statistics.getByPriority().put(priority, 0L);
+        }
+        for (Issue.IssueType issueType : Issue.IssueType.values()) {
+            statistics.getByType().put(issueType, 0L);
+        }
+        for (DashboardCounter counter : counters) {
+            long value = counter.getCounterValue();
+            switch (counter.getDimension()) {
+                case TOTAL -> statistics.setTotalIssues(value);
+                case STATUS -> statistics.getByStatus().put(Issue.Status.valueOf(counter.getDimensionValue()), value);
+                case PRIORITY -> statistics.getByPriority().put(Issue.Priority.valueOf(counter.getDimensionValue()), value);
+                case TYPE -> statistics.getByType().put(Issue.IssueType.valueOf(counter.getDimensionValue()), value);
+                case ESTIMATED_TIME -> statistics.setEstimatedTime(value);
+                case ACTUAL_TIME -> statistics.setActualTime(value);
+            }
+        }
+
+        // Due-date buckets move with the clock, so they come from an indexed range query instead
+        LocalDateTime weekStart = now.toLocalDate().atStartOfDay();
+        LocalDateTime weekEnd = weekStart.plusWeeks(1);
+        LocalDateTime nextWeekEnd = weekEnd.plusWeeks(1);
+        DueDateCounts dueDates = projectId == null
+                ? issueRepository.countDueDates(now, weekStart, weekEnd, weekEnd, nextWeekEnd)
+                : issueRepository.countDueDatesByProject(projectId, now, weekStart, weekEnd, weekEnd, nextWeekEnd);
+        statistics.setOverdueIssues(toLong(dueDates.getOverdue()));
+        statistics.setDueThisWeekIssues(toLong(dueDates.getDueThisWeek()));
+        statistics.setDueNextWeekIssues(toLong(dueDates.getDueNextWeek()));
+        return statistics;
+    }
+
+    @Override
+    public CounterReconciliationReport reconcile() {
+        dashboardCounterRepository.lockForReconciliation();
+
+        Map<CounterKey, Long> expected = new HashMap<>();
+        for (Object[] row : issueRepository.countIssuesForDashboardCounters()) {
+            Long projectId = (Long) row[0];
+            long count = ((Number) row[4]).longValue();
+            Long estimated = row[5] != null ? ((Number) row[5]).longValue() : null;
+            Long actual = row[6] != null ? ((Number) row[6]).longValue() : null;
+            addContribution(expected, projectId, (Issue.Status) row[1], (Issue.Priority) row[2], (Issue.IssueType) row[3],
+                    count, estimated, actual);
+        }
+
+        Map<CounterKey, Long> stored = new HashMap<>();
+        for (DashboardCounter counter : dashboardCounterRepository.findAll()) {
+            stored.put(new CounterKey(counter.getScope(), counter.getProjectId(), counter.getDimension(),
+                    counter.getDimensionValue()), counter.getCounterValue());
+        }
+
+        Set<CounterKey> keys = new HashSet<>(expected.keySet());
+        keys.addAll(stored.keySet());
+
+        CounterReconciliationReport report = new CounterReconciliationReport();
+        report.setReconciledAt(LocalDateTime.now());
+        report.setCountersChecked(keys.size());
+        for (CounterKey key : keys) {
+            long expectedValue = expected.getOrDefault(key, 0L);
+            long actualValue = stored.getOrDefault(key, 0L);
+            if (expectedValue != actualValue) {
+                report.getDrifts().add(new CounterReconciliationReport.CounterDrift(key.scope().name(), key.projectId(),
+                        key.dimension().name(), key.value(), expectedValue, actualValue));
+                increment(key, expectedValue - actualValue);
+            }
+        }
+        report.setDriftCount(report.getDrifts().size());
+        return report;
+    }
+
+    // Helper methods
+    private void addContribution(Map<CounterKey, Long> deltas, IssueCounterState state, long sign) {
+        addContribution(deltas, state.getProjectId(), state.getStatus(), state.getPriority(), state.getIssueType(), sign,
+                state.getEstimatedTime() != null ? sign * state.getEstimatedTime() : null,
+                state.getActualTime() != null ? sign * state.getActualTime() : null);
+    }
+
+    private void addContribution(Map<CounterKey, Long> deltas, Long projectId, Issue.Status status, Issue.Priority priority,
+                                 Issue.IssueType issueType, long count, Long estimatedTime, Long actualTime) {
+        addScopeContribution(deltas, DashboardCounter.Scope.GLOBAL, DashboardCounter.GLOBAL_PROJECT_ID,
+                status, priority, issueType, count, estimatedTime, actualTime);
+        if (projectId != null) {
+            addScopeContribution(deltas, DashboardCounter.Scope.PROJECT, projectId,
+                    status, priority, issueType, count, estimatedTime, actualTime);
+        }
+    }
+
+    private void addScopeContribution(Map<CounterKey, Long> deltas, DashboardCounter.Scope scope, Long projectId,
+                                      Issue.Status status, Issue.Priority priority, Issue.IssueType issueType,
+                                      long count, Long estimatedTime, Long actualTime) {
+        add(deltas, scope, projectId, DashboardCounter.Dimension.TOTAL, DashboardCounter.ALL, count);
+        if (status != null) {
+            add(deltas, scope, projectId, DashboardCounter.Dimension.STATUS, status.name(), count);
+        }
+        if (priority != null) {
+            add(deltas, scope, projectId, DashboardCounter.Dimension.PRIORITY, priority.name(), count);
+        }
+        if (issueType != null) {
+            add(deltas, scope, projectId, DashboardCounter.Dimension.TYPE, issueType.name(), count);
+        }
+        if (estimatedTime != null) {
+            add(deltas, scope, projectId, DashboardCounter.Dimension.ESTIMATED_TIME, DashboardCounter.ALL, estimatedTime);
+        }
+        if (actualTime != null) {
+            add(deltas, scope, projectId, DashboardCounter.Dimension.ACTUAL_TIME, DashboardCounter.ALL, actualTime);
+        }
+    }
+
+    private void add(Map<CounterKey, Long> deltas, DashboardCounter.Scope scope, Long projectId,
+                     DashboardCounter.Dimension dimension, String value, long delta) {
+        deltas.merge(new CounterKey(scope, projectId, dimension, value), delta, Long::sum);
+    }
+
+    private void applyDeltas(Map<CounterKey, Long> deltas) {
+        deltas.forEach((key, delta) -> {
+            if (delta != 0) {
+                increment(key, delta);
+            }
+        });
+    }
+
+    private void increment(CounterKey key, long delta) {
+        dashboardCounterRepository.increment(key.scope().name(), key.projectId(), key.dimension().name(), key.value(), delta);
+    }
+
+    private long toLong(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    private record CounterKey(DashboardCounter.Scope scope, Long projectId, DashboardCounter.Dimension dimension, String value) {
+    }
+}
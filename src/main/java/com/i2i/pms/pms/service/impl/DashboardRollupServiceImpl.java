@@ -0,0 +1,132 @@
+package com.i2i.pms.pms.service.impl;
+
+import com.i2i.pms.pms.entity.Issue;
+import com.i2i.pms.pms.entity.IssueRollupState;
+import com.i2i.pms.pms.entity.WorkLog;
+import com.i2i.pms.pms.repository.DashboardRollupDirtyDayRepository;
+import com.i2i.pms.pms.repository.DashboardRollupRepository;
+import com.i2i.pms.pms.service.DashboardRollupService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+@Service
+@Transactional
+public class DashboardRollupServiceImpl implements DashboardRollupService {
+
+    @Autowired
+    private DashboardRollupRepository dashboardRollupRepository;
+
+    @Autowired
+    private DashboardRollupDirtyDayRepository dashboardRollupDirtyDayRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Override
+    public void onIssueSaved(Issue issue) {
+        onIssuesSaved(List.of(issue));
+    }
+
+    @Override
+    public void onIssuesSaved(Collection<Issue> issues) {
+        // Days are queued in order, so concurrent batches lock the queued rows in the same order
+        Set<LocalDate> days = new TreeSet<>();
+        List<Long> movedIssueIds = new ArrayList<>();
+        for (Issue issue : issues) {
+            IssueRollupState current = IssueRollupState.of(issue);
+            IssueRollupState previous = issue.getRolledUpState();
+            if (current.equals(previous)) {
+                continue;
+            }
+            days.addAll(current.getBucketDays());
+            if (previous != null) {
+                days.addAll(previous.getBucketDays());
+                if (!previous.hasSameDimensions(current)) {
+                    movedIssueIds.add(issue.getId());
+                }
+            }
+            issue.setRolledUpState(current);
+        }
+        markDirty(days);
+        if (!movedIssueIds.isEmpty()) {
+            dashboardRollupRepository.markWorkLogDaysDirtyForIssues(movedIssueIds);
+        }
+    }
+
+    @Override
+    public void onIssueDeleted(Issue issue) {
+        IssueRollupState rolledUp = issue.getRolledUpState() != null ? issue.getRolledUpState() : IssueRollupState.of(issue);
+        markDirty(rolledUp.getBucketDays());
+        dashboardRollupRepository.markWorkLogDaysDirty(issue.getId());
+        issue.setRolledUpState(null);
+    }
+
+    @Override
+    public void onWorkLogSaved(WorkLog workLog, LocalDateTime previousDate) {
+        markDirty(workLog.getDate());
+        markDirty(previousDate);
+    }
+
+    @Override
+    public void onWorkLogDeleted(WorkLog workLog) {
+        markDirty(workLog.getDate());
+    }
+
+    @Override
+    public void onProjectDeleted(Long projectId) {
+        dashboardRollupRepository.markProjectDaysDirty(projectId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int processDirtyDays(int maxDays) {
+        int processed = 0;
+        while (processed < maxDays && Boolean.TRUE.equals(transactionTemplate.execute(status -> recomputeNextDirtyDay()))) {
+            processed++;
+        }
+        return processed;
+    }
+
+    @Override
+    public void backfillIfEmpty() {
+        if (dashboardRollupRepository.count() == 0 && dashboardRollupDirtyDayRepository.count() == 0) {
+            dashboardRollupRepository.backfillResolvedAt();
+            dashboardRollupRepository.markAllActivityDaysDirty();
+        }
+    }
+
+    // Helper methods
+    // The claimed day stays locked until commit, so a concurrent write re-queues it rather than being lost
+    private boolean recomputeNextDirtyDay() {
+        Optional<LocalDate> day = dashboardRollupRepository.claimDirtyDay();
+        if (day.isEmpty()) {
+            return false;
+        }
+        LocalDateTime dayStart = day.get().atStartOfDay();
+        dashboardRollupRepository.deleteDay(day.get());
+        dashboardRollupRepository.insertDay(day.get(), dayStart, dayStart.plusDays(1));
+        return true;
+    }
+
+    private void markDirty(Set<LocalDate> days) {
+        days.forEach(dashboardRollupRepository::markDirty);
+    }
+
+    private void markDirty(LocalDateTime timestamp) {
+        if (timestamp != null) {
+            dashboardRollupRepository.markDirty(timestamp.toLocalDate());
+        }
+    }
+}
@@ -1,28 +1,63 @@
 package com.i2i.pms.pms.service.impl;
 
 import com.i2i.pms.pms.dto.DashboardDto;
+import com.i2i.pms.pms.dto.MyDashboardDto;
 import com.i2i.pms.pms.dto.RecentIssueDto;
 import com.i2i.pms.pms.dto.RecentProjectDto;
+import com.i2i.pms.pms.entity.DashboardRollup;
 import com.i2i.pms.pms.entity.Issue;
 import com.i2i.pms.pms.entity.Project;
+import com.i2i.pms.pms.event.DashboardActivityEvent;
+import com.i2i.pms.pms.exception.ResourceNotFoundException;
 import com.i2i.pms.pms.mapper.ProjectMapper;
 import com.i2i.pms.pms.mapper.UserMapper;
+import com.i2i.pms.pms.repository.DashboardRollupRepository;
 import com.i2i.pms.pms.repository.IssueRepository;
+import com.i2i.pms.pms.repository.IssueStatistics;
+import com.i2i.pms.pms.repository.ProjectCounts;
 import com.i2i.pms.pms.repository.ProjectRepository;
 import com.i2i.pms.pms.repository.UserRepository;
+import com.i2i.pms.pms.service.DashboardCacheService;
+import com.i2i.pms.pms.service.DashboardCacheService.Scope;
+import com.i2i.pms.pms.service.DashboardCounterService;
 import com.i2i.pms.pms.service.DashboardService;
+import com.i2i.pms.pms.service.ProjectService;
+import com.i2i.pms.pms.service.RealtimeDashboardService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
 public class DashboardServiceImpl implements DashboardService {
 
+    private static final Pageable RECENT_PROJECTS = PageRequest.of(0, 5);
+    private static final Pageable RECENT_ISSUES = PageRequest.of(0, 10);
+
     @Autowired
     private ProjectRepository projectRepository;
 
@@ -32,6 +67,18 @@ public class DashboardServiceImpl implements DashboardService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private DashboardCounterService dashboardCounterService;
+
+    @Autowired
+    private DashboardRollupRepository dashboardRollupRepository;
+
+    @Autowired
+    private RealtimeDashboardService realtimeDashboardService;
+
+    @Autowired
+    private ProjectService projectService;
+
     @Autowired
     private ProjectMapper projectMapper;
 
@@ -41,13 +88,53 @@ public class DashboardServiceImpl implements DashboardService {
     @Autowired
     private UserMapper userMapper;
 
+    @Autowired
+    private DashboardCacheService dashboardCacheService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${dashboard.my.deadline-ms:2000}")
+    private long myDashboardDeadlineMillis;
+
+    @Value("${dashboard.my.threads:8}")
+    private int myDashboardThreads;
+
+    @Value("${dashboard.my.queue-capacity:64}")
+    private int myDashboardQueueCapacity;
+
+    // Bounded pool for the sections of /my-dashboard; a full queue fails the section instead of piling up
+    private ExecutorService sectionExecutor;
+    private TransactionTemplate sectionTransaction;
+
+    @PostConstruct
+    void startSectionExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        sectionExecutor = new ThreadPoolExecutor(myDashboardThreads, myDashboardThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(myDashboardQueueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "my-dashboard-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        // Worker threads have no request-scoped session, so each section runs in its own read-only
+        // transaction whose timeout also cancels statements still running past the deadline
+        sectionTransaction = new TransactionTemplate(transactionManager);
+        sectionTransaction.setReadOnly(true);
+        sectionTransaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(myDashboardDeadlineMillis + 999)));
+    }
+
+    @PreDestroy
+    void stopSectionExecutor() {
+        sectionExecutor.shutdownNow();
+    }
+
     @Override
     public DashboardDto getOverallDashboard() {
         DashboardDto dashboard = new DashboardDto();
         
         // Overall statistics
         dashboard.setTotalProjects(projectRepository.countAllProjects());
-        dashboard.setTotalIssues(issueRepository.countAllIssues());
         dashboard.setTotalUsers(userRepository.count());
         
         // Project statistics
@@ -55,62 +142,55 @@ public class DashboardServiceImpl implements DashboardService {
         dashboard.setCompletedProjects(projectRepository.countCompletedProjects());
         dashboard.setOverdueProjects(0L); // TODO: Implement overdue project logic
         
+        // Issue counters are read from the materialized dashboard counters
+        IssueStatistics statistics = dashboardCounterService.getIssueStatistics(null, LocalDateTime.now());
+        dashboard.setTotalIssues(statistics.getTotalIssues());
+        
         // Issue statistics by status
-        dashboard.setTodoIssues(issueRepository.countByStatus(Issue.Status.TODO));
-        dashboard.setInProgressIssues(issueRepository.countByStatus(Issue.Status.IN_PROGRESS));
-        dashboard.setInReviewIssues(issueRepository.countByStatus(Issue.Status.IN_REVIEW));
-        dashboard.setDoneIssues(issueRepository.countByStatus(Issue.Status.DONE));
-        dashboard.setBlockedIssues(issueRepository.countByStatus(Issue.Status.BLOCKED));
+        dashboard.setTodoIssues(statistics.countByStatus(Issue.Status.TODO));
+        dashboard.setInProgressIssues(statistics.countByStatus(Issue.Status.IN_PROGRESS));
+        dashboard.setInReviewIssues(statistics.countByStatus(Issue.Status.IN_REVIEW));
+        dashboard.setDoneIssues(statistics.countByStatus(Issue.Status.DONE));
+        dashboard.setBlockedIssues(statistics.countByStatus(Issue.Status.BLOCKED));
         
         // Issue statistics by priority
-        dashboard.setCriticalIssues(issueRepository.countByPriority(Issue.Priority.CRITICAL));
-        dashboard.setHighPriorityIssues(issueRepository.countByPriority(Issue.Priority.HIGH));
-        dashboard.setMediumPriorityIssues(issueRepository.countByPriority(Issue.Priority.MEDIUM));
-        dashboard.setLowPriorityIssues(issueRepository.countByPriority(Issue.Priority.LOW));
+        dashboard.setCriticalIssues(statistics.countByPriority(Issue.Priority.CRITICAL));
+        dashboard.setHighPriorityIssues(statistics.countByPriority(Issue.Priority.HIGH));
+        dashboard.setMediumPriorityIssues(statistics.countByPriority(Issue.Priority.MEDIUM));
+        dashboard.setLowPriorityIssues(statistics.countByPriority(Issue.Priority.LOW));
         
         // Issue statistics by type
-        dashboard.setBugIssues(issueRepository.countByIssueType(Issue.IssueType.BUG));
-        dashboard.setStoryIssues(issueRepository.countByIssueType(Issue.IssueType.STORY));
-        dashboard.setTaskIssues(issueRepository.countByIssueType(Issue.IssueType.TASK));
-        dashboard.setEpicIssues(issueRepository.countByIssueType(Issue.IssueType.EPIC));
+        dashboard.setBugIssues(statistics.countByType(Issue.IssueType.BUG));
+        dashboard.setStoryIssues(statistics.countByType(Issue.IssueType.STORY));
+        dashboard.setTaskIssues(statistics.countByType(Issue.IssueType.TASK));
+        dashboard.setEpicIssues(statistics.countByType(Issue.IssueType.EPIC));
         
         // Time-based statistics
-        LocalDateTime now = LocalDateTime.now();
-        dashboard.setOverdueIssues(issueRepository.countOverdueIssues(now));
-        
-        LocalDateTime weekStart = now.toLocalDate().atStartOfDay();
-        LocalDateTime weekEnd = weekStart.plusWeeks(1);
-        dashboard.setDueThisWeekIssues(issueRepository.countIssuesDueBetween(weekStart, weekEnd));
-        
-        LocalDateTime nextWeekStart = weekStart.plusWeeks(1);
-        LocalDateTime nextWeekEnd = nextWeekStart.plusWeeks(1);
-        dashboard.setDueNextWeekIssues(issueRepository.countIssuesDueBetween(nextWeekStart, nextWeekEnd));
+        dashboard.setOverdueIssues(statistics.getOverdueIssues());
+        dashboard.setDueThisWeekIssues(statistics.getDueThisWeekIssues());
+        dashboard.setDueNextWeekIssues(statistics.getDueNextWeekIssues());
         
         // Performance metrics
         dashboard.setAverageIssueResolutionTime(issueRepository.getAverageResolutionTime());
-        dashboard.setIssueCompletionRate(calculateCompletionRate(issueRepository.countCompletedIssues(), dashboard.getTotalIssues()));
+        dashboard.setIssueCompletionRate(calculateCompletionRate(statistics.getCompletedIssues(), dashboard.getTotalIssues()));
         
         // Charts data
-        dashboard.setIssuesByStatus(convertToMap(issueRepository.countIssuesByStatus()));
-        dashboard.setIssuesByPriority(convertToMap(issueRepository.countIssuesByPriority()));
-        dashboard.setIssuesByType(convertToMap(issueRepository.countIssuesByType()));
+        dashboard.setIssuesByStatus(convertToMap(statistics.getByStatus()));
+        dashboard.setIssuesByPriority(convertToMap(statistics.getByPriority()));
+        dashboard.setIssuesByType(convertToMap(statistics.getByType()));
         dashboard.setProjectsByType(convertToMap(projectRepository.countProjectsByType()));
         dashboard.setProjectsByCategory(convertToMap(projectRepository.countProjectsByCategory()));
         
         // Recent activity
-        List<Project> recentProjects = projectRepository.findRecentProjects().stream()
-                .limit(5)
-                .collect(Collectors.toList());
+        List<Project> recentProjects = projectRepository.findRecentProjects(RECENT_PROJECTS);
         dashboard.setRecentProjects(convertToRecentProjectDtos(recentProjects));
         
-        List<Issue> recentIssues = issueRepository.findRecentIssues().stream()
-                .limit(10)
-                .collect(Collectors.toList());
+        List<Issue> recentIssues = issueRepository.findRecentIssues(RECENT_ISSUES);
         dashboard.setRecentIssues(convertToRecentIssueDtos(recentIssues));
         
         // Custom metrics
-        dashboard.setEstimatedHours(issueRepository.getTotalEstimatedTime());
-        dashboard.setActualHours(issueRepository.getTotalActualTime());
+        dashboard.setEstimatedHours(statistics.getEstimatedTime());
+        dashboard.setActualHours(statistics.getActualTime());
         dashboard.setTimeAccuracy(calculateTimeAccuracy(dashboard.getEstimatedHours(), dashboard.getActualHours()));
         
         return dashboard;
@@ -126,15 +206,11 @@ public class DashboardServiceImpl implements DashboardService {
         dashboard.setCompletedIssuesInLeadProjects(calculateCompletedIssuesInLeadProjects(managerId));
         
         // Recent projects as lead
-        List<Project> recentProjectsAsLead = projectRepository.findRecentProjectsByLead(managerId).stream()
-                .limit(5)
-                .collect(Collectors.toList());
+        List<Project> recentProjectsAsLead = projectRepository.findRecentProjectsByLead(managerId, RECENT_PROJECTS);
         dashboard.setRecentProjects(convertToRecentProjectDtos(recentProjectsAsLead));
         
         // Recent issues in lead projects
-        List<Issue> recentIssuesInLeadProjects = getRecentIssuesInLeadProjects(managerId).stream()
-                .limit(10)
-                .collect(Collectors.toList());
+        List<Issue> recentIssuesInLeadProjects = getRecentIssuesInLeadProjects(managerId);
         dashboard.setRecentIssues(convertToRecentIssueDtos(recentIssuesInLeadProjects));
         
         return dashboard;
@@ -145,25 +221,21 @@ public class DashboardServiceImpl implements DashboardService {
         DashboardDto dashboard = new DashboardDto();
         
         // Project-specific statistics
-        dashboard.setTotalIssues(issueRepository.countByProjectId(projectId));
-        dashboard.setTodoIssues(issueRepository.countByProjectIdAndStatus(projectId, Issue.Status.TODO));
-        dashboard.setInProgressIssues(issueRepository.countByProjectIdAndStatus(projectId, Issue.Status.IN_PROGRESS));
-        dashboard.setInReviewIssues(issueRepository.countByProjectIdAndStatus(projectId, Issue.Status.IN_REVIEW));
-        dashboard.setDoneIssues(issueRepository.countByProjectIdAndStatus(projectId, Issue.Status.DONE));
-        dashboard.setBlockedIssues(issueRepository.countByProjectIdAndStatus(projectId, Issue.Status.BLOCKED));
+        IssueStatistics statistics = dashboardCounterService.getIssueStatistics(projectId, LocalDateTime.now());
+        dashboard.setTotalIssues(statistics.getTotalIssues());
+        dashboard.setTodoIssues(statistics.countByStatus(Issue.Status.TODO));
+        dashboard.setInProgressIssues(statistics.countByStatus(Issue.Status.IN_PROGRESS));
+        dashboard.setInReviewIssues(statistics.countByStatus(Issue.Status.IN_REVIEW));
+        dashboard.setDoneIssues(statistics.countByStatus(Issue.Status.DONE));
+        dashboard.setBlockedIssues(statistics.countByStatus(Issue.Status.BLOCKED));
         
         // Recent issues in project
-        List<Issue> recentIssuesInProject = issueRepository.findRecentIssuesByProject(projectId).stream()
-                .limit(10)
-                .collect(Collectors.toList());
+        List<Issue> recentIssuesInProject = issueRepository.findRecentIssuesByProject(projectId, RECENT_ISSUES);
         dashboard.setRecentIssues(convertToRecentIssueDtos(recentIssuesInProject));
         
         // Performance metrics
-        dashboard.setCompletedIssuesInLeadProjects(issueRepository.countCompletedIssuesByProject(projectId));
-        dashboard.setIssueCompletionRate(calculateCompletionRate(
-                issueRepository.countCompletedIssuesByProject(projectId),
-                issueRepository.countByProjectId(projectId)
-        ));
+        dashboard.setCompletedIssuesInLeadProjects(statistics.getCompletedIssues());
+        dashboard.setIssueCompletionRate(calculateCompletionRate(statistics.getCompletedIssues(), statistics.getTotalIssues()));
         
         return dashboard;
     }
@@ -181,9 +253,7 @@ public class DashboardServiceImpl implements DashboardService {
         dashboard.setProjectsAsLead(projectRepository.countProjectsByMember(memberUserId));
         
         // Recent projects as member
-        List<Project> recentProjectsAsMember = projectRepository.findRecentProjectsByMember(memberUserId).stream()
-                .limit(5)
-                .collect(Collectors.toList());
+        List<Project> recentProjectsAsMember = projectRepository.findRecentProjectsByMember(memberUserId, RECENT_PROJECTS);
         dashboard.setRecentProjects(convertToRecentProjectDtos(recentProjectsAsMember));
         
         return dashboard;
@@ -200,9 +270,7 @@ public class DashboardServiceImpl implements DashboardService {
         dashboard.setDoneIssues(issueRepository.countByAssigneeIdAndStatus(assigneeId, Issue.Status.DONE));
         
         // Recent assigned issues
-        List<Issue> recentAssignedIssues = issueRepository.findRecentIssuesByAssignee(assigneeId).stream()
-                .limit(10)
-                .collect(Collectors.toList());
+        List<Issue> recentAssignedIssues = issueRepository.findRecentIssuesByAssignee(assigneeId, RECENT_ISSUES);
         dashboard.setRecentIssues(convertToRecentIssueDtos(recentAssignedIssues));
         
         return dashboard;
@@ -216,9 +284,7 @@ public class DashboardServiceImpl implements DashboardService {
         dashboard.setTotalIssues(issueRepository.countByReporterId(reporterId));
         
         // Recent reported issues
-        List<Issue> recentReportedIssues = issueRepository.findRecentIssuesByReporter(reporterId).stream()
-                .limit(10)
-                .collect(Collectors.toList());
+        List<Issue> recentReportedIssues = issueRepository.findRecentIssuesByReporter(reporterId, RECENT_ISSUES);
         dashboard.setRecentIssues(convertToRecentIssueDtos(recentReportedIssues));
         
         return dashboard;
@@ -226,17 +292,105 @@ public class DashboardServiceImpl implements DashboardService {
 
     @Override
     public DashboardDto getDashboardForPeriod(String startDate, String endDate) {
-        // TODO: Implement period-based dashboard
-        return getOverallDashboard();
+        LocalDate start = parseDate(startDate, "startDate");
+        LocalDate end = parseDate(endDate, "endDate");
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("startDate must not be after endDate");
+        }
+
+        DashboardDto dashboard = new DashboardDto();
+        dashboard.setPeriodStart(start);
+        dashboard.setPeriodEnd(end);
+
+        // Totals are summed over the period's daily rollups, so the cost follows the number of days
+        Object[] totals = dashboardRollupRepository.sumPeriod(start, end, LocalDate.now()).get(0);
+        dashboard.setCreatedIssues(((Number) totals[0]).longValue());
+        dashboard.setResolvedIssues(((Number) totals[1]).longValue());
+        dashboard.setOverdueIssues(((Number) totals[2]).longValue());
+        dashboard.setLoggedHours(((Number) totals[3]).longValue() / 60.0);
+
+        // Issues created in the period, by their current status and assignee
+        dashboard.setIssuesByStatus(convertToMap(dashboardRollupRepository.sumCreatedByStatus(start, end)));
+        dashboard.setIssuesByAssignee(convertToAssigneeMap(dashboardRollupRepository.sumCreatedByAssignee(start, end)));
+
+        return dashboard;
     }
 
     @Override
     public DashboardDto getRealTimeDashboard() {
-        // TODO: Implement real-time dashboard (last 24 hours)
-        return getOverallDashboard();
+        // Served from the in-memory 24 hour window; no database queries
+        Map<String, Long> counters = realtimeDashboardService.getSnapshot().getCounters();
+        DashboardDto dashboard = new DashboardDto();
+        dashboard.setCreatedIssues(counters.get(DashboardActivityEvent.Metric.ISSUES_CREATED.name()));
+        dashboard.setResolvedIssues(counters.get(DashboardActivityEvent.Metric.ISSUES_RESOLVED.name()));
+        dashboard.setTotalComments(counters.get(DashboardActivityEvent.Metric.COMMENTS_ADDED.name()));
+        dashboard.setLoggedHours(counters.get(DashboardActivityEvent.Metric.MINUTES_LOGGED.name()) / 60.0);
+        return dashboard;
+    }
+
+    @Override
+    public MyDashboardDto getMyDashboard(Long userId, boolean includeManagerSection) {
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User", "id", userId.toString());
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(myDashboardDeadlineMillis);
+
+        // The perspectives are independent, so latency follows the slowest one rather than their sum
+        Future<DashboardDto> asManager = includeManagerSection
+                ? submitSection(Scope.MANAGER, userId, () -> getManagerDashboard(userId)) : null;
+        Future<DashboardDto> asMember = submitSection(Scope.MEMBER, userId, () -> getProjectsAsMemberDashboard(userId));
+        Future<DashboardDto> assignedIssues = submitSection(Scope.ASSIGNEE, userId, () -> getAssignedIssuesDashboard(userId));
+        Future<DashboardDto> reportedIssues = submitSection(Scope.REPORTER, userId, () -> getReportedIssuesDashboard(userId));
+
+        MyDashboardDto dashboard = new MyDashboardDto();
+        List<String> missingSections = new ArrayList<>();
+        dashboard.setUserId(userId);
+        if (includeManagerSection) {
+            dashboard.setAsManager(awaitSection("asManager", asManager, deadline, missingSections));
+        }
+        dashboard.setAsMember(awaitSection("asMember", asMember, deadline, missingSections));
+        dashboard.setAssignedIssues(awaitSection("assignedIssues", assignedIssues, deadline, missingSections));
+        dashboard.setReportedIssues(awaitSection("reportedIssues", reportedIssues, deadline, missingSections));
+        dashboard.setPartial(!missingSections.isEmpty());
+        dashboard.setMissingSections(missingSections);
+        return dashboard;
     }
 
     // Helper methods
+    private Future<DashboardDto> submitSection(Scope scope, Long userId, Supplier<DashboardDto> loader) {
+        try {
+            return sectionExecutor.submit(() -> dashboardCacheService.get(scope, userId,
+                    () -> sectionTransaction.execute(status -> loader.get())));
+        } catch (RejectedExecutionException e) {
+            return null;
+        }
+    }
+
+    // Waits for a section until the shared deadline; null when it timed out or was never scheduled
+    private DashboardDto awaitSection(String name, Future<DashboardDto> section, long deadline, List<String> missingSections) {
+        if (section == null) {
+            missingSections.add(name);
+            return null;
+        }
+        try {
+            return section.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            section.cancel(true);
+            missingSections.add(name);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            section.cancel(true);
+            missingSections.add(name);
+            return null;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException("Failed to load dashboard section " + name, e.getCause());
+        }
+    }
+
     private Double calculateCompletionRate(Long completed, Long total) {
         if (total == null || total == 0) return 0.0;
         return (double) completed / total * 100;
@@ -258,13 +412,51 @@ public class DashboardServiceImpl implements DashboardService {
         return result;
     }
 
+    // Charts only list values that actually occur, matching the GROUP BY results they replace
+    private Map<String, Long> convertToMap(Map<? extends Enum<?>, Long> counts) {
+        Map<String, Long> result = new HashMap<>();
+        counts.forEach((key, count) -> {
+            if (count > 0) {
+                result.put(key.toString(), count);
+            }
+        });
+        return result;
+    }
+
+    private Map<String, Long> convertToAssigneeMap(List<Object[]> data) {
+        Map<Long, String> names = new HashMap<>();
+        List<Long> assigneeIds = data.stream()
+                .map(row -> (Long) row[0])
+                .filter(id -> id != DashboardRollup.UNASSIGNED)
+                .collect(Collectors.toList());
+        userRepository.findAllById(assigneeIds).forEach(user -> names.put(user.getId(), user.getName()));
+
+        Map<String, Long> result = new HashMap<>();
+        for (Object[] row : data) {
+            Long assigneeId = (Long) row[0];
+            String name = assigneeId == DashboardRollup.UNASSIGNED ? "Unassigned" : names.getOrDefault(assigneeId, "User " + assigneeId);
+            result.merge(name, ((Number) row[1]).longValue(), Long::sum);
+        }
+        return result;
+    }
+
+    private LocalDate parseDate(String value, String name) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(name + " must be a date in YYYY-MM-DD format");
+        }
+    }
+
     private List<RecentProjectDto> convertToRecentProjectDtos(List<Project> projects) {
+        Map<Long, ProjectCounts> counts = projectService.getProjectCounts(
+                projects.stream().map(Project::getId).collect(Collectors.toList()));
         return projects.stream()
-                .map(this::convertToRecentProjectDto)
+                .map(project -> convertToRecentProjectDto(project, counts.get(project.getId())))
                 .collect(Collectors.toList());
     }
 
-    private RecentProjectDto convertToRecentProjectDto(Project project) {
+    private RecentProjectDto convertToRecentProjectDto(Project project, ProjectCounts counts) {
         RecentProjectDto dto = new RecentProjectDto();
         dto.setId(project.getId());
         dto.setProjectKey(project.getProjectKey());
@@ -276,25 +468,23 @@ public class DashboardServiceImpl implements DashboardService {
         dto.setUpdatedAt(project.getUpdatedAt());
         dto.setIsActive(project.getIsActive());
         dto.setProjectLead(userMapper.toDto(project.getProjectLead()));
-        dto.setMemberCount(project.getMembers().size());
-        dto.setIssueCount(project.getIssues().size());
-        
-        long completedIssues = project.getIssues().stream()
-                .filter(issue -> issue.getStatus() == Issue.Status.DONE)
-                .count();
-        dto.setCompletedIssueCount((int) completedIssues);
-        dto.setCompletionPercentage(calculateCompletionRate((long) completedIssues, (long) project.getIssues().size()));
+        dto.setMemberCount((int) counts.getMemberCount());
+        dto.setIssueCount((int) counts.getIssueCount());
+        dto.setCompletedIssueCount((int) counts.getCompletedIssueCount());
+        dto.setCompletionPercentage(calculateCompletionRate(counts.getCompletedIssueCount(), counts.getIssueCount()));
         
         return dto;
     }
 
     private List<RecentIssueDto> convertToRecentIssueDtos(List<Issue> issues) {
+        Map<Long, ProjectCounts> projectCounts = projectService.getProjectCounts(
+                issues.stream().map(issue -> issue.getProject().getId()).collect(Collectors.toSet()));
         return issues.stream()
-                .map(this::convertToRecentIssueDto)
+                .map(issue -> convertToRecentIssueDto(issue, projectCounts.get(issue.getProject().getId())))
                 .collect(Collectors.toList());
     }
 
-    private RecentIssueDto convertToRecentIssueDto(Issue issue) {
+    private RecentIssueDto convertToRecentIssueDto(Issue issue, ProjectCounts projectCounts) {
         RecentIssueDto dto = new RecentIssueDto();
         dto.setId(issue.getId());
         dto.setIssueKey(issue.getIssueKey());
@@ -309,11 +499,11 @@ public class DashboardServiceImpl implements DashboardService {
         dto.setDueDate(issue.getDueDate());
         dto.setEstimatedTime(issue.getEstimatedTime() != null ? issue.getEstimatedTime().longValue() : 0L);
         dto.setActualTime(issue.getActualTime() != null ? issue.getActualTime().longValue() : 0L);
-        dto.setProject(projectMapper.toDto(issue.getProject()));
+        dto.setProject(projectMapper.toDto(issue.getProject(), projectCounts, false));
         dto.setReporter(userMapper.toDto(issue.getReporter()));
         dto.setAssignee(issue.getAssignee() != null ? userMapper.toDto(issue.getAssignee()) : null);
-        dto.setCommentCount(issue.getComments().size());
-        dto.setWatcherCount(issue.getWatchers().size());
+        dto.setCommentCount(issue.getCommentCount());
+        dto.setWatcherCount(issue.getWatcherCount());
         
         // Calculate overdue status
         if (issue.getDueDate() != null && issue.getStatus() != Issue.Status.DONE) {
@@ -335,6 +525,6 @@ public class DashboardServiceImpl implements DashboardService {
     }
 
     private List<Issue> getRecentIssuesInLeadProjects(Long managerId) {
-        return issueRepository.findIssuesInLeadProjects(managerId);
+        return issueRepository.findIssuesInLeadProjects(managerId, RECENT_ISSUES);
     }
 } 
\ No newline at end of file
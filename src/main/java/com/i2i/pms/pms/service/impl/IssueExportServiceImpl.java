@@ -0,0 +1,125 @@
+package com.i2i.pms.pms.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.i2i.pms.pms.dto.IssueDto;
+import com.i2i.pms.pms.repository.IssueRepository;
+import com.i2i.pms.pms.repository.IssueView;
+import com.i2i.pms.pms.service.IssueExportService;
+import com.i2i.pms.pms.service.IssueQueryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+@Transactional(readOnly = true)
+public class IssueExportServiceImpl implements IssueExportService {
+
+    // Rows mapped together (one tag and one user lookup each) and written before flushing the response
+    private static final int BATCH_SIZE = 500;
+
+    private static final String[] CSV_HEADER = {
+        "id", "taskKey", "title", "issueType", "priority", "status", "resolution", "projectId",
+        "assignee", "reporter", "estimatedHours", "actualHours", "dueDate", "tags", "createdAt", "updatedAt"
+    };
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private IssueQueryService issueQueryService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    public long exportIssues(Format format, Long projectId, Writer writer) throws IOException {
+        if (format == Format.CSV) {
+            writeCsvRow(writer, CSV_HEADER);
+        }
+
+        long count = 0;
+        // Projections only: no managed entities pile up, and tags and users are read once per chunk
+        try (Stream<IssueView> issues = projectId != null
+                ? issueRepository.streamViewsByProjectForExport(projectId)
+                : issueRepository.streamViewsForExport()) {
+            Iterator<IssueView> iterator = issues.iterator();
+            List<IssueView> chunk = new ArrayList<>(BATCH_SIZE);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == BATCH_SIZE || !iterator.hasNext()) {
+                    count += writeChunk(format, chunk, writer);
+                    chunk.clear();
+                }
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    // Helper methods
+    private int writeChunk(Format format, List<IssueView> chunk, Writer writer) throws IOException {
+        for (IssueDto dto : issueQueryService.toIssueDtos(chunk)) {
+            if (format == Format.CSV) {
+                writeCsvRow(writer, toCsvRow(dto));
+            } else {
+                writer.write(objectMapper.writeValueAsString(dto));
+                writer.write('\n');
+            }
+        }
+        // Keep heap flat: push what we have to the client
+        writer.flush();
+        return chunk.size();
+    }
+
+    private String[] toCsvRow(IssueDto dto) {
+        return new String[] {
+            toString(dto.getId()),
+            dto.getTaskKey(),
+            dto.getTitle(),
+            toString(dto.getIssueType()),
+            toString(dto.getPriority()),
+            toString(dto.getStatus()),
+            toString(dto.getResolution()),
+            toString(dto.getProjectId()),
+            dto.getAssignee() != null ? dto.getAssignee().getUsername() : null,
+            dto.getReporter() != null ? dto.getReporter().getUsername() : null,
+            toString(dto.getEstimatedHours()),
+            toString(dto.getActualHours()),
+            toString(dto.getDueDate()),
+            dto.getTags() != null ? String.join(";", dto.getTags()) : null,
+            toString(dto.getCreatedAt()),
+            toString(dto.getUpdatedAt())
+        };
+    }
+
+    private void writeCsvRow(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    private String toString(Object value) {
+        return value != null ? value.toString() : null;
+    }
+}
@@ -0,0 +1,494 @@
+package com.i2i.pms.pms.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.i2i.pms.pms.dto.IssueImportDto;
+import com.i2i.pms.pms.dto.IssueImportRecord;
+import com.i2i.pms.pms.entity.Issue;
+import com.i2i.pms.pms.entity.IssueImport;
+import com.i2i.pms.pms.exception.ResourceNotFoundException;
+import com.i2i.pms.pms.repository.IssueImportRepository;
+import com.i2i.pms.pms.repository.IssueRepository;
+import com.i2i.pms.pms.repository.ProjectRepository;
+import com.i2i.pms.pms.repository.UserRepository;
+import com.i2i.pms.pms.service.IssueImportService;
+import com.i2i.pms.pms.service.IssueService;
+import com.i2i.pms.pms.util.CsvReader;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@Transactional
+public class IssueImportServiceImpl implements IssueImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(IssueImportServiceImpl.class);
+
+    @Value("${issues.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${issues.import.max-reported-errors:100}")
+    private int maxReportedErrors;
+
+    @Autowired
+    private IssueImportRepository issueImportRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public IssueImportDto importIssues(Format format, Reader reader, Long importId, Long importerId) throws IOException {
+        IssueImport issueImport = transactionTemplate.execute(status -> start(format, importId, importerId));
+        ImportContext context = new ImportContext(importerId);
+        long checkpoint = issueImport.getRecordsProcessed();
+        try {
+            RecordSource source = format == Format.CSV ? new CsvRecordSource(reader) : new NdjsonRecordSource(reader);
+            for (long skipped = 0; skipped < checkpoint; skipped++) {
+                if (!source.skip()) {
+                    throw new IllegalArgumentException("The input has fewer records than import " + issueImport.getId()
+                            + " already processed");
+                }
+            }
+
+            List<ParsedRecord> chunk = new ArrayList<>(chunkSize);
+            ParsedRecord record;
+            while ((record = source.next()) != null) {
+                chunk.add(record);
+                if (chunk.size() == chunkSize) {
+                    issueImport = importChunk(issueImport.getId(), checkpoint, chunk, context);
+                    checkpoint = issueImport.getRecordsProcessed();
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                issueImport = importChunk(issueImport.getId(), checkpoint, chunk, context);
+                checkpoint = issueImport.getRecordsProcessed();
+            }
+
+            Long id = issueImport.getId();
+            issueImport = transactionTemplate.execute(status -> finish(id));
+            return toDto(issueImport, context.errors);
+        } catch (IOException | RuntimeException ex) {
+            entityManager.clear();
+            Long id = issueImport.getId();
+            long committed = checkpoint;
+            transactionTemplate.executeWithoutResult(status -> interrupt(id, committed, ex));
+            throw ex;
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public IssueImportDto getImport(Long importId) {
+        IssueImport issueImport = issueImportRepository.findById(importId)
+                .orElseThrow(() -> new ResourceNotFoundException("Issue import", "id", importId.toString()));
+        return toDto(issueImport, List.of());
+    }
+
+    // Helper methods
+    private IssueImport start(Format format, Long importId, Long importerId) {
+        if (importId == null) {
+            return issueImportRepository.save(new IssueImport(format.name(), importerId));
+        }
+        IssueImport issueImport = issueImportRepository.lockById(importId)
+                .orElseThrow(() -> new ResourceNotFoundException("Issue import", "id", importId.toString()));
+        if (issueImport.getStatus() == IssueImport.ImportStatus.COMPLETED) {
+            throw new IllegalStateException("Issue import " + importId + " has already completed");
+        }
+        if (!issueImport.getFormat().equals(format.name())) {
+            throw new IllegalArgumentException("Issue import " + importId + " reads " + issueImport.getFormat() + " input");
+        }
+        issueImport.setStatus(IssueImport.ImportStatus.RUNNING);
+        issueImport.setLastError(null);
+        return issueImport;
+    }
+
+    private IssueImport importChunk(Long importId, long checkpoint, List<ParsedRecord> chunk, ImportContext context) {
+        IssueImport issueImport = transactionTemplate.execute(status -> writeChunk(importId, checkpoint, chunk, context));
+        // The chunk is committed; drop its entities so a long import keeps a small persistence context
+        entityManager.clear();
+        log.info("Issue import {}: {} records processed, {} issues created, {} failed", importId,
+                issueImport.getRecordsProcessed(), issueImport.getIssuesCreated(), issueImport.getRecordsFailed());
+        return issueImport;
+    }
+
+    private IssueImport writeChunk(Long importId, long checkpoint, List<ParsedRecord> chunk, ImportContext context) {
+        IssueImport issueImport = issueImportRepository.lockById(importId)
+                .orElseThrow(() -> new ResourceNotFoundException("Issue import", "id", importId.toString()));
+        if (issueImport.getRecordsProcessed() != checkpoint) {
+            throw new IllegalStateException("Issue import " + importId + " was advanced by another run");
+        }
+
+        resolveReferences(chunk, context);
+        Set<String> explicitKeys = new HashSet<>();
+        for (ParsedRecord record : chunk) {
+            if (record.data() != null && hasText(record.data().getIssueKey())) {
+                explicitKeys.add(record.data().getIssueKey());
+            }
+        }
+        Set<String> existingKeys = explicitKeys.isEmpty()
+                ? Set.of()
+                : new HashSet<>(issueRepository.findExistingIssueKeys(explicitKeys));
+
+        List<IssueImportRecord> valid = new ArrayList<>(chunk.size());
+        Set<String> chunkKeys = new HashSet<>();
+        for (ParsedRecord record : chunk) {
+            String error = record.error() != null ? record.error() : validate(record.data(), context, existingKeys, chunkKeys);
+            if (error != null) {
+                context.reportError(record, error);
+            } else {
+                valid.add(record.data());
+            }
+        }
+
+        // Explicit keys move their project's counter past them first, so allocated keys cannot collide
+        Map<Long, Long> highestExplicitNumbers = new HashMap<>();
+        Map<Long, Integer> keysToAllocate = new LinkedHashMap<>();
+        for (IssueImportRecord data : valid) {
+            Long projectId = context.projectIds.get(data.getProjectKey());
+            if (hasText(data.getIssueKey())) {
+                Long number = keyNumber(data.getIssueKey(), data.getProjectKey());
+                if (number != null) {
+                    highestExplicitNumbers.merge(projectId, number, Math::max);
+                }
+            } else {
+                keysToAllocate.merge(projectId, 1, Integer::sum);
+            }
+        }
+        highestExplicitNumbers.forEach(projectRepository::reserveIssueNumbersThrough);
+        Map<Long, Iterator<String>> allocatedKeys = new HashMap<>();
+        keysToAllocate.forEach((projectId, count) ->
+                allocatedKeys.put(projectId, issueService.generateIssueKeys(projectId, count).iterator()));
+
+        List<Issue> issues = new ArrayList<>(valid.size());
+        for (IssueImportRecord data : valid) {
+            Long projectId = context.projectIds.get(data.getProjectKey());
+            String issueKey = hasText(data.getIssueKey()) ? data.getIssueKey() : allocatedKeys.get(projectId).next();
+            issues.add(toIssue(data, issueKey, projectId, context));
+        }
+        issueService.createIssues(issues);
+
+        issueImport.setRecordsProcessed(checkpoint + chunk.size());
+        issueImport.setIssuesCreated(issueImport.getIssuesCreated() + issues.size());
+        issueImport.setRecordsFailed(issueImport.getRecordsFailed() + chunk.size() - issues.size());
+        return issueImport;
+    }
+
+    private IssueImport finish(Long importId) {
+        IssueImport issueImport = issueImportRepository.lockById(importId)
+                .orElseThrow(() -> new ResourceNotFoundException("Issue import", "id", importId.toString()));
+        issueImport.setStatus(IssueImport.ImportStatus.COMPLETED);
+        return issueImport;
+    }
+
+    // Leaves the import to whichever run advanced it past this run's last committed chunk
+    private void interrupt(Long importId, long committed, Exception cause) {
+        issueImportRepository.lockById(importId).ifPresent(issueImport -> {
+            if (issueImport.getRecordsProcessed() == committed && issueImport.getStatus() == IssueImport.ImportStatus.RUNNING) {
+                issueImport.setStatus(IssueImport.ImportStatus.INTERRUPTED);
+                issueImport.setLastError(cause.getMessage());
+            }
+        });
+    }
+
+    // Looks up the chunk's unseen project keys and usernames, one query each; misses are remembered too
+    private void resolveReferences(List<ParsedRecord> chunk, ImportContext context) {
+        Set<String> projectKeys = new HashSet<>();
+        Set<String> usernames = new HashSet<>();
+        for (ParsedRecord record : chunk) {
+            IssueImportRecord data = record.data();
+            if (data == null) {
+                continue;
+            }
+            if (hasText(data.getProjectKey()) && !context.projectIds.containsKey(data.getProjectKey())) {
+                projectKeys.add(data.getProjectKey());
+            }
+            for (String username : new String[] {data.getReporter(), data.getAssignee()}) {
+                if (hasText(username) && !context.userIds.containsKey(username)) {
+                    usernames.add(username);
+                }
+            }
+        }
+        if (!projectKeys.isEmpty()) {
+            projectKeys.forEach(projectKey -> context.projectIds.put(projectKey, null));
+            for (Object[] row : projectRepository.findIdsByProjectKeyIn(projectKeys)) {
+                context.projectIds.put((String) row[0], (Long) row[1]);
+            }
+        }
+        if (!usernames.isEmpty()) {
+            usernames.forEach(username -> context.userIds.put(username, null));
+            for (Object[] row : userRepository.findIdsByUsernameIn(usernames)) {
+                context.userIds.put((String) row[0], (Long) row[1]);
+            }
+        }
+    }
+
+    private String validate(IssueImportRecord data, ImportContext context, Set<String> existingKeys, Set<String> chunkKeys) {
+        if (!hasText(data.getSummary())) {
+            return "Summary is required";
+        }
+        if (data.getSummary().trim().length() < 2 || data.getSummary().trim().length() > 255) {
+            return "Summary must be between 2 and 255 characters";
+        }
+        if (data.getDescription() != null && data.getDescription().length() > 10000) {
+            return "Description cannot exceed 10000 characters";
+        }
+        if (!hasText(data.getProjectKey())) {
+            return "Project key is required";
+        }
+        if (context.projectIds.get(data.getProjectKey()) == null) {
+            return "Unknown project '" + data.getProjectKey() + "'";
+        }
+        if (hasText(data.getReporter()) ? context.userIds.get(data.getReporter()) == null : context.importerId == null) {
+            return hasText(data.getReporter()) ? "Unknown reporter '" + data.getReporter() + "'" : "Reporter is required";
+        }
+        if (hasText(data.getAssignee()) && context.userIds.get(data.getAssignee()) == null) {
+            return "Unknown assignee '" + data.getAssignee() + "'";
+        }
+        String issueKey = data.getIssueKey();
+        if (hasText(issueKey)) {
+            if (issueKey.length() < 2 || issueKey.length() > 20) {
+                return "Issue key must be between 2 and 20 characters";
+            }
+            if (existingKeys.contains(issueKey)) {
+                return "Issue with key '" + issueKey + "' already exists";
+            }
+            if (!chunkKeys.add(issueKey)) {
+                return "Issue key '" + issueKey + "' appears more than once";
+            }
+        }
+        return null;
+    }
+
+    private Issue toIssue(IssueImportRecord data, String issueKey, Long projectId, ImportContext context) {
+        Issue issue = new Issue(issueKey, data.getSummary().trim(), data.getDescription());
+        if (data.getIssueType() != null) {
+            issue.setIssueType(data.getIssueType());
+        }
+        if (data.getPriority() != null) {
+            issue.setPriority(data.getPriority());
+        }
+        if (data.getStatus() != null) {
+            issue.setStatus(data.getStatus());
+        }
+        issue.setResolution(data.getResolution());
+        issue.setProject(projectRepository.getReferenceById(projectId));
+        Long reporterId = hasText(data.getReporter()) ? context.userIds.get(data.getReporter()) : context.importerId;
+        issue.setReporter(userRepository.getReferenceById(reporterId));
+        if (hasText(data.getAssignee())) {
+            issue.setAssignee(userRepository.getReferenceById(context.userIds.get(data.getAssignee())));
+        }
+        issue.setEstimatedTime(data.getEstimatedTime());
+        issue.setActualTime(data.getActualTime());
+        issue.setDueDate(data.getDueDate());
+        if (data.getTags() != null) {
+            for (String tag : data.getTags()) {
+                if (hasText(tag)) {
+                    issue.getTags().add(tag.trim());
+                }
+            }
+        }
+        // Keep the old tracker's timestamps; a DONE issue without a resolution time counts as resolved when created
+        issue.setCreatedAt(data.getCreatedAt());
+        issue.setResolvedAt(issue.getStatus() == Issue.Status.DONE ? data.getResolvedAt() : null);
+        return issue;
+    }
+
+    // The number of a key in the project's own sequence, e.g. 42 for PRJ-42 in project PRJ
+    private Long keyNumber(String issueKey, String projectKey) {
+        String prefix = projectKey + "-";
+        if (!issueKey.startsWith(prefix) || !issueKey.substring(prefix.length()).matches("[0-9]{1,18}")) {
+            return null;
+        }
+        return Long.parseLong(issueKey.substring(prefix.length()));
+    }
+
+    private IssueImportDto toDto(IssueImport issueImport, List<IssueImportDto.RecordError> errors) {
+        IssueImportDto dto = new IssueImportDto();
+        dto.setId(issueImport.getId());
+        dto.setFormat(issueImport.getFormat());
+        dto.setStatus(issueImport.getStatus().name());
+        dto.setRecordsProcessed(issueImport.getRecordsProcessed());
+        dto.setIssuesCreated(issueImport.getIssuesCreated());
+        dto.setRecordsFailed(issueImport.getRecordsFailed());
+        dto.setLastError(issueImport.getLastError());
+        dto.setCreatedAt(issueImport.getCreatedAt());
+        dto.setUpdatedAt(issueImport.getUpdatedAt());
+        dto.setErrors(new ArrayList<>(errors));
+        return dto;
+    }
+
+    private boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    // A record as read from the input: the parsed data, or why it could not be parsed
+    private record ParsedRecord(long number, IssueImportRecord data, String error) {
+    }
+
+    // State of one run: resolved ids, kept across chunks, and the errors reported so far
+    private final class ImportContext {
+
+        private final Long importerId;
+        private final Map<String, Long> projectIds = new HashMap<>();
+        private final Map<String, Long> userIds = new HashMap<>();
+        private final List<IssueImportDto.RecordError> errors = new ArrayList<>();
+
+        private ImportContext(Long importerId) {
+            this.importerId = importerId;
+        }
+
+        private void reportError(ParsedRecord record, String message) {
+            if (errors.size() < maxReportedErrors) {
+                String issueKey = record.data() != null ? record.data().getIssueKey() : null;
+                errors.add(new IssueImportDto.RecordError(record.number(), issueKey, message));
+            }
+        }
+    }
+
+    private interface RecordSource {
+
+        // The next record, or null at the end of the input
+        ParsedRecord next() throws IOException;
+
+        // Passes over the next record without parsing it; false at the end of the input
+        boolean skip() throws IOException;
+    }
+
+    // One JSON object per line; blank lines are not records
+    private final class NdjsonRecordSource implements RecordSource {
+
+        private final BufferedReader reader;
+        private final ObjectReader recordReader = objectMapper.readerFor(IssueImportRecord.class);
+        private long count;
+
+        private NdjsonRecordSource(Reader reader) {
+            this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        }
+
+        @Override
+        public ParsedRecord next() throws IOException {
+            String line = nextLine();
+            if (line == null) {
+                return null;
+            }
+            count++;
+            try {
+                return new ParsedRecord(count, recordReader.readValue(line), null);
+            } catch (JsonProcessingException ex) {
+                return new ParsedRecord(count, null, "Malformed record: " + ex.getOriginalMessage());
+            }
+        }
+
+        @Override
+        public boolean skip() throws IOException {
+            if (nextLine() == null) {
+                return false;
+            }
+            count++;
+            return true;
+        }
+
+        private String nextLine() throws IOException {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    return line;
+                }
+            }
+            return null;
+        }
+    }
+
+    // A header row naming the columns, in any order, then one record per row; tags are separated by ';'
+    private final class CsvRecordSource implements RecordSource {
+
+        private final CsvReader reader;
+        private List<String> columns;
+        private long count;
+
+        private CsvRecordSource(Reader reader) {
+            this.reader = new CsvReader(reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader));
+        }
+
+        @Override
+        public ParsedRecord next() throws IOException {
+            List<String> fields = nextRow();
+            if (fields == null) {
+                return null;
+            }
+            count++;
+            Map<String, Object> values = new HashMap<>();
+            for (int i = 0; i < Math.min(columns.size(), fields.size()); i++) {
+                if (!fields.get(i).isEmpty()) {
+                    values.put(columns.get(i), "tags".equals(columns.get(i)) ? List.of(fields.get(i).split(";")) : fields.get(i));
+                }
+            }
+            try {
+                return new ParsedRecord(count, objectMapper.convertValue(values, IssueImportRecord.class), null);
+            } catch (IllegalArgumentException ex) {
+                String reason = ex.getCause() instanceof JsonProcessingException cause ? cause.getOriginalMessage() : ex.getMessage();
+                return new ParsedRecord(count, null, "Malformed record: " + reason);
+            }
+        }
+
+        @Override
+        public boolean skip() throws IOException {
+            if (nextRow() == null) {
+                return false;
+            }
+            count++;
+            return true;
+        }
+
+        private List<String> nextRow() throws IOException {
+            if (columns == null) {
+                List<String> header = reader.readRecord();
+                if (header == null) {
+                    return null;
+                }
+                columns = header.stream().map(String::trim).toList();
+            }
+            return reader.readRecord();
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.i2i.pms.pms.service.impl;
+
+import com.i2i.pms.pms.dto.CursorPage;
+import com.i2i.pms.pms.dto.IssueDto;
+import com.i2i.pms.pms.dto.UserDto;
+import com.i2i.pms.pms.entity.Project;
+import com.i2i.pms.pms.exception.ResourceNotFoundException;
+import com.i2i.pms.pms.mapper.IssueMapper;
+import com.i2i.pms.pms.mapper.UserMapper;
+import com.i2i.pms.pms.repository.IssueCursor;
+import com.i2i.pms.pms.repository.IssueListScope;
+import com.i2i.pms.pms.repository.IssueRepository;
+import com.i2i.pms.pms.repository.IssueTag;
+import com.i2i.pms.pms.repository.IssueView;
+import com.i2i.pms.pms.repository.ProjectRepository;
+import com.i2i.pms.pms.repository.UserRepository;
+import com.i2i.pms.pms.repository.UserRoleName;
+import com.i2i.pms.pms.repository.UserView;
+import com.i2i.pms.pms.service.IssueQueryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@Service
+@Transactional(readOnly = true)
+public class IssueQueryServiceImpl implements IssueQueryService {
+
+    // Upper bound on IN-list parameters per batched lookup
+    private static final int LOOKUP_BATCH_SIZE = 1000;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private IssueMapper issueMapper;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Value("${issues.page.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${issues.page.max-size:200}")
+    private int maxPageSize;
+
+    @Override
+    public CursorPage<IssueDto> getIssuePage(IssueListScope scope, Long ownerId, String cursor, Integer size) {
+        int limit = resolvePageSize(size);
+        IssueCursor after = cursor != null && !cursor.isEmpty() ? IssueCursor.decode(cursor) : null;
+
+        // Fetch one extra row to find out whether another page follows
+        List<IssueView> issues = issueRepository.findIssueViewPage(scope, ownerId, after, limit + 1);
+        String nextCursor = null;
+        if (issues.size() > limit) {
+            issues = issues.subList(0, limit);
+            nextCursor = IssueCursor.of(issues.get(limit - 1)).encode();
+        }
+        return new CursorPage<>(toDtos(issues), nextCursor, limit);
+    }
+
+    @Override
+    public CursorPage<IssueDto> getIssuePageByProjectKey(String projectKey, String cursor, Integer size) {
+        Project project = projectRepository.findByProjectKey(projectKey)
+                .orElseThrow(() -> new ResourceNotFoundException("Project", "projectKey", projectKey));
+        return getIssuePage(IssueListScope.PROJECT, project.getId(), cursor, size);
+    }
+
+    @Override
+    public List<IssueDto> getIssues(IssueListScope scope, Long ownerId) {
+        return toDtos(issueRepository.findIssueViews(scope, ownerId));
+    }
+
+    @Override
+    public List<IssueDto> getIssuesByProjectKey(String projectKey) {
+        Optional<Project> project = projectRepository.findByProjectKey(projectKey);
+        if (project.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return getIssues(IssueListScope.PROJECT, project.get().getId());
+    }
+
+    @Override
+    public List<IssueDto> getIssuesByIds(List<Long> issueIds) {
+        Map<Long, IssueView> issuesById = new HashMap<>();
+        for (List<Long> batch : partition(issueIds)) {
+            for (IssueView issue : issueRepository.findIssueViewsByIdIn(batch)) {
+                issuesById.put(issue.id(), issue);
+            }
+        }
+
+        List<IssueView> issues = new ArrayList<>(issuesById.size());
+        for (Long issueId : issueIds) {
+            IssueView issue = issuesById.get(issueId);
+            if (issue != null) {
+                issues.add(issue);
+            }
+        }
+        return toDtos(issues);
+    }
+
+    @Override
+    public List<IssueDto> toIssueDtos(List<IssueView> issues) {
+        return toDtos(issues);
+    }
+
+    // Helper methods
+    private List<IssueDto> toDtos(List<IssueView> issues) {
+        if (issues.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> issueIds = new ArrayList<>(issues.size());
+        Set<Long> userIds = new LinkedHashSet<>();
+        for (IssueView issue : issues) {
+            issueIds.add(issue.id());
+            userIds.add(issue.reporterId());
+            if (issue.assigneeId() != null) {
+                userIds.add(issue.assigneeId());
+            }
+        }
+        Map<Long, Set<String>> tagsByIssue = loadTags(issueIds);
+        Map<Long, UserDto> usersById = loadUsers(new ArrayList<>(userIds));
+
+        List<IssueDto> dtos = new ArrayList<>(issues.size());
+        for (IssueView issue : issues) {
+            dtos.add(issueMapper.toDto(issue, tagsByIssue.get(issue.id()),
+                    issue.assigneeId() != null ? usersById.get(issue.assigneeId()) : null,
+                    usersById.get(issue.reporterId())));
+        }
+        return dtos;
+    }
+
+    private Map<Long, Set<String>> loadTags(List<Long> issueIds) {
+        Map<Long, Set<String>> tagsByIssue = new HashMap<>();
+        for (List<Long> batch : partition(issueIds)) {
+            for (IssueTag tag : issueRepository.findTagsByIssueIdIn(batch)) {
+                tagsByIssue.computeIfAbsent(tag.getIssueId(), id -> new HashSet<>()).add(tag.getTag());
+            }
+        }
+        return tagsByIssue;
+    }
+
+    private Map<Long, UserDto> loadUsers(List<Long> userIds) {
+        Map<Long, UserDto> usersById = new HashMap<>();
+        for (List<Long> batch : partition(userIds)) {
+            // Roles come back ordered by user and role id; the first one is the primary role
+            Map<Long, String> primaryRoles = new HashMap<>();
+            for (UserRoleName role : userRepository.findRoleNamesByUserIdIn(batch)) {
+                primaryRoles.putIfAbsent(role.getUserId(), role.getRoleName());
+            }
+            for (UserView user : userRepository.findViewsByIdIn(batch)) {
+                usersById.put(user.id(), userMapper.toDto(user, primaryRoles.get(user.id())));
+            }
+        }
+        return usersById;
+    }
+
+    private List<List<Long>> partition(List<Long> ids) {
+        List<List<Long>> batches = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += LOOKUP_BATCH_SIZE) {
+            batches.add(ids.subList(from, Math.min(from + LOOKUP_BATCH_SIZE, ids.size())));
+        }
+        return batches;
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return Math.min(defaultPageSize, maxPageSize);
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        return Math.min(size, maxPageSize);
+    }
+}
@@ -0,0 +1,82 @@
+package com.i2i.pms.pms.service.impl;
+
+import com.i2i.pms.pms.dto.IssueDto;
+import com.i2i.pms.pms.dto.SearchPage;
+import com.i2i.pms.pms.entity.Issue;
+import com.i2i.pms.pms.repository.IssueSearchIndex;
+import com.i2i.pms.pms.service.IssueQueryService;
+import com.i2i.pms.pms.service.IssueSearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+@Service
+@Transactional(readOnly = true)
+public class IssueSearchServiceImpl implements IssueSearchService {
+
+    // Longer queries add little precision and make the tsquery needlessly expensive
+    private static final int MAX_TERMS = 10;
+
+    @Autowired
+    private IssueSearchIndex issueSearchIndex;
+
+    @Autowired
+    private IssueQueryService issueQueryService;
+
+    @Value("${issues.page.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${issues.page.max-size:200}")
+    private int maxPageSize;
+
+    @Override
+    public SearchPage<IssueDto> searchIssues(String query, Long projectId, Issue.Status status, Integer page, Integer size) {
+        List<String> terms = toTerms(query);
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("Search query must contain at least one letter or digit");
+        }
+        int pageNumber = page != null ? page : 0;
+        if (pageNumber < 0) {
+            throw new IllegalArgumentException("Page must not be negative");
+        }
+        int limit = resolvePageSize(size);
+
+        // Fetch one extra id to find out whether another page follows
+        List<Long> ids = issueSearchIndex.searchIssueIds(terms, projectId, status, pageNumber * limit, limit + 1);
+        boolean hasNext = ids.size() > limit;
+        if (hasNext) {
+            ids = ids.subList(0, limit);
+        }
+        return new SearchPage<>(issueQueryService.getIssuesByIds(ids), pageNumber, limit, hasNext);
+    }
+
+    // Helper methods
+    private List<String> toTerms(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (query != null) {
+            for (String word : query.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+                if (!word.isEmpty() && terms.size() < MAX_TERMS) {
+                    terms.add(word);
+                }
+            }
+        }
+        return new ArrayList<>(terms);
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return Math.min(defaultPageSize, maxPageSize);
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        return Math.min(size, maxPageSize);
+    }
+}
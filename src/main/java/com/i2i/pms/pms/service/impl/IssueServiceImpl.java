@@ -1,26 +1,51 @@
 package com.i2i.pms.pms.service.impl;
 
+import com.i2i.pms.pms.dto.BulkIssueUpdateRequest;
+import com.i2i.pms.pms.dto.BulkIssueUpdateResult;
 import com.i2i.pms.pms.entity.Issue;
+import com.i2i.pms.pms.entity.Notification;
 import com.i2i.pms.pms.entity.Project;
 import com.i2i.pms.pms.entity.User;
+import com.i2i.pms.pms.event.DashboardActivityEvent;
+import com.i2i.pms.pms.event.NotificationEvent;
 import com.i2i.pms.pms.exception.DuplicateResourceException;
 import com.i2i.pms.pms.exception.ResourceNotFoundException;
 import com.i2i.pms.pms.repository.IssueRepository;
 import com.i2i.pms.pms.repository.ProjectRepository;
 import com.i2i.pms.pms.repository.UserRepository;
+import com.i2i.pms.pms.service.AutocompleteService;
+import com.i2i.pms.pms.service.DashboardCacheService;
+import com.i2i.pms.pms.service.DashboardCounterService;
+import com.i2i.pms.pms.service.DashboardRollupService;
 import com.i2i.pms.pms.service.IssueService;
+import com.i2i.pms.pms.service.UnreadNotificationCountService;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @Transactional
 public class IssueServiceImpl implements IssueService {
 
+    // Keeps the IN lists of the count repair well below the driver's bind parameter limit
+    private static final int COUNT_REPAIR_BATCH_SIZE = 1000;
+
     @Autowired
     private IssueRepository issueRepository;
 
@@ -30,6 +55,34 @@ public class IssueServiceImpl implements IssueService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private DashboardCounterService dashboardCounterService;
+
+    @Autowired
+    private AutocompleteService autocompleteService;
+
+    @Autowired
+    private DashboardRollupService dashboardRollupService;
+
+    @Autowired
+    private DashboardCacheService dashboardCacheService;
+
+    @Autowired
+    private UnreadNotificationCountService unreadNotificationCountService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+
+    @PostConstruct
+    void init() {
+        transaction = new TransactionTemplate(transactionManager);
+    }
+
     @Override
     public List<Issue> getAllIssues() {
         return issueRepository.findAll();
@@ -80,7 +133,31 @@ public class IssueServiceImpl implements IssueService {
             issue.setAssignee(assignee);
         }
 
-        return issueRepository.save(issue);
+        Issue savedIssue = issueRepository.save(issue);
+        dashboardCounterService.onIssueSaved(savedIssue);
+        dashboardRollupService.onIssueSaved(savedIssue);
+        autocompleteService.onIssueSaved(savedIssue);
+        eventPublisher.publishEvent(new DashboardActivityEvent(DashboardActivityEvent.Metric.ISSUES_CREATED, savedIssue.getCreatedAt(), 1L));
+        publishResolution(null, savedIssue);
+        dashboardCacheService.onIssueChanged(savedIssue, null);
+        if (savedIssue.getAssignee() != null) {
+            eventPublisher.publishEvent(NotificationEvent.taskAssigned(savedIssue.getId(), savedIssue.getAssignee().getId(), reporter.getId()));
+        }
+        return savedIssue;
+    }
+
+    @Override
+    public List<Issue> createIssues(List<Issue> issues) {
+        List<Issue> savedIssues = issueRepository.saveAll(issues);
+        dashboardCounterService.onIssuesSaved(savedIssues);
+        dashboardRollupService.onIssuesSaved(savedIssues);
+        for (Issue savedIssue : savedIssues) {
+            autocompleteService.onIssueSaved(savedIssue);
+            eventPublisher.publishEvent(new DashboardActivityEvent(DashboardActivityEvent.Metric.ISSUES_CREATED, savedIssue.getCreatedAt(), 1L));
+            publishResolution(null, savedIssue);
+        }
+        dashboardCacheService.onIssuesChanged(savedIssues, List.of());
+        return savedIssues;
     }
 
     @Override
@@ -94,6 +171,8 @@ public class IssueServiceImpl implements IssueService {
             throw new DuplicateResourceException("Issue with key '" + issue.getIssueKey() + "' already exists");
         }
 
+        LocalDateTime previousResolvedAt = existingIssue.getResolvedAt();
+        Long previousAssigneeId = existingIssue.getAssignee() != null ? existingIssue.getAssignee().getId() : null;
         existingIssue.setIssueKey(issue.getIssueKey());
         existingIssue.setSummary(issue.getSummary());
         existingIssue.setDescription(issue.getDescription());
@@ -114,15 +193,33 @@ public class IssueServiceImpl implements IssueService {
             existingIssue.setAssignee(null);
         }
 
-        return issueRepository.save(existingIssue);
+        Issue savedIssue = issueRepository.save(existingIssue);
+        dashboardCounterService.onIssueSaved(savedIssue);
+        dashboardRollupService.onIssueSaved(savedIssue);
+        autocompleteService.onIssueSaved(savedIssue);
+        publishResolution(previousResolvedAt, savedIssue);
+        dashboardCacheService.onIssueChanged(savedIssue, previousAssigneeId);
+        Long assigneeId = savedIssue.getAssignee() != null ? savedIssue.getAssignee().getId() : null;
+        publishChange(previousResolvedAt, savedIssue, Objects.equals(previousAssigneeId, assigneeId) ? null : assigneeId);
+        return savedIssue;
     }
 
     @Override
     public void deleteIssue(Long id) {
-        if (!issueRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Issue", "id", id.toString());
-        }
-        issueRepository.deleteById(id);
+        Issue issue = issueRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Issue", "id", id.toString()));
+        dashboardCounterService.onIssueDeleted(issue);
+        dashboardRollupService.onIssueDeleted(issue);
+        autocompleteService.onIssueDeleted(id);
+        eventPublisher.publishEvent(new DashboardActivityEvent(DashboardActivityEvent.Metric.ISSUES_CREATED, issue.getCreatedAt(), -1L));
+        publishResolution(issue.getResolvedAt(), null);
+        // Comments go with the issue by cascade
+        issue.getComments().forEach(comment -> eventPublisher.publishEvent(
+                new DashboardActivityEvent(DashboardActivityEvent.Metric.COMMENTS_ADDED, comment.getCreatedAt(), -1L)));
+        dashboardCacheService.onIssueChanged(issue, null);
+        // Its notifications go by ON DELETE CASCADE
+        unreadNotificationCountService.invalidateAll();
+        issueRepository.delete(issue);
     }
 
     @Override
@@ -208,8 +305,15 @@ public class IssueServiceImpl implements IssueService {
         User assignee = userRepository.findById(assigneeId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", assigneeId.toString()));
 
+        Long previousAssigneeId = issue.getAssignee() != null ? issue.getAssignee().getId() : null;
         issue.setAssignee(assignee);
-        return issueRepository.save(issue);
+        Issue savedIssue = issueRepository.save(issue);
+        dashboardRollupService.onIssueSaved(savedIssue);
+        dashboardCacheService.onIssueChanged(savedIssue, previousAssigneeId);
+        if (!assigneeId.equals(previousAssigneeId)) {
+            eventPublisher.publishEvent(NotificationEvent.taskAssigned(issueId, assigneeId, null));
+        }
+        return savedIssue;
     }
 
     @Override
@@ -217,8 +321,15 @@ public class IssueServiceImpl implements IssueService {
         Issue issue = issueRepository.findById(issueId)
                 .orElseThrow(() -> new ResourceNotFoundException("Issue", "id", issueId.toString()));
 
+        Long previousAssigneeId = issue.getAssignee() != null ? issue.getAssignee().getId() : null;
         issue.setAssignee(null);
-        return issueRepository.save(issue);
+        Issue savedIssue = issueRepository.save(issue);
+        dashboardRollupService.onIssueSaved(savedIssue);
+        dashboardCacheService.onIssueChanged(savedIssue, previousAssigneeId);
+        if (previousAssigneeId != null) {
+            publishChange(savedIssue.getResolvedAt(), savedIssue, null);
+        }
+        return savedIssue;
     }
 
     @Override
@@ -226,8 +337,15 @@ public class IssueServiceImpl implements IssueService {
         Issue issue = issueRepository.findById(issueId)
                 .orElseThrow(() -> new ResourceNotFoundException("Issue", "id", issueId.toString()));
 
+        LocalDateTime previousResolvedAt = issue.getResolvedAt();
         issue.setStatus(status);
-        return issueRepository.save(issue);
+        Issue savedIssue = issueRepository.save(issue);
+        dashboardCounterService.onIssueSaved(savedIssue);
+        dashboardRollupService.onIssueSaved(savedIssue);
+        publishResolution(previousResolvedAt, savedIssue);
+        dashboardCacheService.onIssueChanged(savedIssue, null);
+        publishChange(previousResolvedAt, savedIssue, null);
+        return savedIssue;
     }
 
     @Override
@@ -236,7 +354,12 @@ public class IssueServiceImpl implements IssueService {
                 .orElseThrow(() -> new ResourceNotFoundException("Issue", "id", issueId.toString()));
 
         issue.setPriority(priority);
-        return issueRepository.save(issue);
+        Issue savedIssue = issueRepository.save(issue);
+        dashboardCounterService.onIssueSaved(savedIssue);
+        dashboardRollupService.onIssueSaved(savedIssue);
+        dashboardCacheService.onIssueChanged(savedIssue, null);
+        publishChange(savedIssue.getResolvedAt(), savedIssue, null);
+        return savedIssue;
     }
 
     @Override
@@ -244,9 +367,16 @@ public class IssueServiceImpl implements IssueService {
         Issue issue = issueRepository.findById(issueId)
                 .orElseThrow(() -> new ResourceNotFoundException("Issue", "id", issueId.toString()));
 
+        LocalDateTime previousResolvedAt = issue.getResolvedAt();
         issue.setResolution(resolution);
         issue.setStatus(Issue.Status.DONE);
-        return issueRepository.save(issue);
+        Issue savedIssue = issueRepository.save(issue);
+        dashboardCounterService.onIssueSaved(savedIssue);
+        dashboardRollupService.onIssueSaved(savedIssue);
+        publishResolution(previousResolvedAt, savedIssue);
+        dashboardCacheService.onIssueChanged(savedIssue, null);
+        publishChange(previousResolvedAt, savedIssue, null);
+        return savedIssue;
     }
 
     @Override
@@ -257,8 +387,14 @@ public class IssueServiceImpl implements IssueService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId.toString()));
 
+        boolean added = !issue.getWatchers().contains(user);
         issue.addWatcher(user);
-        return issueRepository.save(issue);
+        Issue savedIssue = issueRepository.save(issue);
+        if (added) {
+            issueRepository.adjustWatcherCount(issueId, 1);
+        }
+        dashboardCacheService.onIssueChanged(savedIssue, null);
+        return savedIssue;
     }
 
     @Override
@@ -269,8 +405,128 @@ public class IssueServiceImpl implements IssueService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId.toString()));
 
+        boolean removed = issue.getWatchers().contains(user);
         issue.removeWatcher(user);
-        return issueRepository.save(issue);
+        Issue savedIssue = issueRepository.save(issue);
+        if (removed) {
+            issueRepository.adjustWatcherCount(issueId, -1);
+        }
+        dashboardCacheService.onIssueChanged(savedIssue, null);
+        return savedIssue;
+    }
+
+    @Override
+    public BulkIssueUpdateResult bulkUpdateIssues(BulkIssueUpdateRequest request) {
+        boolean unassign = Boolean.TRUE.equals(request.getUnassign());
+        Set<String> addTags = normalizeTags(request.getAddTags());
+        Set<String> removeTags = normalizeTags(request.getRemoveTags());
+        boolean tagsChanged = !addTags.isEmpty() || !removeTags.isEmpty();
+        if (request.getStatus() == null && request.getPriority() == null && request.getResolution() == null
+                && request.getAssigneeId() == null && !unassign && !tagsChanged) {
+            throw new IllegalArgumentException("At least one bulk operation is required");
+        }
+        if (unassign && request.getAssigneeId() != null) {
+            throw new IllegalArgumentException("Cannot assign and unassign issues in the same request");
+        }
+        if (request.getResolution() != null && request.getStatus() != null && request.getStatus() != Issue.Status.DONE) {
+            throw new IllegalArgumentException("Resolving issues sets their status to DONE");
+        }
+
+        // The referenced user is validated once for the whole batch
+        User assignee = null;
+        if (request.getAssigneeId() != null) {
+            assignee = userRepository.findById(request.getAssigneeId())
+                    .orElseThrow(() -> new ResourceNotFoundException("User", "id", request.getAssigneeId().toString()));
+        }
+
+        Set<Long> issueIds = new LinkedHashSet<>();
+        for (Long issueId : request.getIssueIds()) {
+            if (issueId != null) {
+                issueIds.add(issueId);
+            }
+        }
+        Map<Long, Issue> issuesById = new HashMap<>();
+        if (!issueIds.isEmpty()) {
+            for (Issue issue : issueRepository.findAllForBulkUpdate(issueIds)) {
+                issuesById.put(issue.getId(), issue);
+            }
+        }
+        if (tagsChanged && !issuesById.isEmpty()) {
+            // Initializes the tag collections of the issues already loaded above
+            issueRepository.fetchTags(issuesById.keySet());
+        }
+
+        BulkIssueUpdateResult result = new BulkIssueUpdateResult();
+        List<Issue> updatedIssues = new ArrayList<>();
+        Map<Long, LocalDateTime> previousResolvedAt = new HashMap<>();
+        List<Long> previousAssigneeIds = new ArrayList<>();
+        Set<Long> reassignedIds = new HashSet<>();
+        for (Long issueId : issueIds) {
+            Issue issue = issuesById.get(issueId);
+            if (issue == null) {
+                result.getItems().add(new BulkIssueUpdateResult.ItemResult(issueId, null, false, "Issue not found"));
+                continue;
+            }
+            previousResolvedAt.put(issueId, issue.getResolvedAt());
+            if (assignee != null || unassign) {
+                Long previousAssigneeId = issue.getAssignee() != null ? issue.getAssignee().getId() : null;
+                if (previousAssigneeId != null) {
+                    previousAssigneeIds.add(previousAssigneeId);
+                }
+                if (assignee != null && !assignee.getId().equals(previousAssigneeId)) {
+                    reassignedIds.add(issueId);
+                }
+                issue.setAssignee(assignee);
+            }
+            if (request.getPriority() != null) {
+                issue.setPriority(request.getPriority());
+            }
+            if (request.getResolution() != null) {
+                issue.setResolution(request.getResolution());
+                issue.setStatus(Issue.Status.DONE);
+            } else if (request.getStatus() != null) {
+                issue.setStatus(request.getStatus());
+            }
+            issue.getTags().removeAll(removeTags);
+            if (tagsChanged) {
+                // Written with the row updates below, already including the tags added after them
+                issue.refreshSearchTags(addTags);
+            }
+            updatedIssues.add(issue);
+            result.getItems().add(new BulkIssueUpdateResult.ItemResult(issueId, issue.getIssueKey(), true, null));
+        }
+
+        if (!updatedIssues.isEmpty()) {
+            // Row updates go out in JDBC batches (hibernate.jdbc.batch_size), ordered by id. Tags are added
+            // after a first flush: Hibernate writes each collection's deletes and inserts together, which
+            // alternates the statements and breaks every batch. A tag in both lists ends up added.
+            issueRepository.flush();
+            if (!addTags.isEmpty()) {
+                updatedIssues.forEach(issue -> issue.getTags().addAll(addTags));
+                issueRepository.flush();
+            }
+            dashboardCounterService.onIssuesSaved(updatedIssues);
+            dashboardRollupService.onIssuesSaved(updatedIssues);
+            List<Long> completedIds = new ArrayList<>();
+            List<Long> changedIds = new ArrayList<>();
+            for (Issue issue : updatedIssues) {
+                publishResolution(previousResolvedAt.get(issue.getId()), issue);
+                if (tagsChanged) {
+                    autocompleteService.onIssueSaved(issue);
+                }
+                (previousResolvedAt.get(issue.getId()) == null && issue.getResolvedAt() != null ? completedIds : changedIds).add(issue.getId());
+            }
+            dashboardCacheService.onIssuesChanged(updatedIssues, previousAssigneeIds);
+            // One event per kind of change for the whole batch; the fan-out resolves its recipients together
+            Long newAssigneeId = assignee != null ? assignee.getId() : null;
+            publishTaskChanged(Notification.NotificationType.TASK_COMPLETED, completedIds, reassignedIds, newAssigneeId);
+            publishTaskChanged(Notification.NotificationType.TASK_UPDATED, changedIds, reassignedIds, newAssigneeId);
+        }
+
+        result.setRequested(issueIds.size());
+        result.setUpdated(updatedIssues.size());
+        result.setFailed(issueIds.size() - updatedIssues.size());
+        return result;
     }
 
     @Override
@@ -285,10 +541,93 @@ public class IssueServiceImpl implements IssueService {
 
     @Override
     public String generateIssueKey(Long projectId) {
+        return generateIssueKeys(projectId, 1).get(0);
+    }
+
+    @Override
+    public List<String> generateIssueKeys(Long projectId, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Issue key count must be positive");
+        }
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId.toString()));
-        
-        Long issueCount = getIssueCountByProject(projectId);
-        return project.getProjectKey() + "-" + (issueCount + 1);
+
+        // Numbers come from the project's counter, so keys are never reused after deletes
+        long first = projectRepository.allocateIssueNumbers(projectId, count);
+        List<String> keys = new ArrayList<>(count);
+        for (long number = first; number < first + count; number++) {
+            keys.add(project.getProjectKey() + "-" + number);
+        }
+        return keys;
+    }
+
+    // The first run backfills every issue, so the ids are locked and recounted in chunks, each in its
+    // own transaction when the caller has none; a chunk's locks are released as soon as it commits
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public int repairCommentAndWatcherCounts() {
+        List<Long> drifted = issueRepository.findIdsWithDriftedCounts();
+        int repaired = 0;
+        for (int from = 0; from < drifted.size(); from += COUNT_REPAIR_BATCH_SIZE) {
+            List<Long> chunk = drifted.subList(from, Math.min(from + COUNT_REPAIR_BATCH_SIZE, drifted.size()));
+            // Writers adjust the counts under the row lock, so once the rows are locked the recount
+            // sees every committed comment and watcher and no adjustment can be lost
+            repaired += transaction.execute(status -> {
+                issueRepository.lockByIds(chunk);
+                return issueRepository.recountCommentsAndWatchers(chunk);
+            });
+        }
+        return repaired;
+    }
+
+    // Helper methods
+    private Set<String> normalizeTags(List<String> tags) {
+        Set<String> normalized = new LinkedHashSet<>();
+        if (tags != null) {
+            for (String tag : tags) {
+                if (tag != null && !tag.isBlank()) {
+                    normalized.add(tag.trim());
+                }
+            }
+        }
+        return normalized;
+    }
+
+    // Tells the people involved in the issue about the change once it commits; newAssigneeId is the
+    // user it was just assigned to, if any
+    private void publishChange(LocalDateTime previousResolvedAt, Issue issue, Long newAssigneeId) {
+        Notification.NotificationType type = previousResolvedAt == null && issue.getResolvedAt() != null
+                ? Notification.NotificationType.TASK_COMPLETED : Notification.NotificationType.TASK_UPDATED;
+        eventPublisher.publishEvent(NotificationEvent.taskChanged(type, List.of(issue.getId()), newAssigneeId, null));
+    }
+
+    // Bulk variant: only the issues in reassignedIds carry the new assignee, so someone who already had
+    // an issue gets the usual update for it rather than another assignment
+    private void publishTaskChanged(Notification.NotificationType type, List<Long> issueIds, Set<Long> reassignedIds, Long newAssigneeId) {
+        List<Long> reassigned = new ArrayList<>();
+        List<Long> others = new ArrayList<>();
+        for (Long issueId : issueIds) {
+            (reassignedIds.contains(issueId) ? reassigned : others).add(issueId);
+        }
+        if (!reassigned.isEmpty()) {
+            eventPublisher.publishEvent(NotificationEvent.taskChanged(type, reassigned, newAssigneeId, null));
+        }
+        if (!others.isEmpty()) {
+            eventPublisher.publishEvent(NotificationEvent.taskChanged(type, others, null, null));
+        }
+    }
+
+    // Moves the issue's contribution to the resolved counter when its resolution time changed
+    private void publishResolution(LocalDateTime previousResolvedAt, Issue issue) {
+        LocalDateTime resolvedAt = issue != null ? issue.getResolvedAt() : null;
+        if (Objects.equals(previousResolvedAt, resolvedAt)) {
+            return;
+        }
+        if (previousResolvedAt != null) {
+            eventPublisher.publishEvent(new DashboardActivityEvent(DashboardActivityEvent.Metric.ISSUES_RESOLVED, previousResolvedAt, -1L));
+        }
+        if (resolvedAt != null) {
+            eventPublisher.publishEvent(new DashboardActivityEvent(DashboardActivityEvent.Metric.ISSUES_RESOLVED, resolvedAt, 1L));
+        }
     }
 } 
\ No newline at end of file
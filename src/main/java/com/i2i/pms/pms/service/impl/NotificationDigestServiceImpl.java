@@ -0,0 +1,233 @@
+package com.i2i.pms.pms.service.impl;
+
+import com.i2i.pms.pms.entity.Notification;
+import com.i2i.pms.pms.entity.Notification.NotificationType;
+import com.i2i.pms.pms.repository.IssueRepository;
+import com.i2i.pms.pms.repository.NotificationRepository;
+import com.i2i.pms.pms.repository.ProjectRepository;
+import com.i2i.pms.pms.repository.UserRepository;
+import com.i2i.pms.pms.service.NotificationDigestService;
+import com.i2i.pms.pms.service.NotificationStreamService;
+import com.i2i.pms.pms.service.UnreadNotificationCountService;
+import com.i2i.pms.pms.util.TransactionHooks;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+@Service
+public class NotificationDigestServiceImpl implements NotificationDigestService {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationDigestServiceImpl.class);
+
+    @Value("${notifications.digest.window-ms:60000}")
+    private long windowMs;
+
+    @Value("${notifications.digest.max-open-windows:10000}")
+    private int maxOpenWindows;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UnreadNotificationCountService unreadNotificationCountService;
+
+    @Autowired
+    private NotificationStreamService notificationStreamService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Map<DigestKey, Window> windows = new ConcurrentHashMap<>();
+    // Windows that closed and were replaced by a new one before their digest was written
+    private final Queue<Window> closed = new ConcurrentLinkedQueue<>();
+    private TransactionTemplate transaction;
+
+    @PostConstruct
+    void init() {
+        transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public List<Notification> coalesce(List<Notification> notifications) {
+        if (windowMs <= 0) {
+            return notifications;
+        }
+        long now = System.currentTimeMillis();
+        List<Notification> written = new ArrayList<>();
+        List<Notification> absorbed = new ArrayList<>();
+        Set<DigestKey> openedHere = new HashSet<>();
+        for (Notification notification : notifications) {
+            DigestKey key = DigestKey.of(notification);
+            Window window = windows.get(key);
+            if ((window != null && window.closesAt > now) || openedHere.contains(key)) {
+                absorbed.add(notification);
+            } else {
+                openedHere.add(key);
+                written.add(notification);
+            }
+        }
+        // Ids are assigned by the caller's save; a rolled-back batch is retried and decided afresh
+        TransactionHooks.afterCommit(() -> {
+            written.forEach(this::open);
+            absorbed.forEach(this::absorb);
+        });
+        return written;
+    }
+
+    @Override
+    public int flushExpired() {
+        long now = System.currentTimeMillis();
+        int flushed = flushClosed();
+        for (Window window : windows.values()) {
+            if (window.closesAt <= now && windows.remove(window.key, window) && flush(window)) {
+                flushed++;
+            }
+        }
+        return flushed;
+    }
+
+    @Override
+    public int flushAll() {
+        int flushed = flushClosed();
+        for (Window window : windows.values()) {
+            if (windows.remove(window.key, window) && flush(window)) {
+                flushed++;
+            }
+        }
+        return flushed;
+    }
+
+    @Override
+    public int getOpenWindows() {
+        return windows.size();
+    }
+
+    // Counts still held in memory are written before the application goes away
+    @EventListener(ContextClosedEvent.class)
+    public void flushOnShutdown() {
+        flushAll();
+    }
+
+    // Helper methods
+    private void open(Notification notification) {
+        long now = System.currentTimeMillis();
+        windows.compute(DigestKey.of(notification), (key, current) -> {
+            if (current != null && current.closesAt > now) {
+                // Another batch opened it first; this row simply stays on its own
+                return current;
+            }
+            if (current != null && current.absorbed > 0) {
+                closed.add(current);
+            }
+            if (current == null && windows.size() >= maxOpenWindows) {
+                return null;
+            }
+            return new Window(key, notification.getId(), now + windowMs);
+        });
+    }
+
+    private void absorb(Notification notification) {
+        long now = System.currentTimeMillis();
+        windows.compute(DigestKey.of(notification), (key, current) -> {
+            // Without a window the leading row went out with an earlier digest; this count gets a row of its own
+            Window window = current != null ? current : new Window(key, null, now + windowMs);
+            window.absorbed++;
+            window.title = notification.getTitle();
+            window.message = notification.getMessage();
+            return window;
+        });
+    }
+
+    private int flushClosed() {
+        int flushed = 0;
+        Window window;
+        while ((window = closed.poll()) != null) {
+            if (flush(window)) {
+                flushed++;
+            }
+        }
+        return flushed;
+    }
+
+    // Called once the window is out of the map, so nothing else touches it any more
+    private boolean flush(Window window) {
+        if (window.absorbed == 0) {
+            return false;
+        }
+        DigestKey key = window.key;
+        try {
+            transaction.executeWithoutResult(status -> {
+                if (window.leadingId != null && notificationRepository.addOccurrencesIfUnread(window.leadingId, window.absorbed) == 1) {
+                    // Streams get the row again with its new count; clients replace it by id
+                    notificationRepository.findById(window.leadingId)
+                            .ifPresent(notification -> notificationStreamService.onNotificationsCreated(List.of(notification)));
+                    return;
+                }
+                Notification notification = new Notification(window.title, window.message, key.type(), userRepository.getReferenceById(key.userId()));
+                notification.setRelatedTask(key.taskId() != null ? issueRepository.getReferenceById(key.taskId()) : null);
+                notification.setRelatedProject(key.projectId() != null ? projectRepository.getReferenceById(key.projectId()) : null);
+                notification.setOccurrences(window.absorbed);
+                notificationRepository.save(notification);
+                unreadNotificationCountService.adjust(key.userId(), 1);
+                notificationStreamService.onNotificationsCreated(List.of(notification));
+            });
+            return true;
+        } catch (RuntimeException ex) {
+            // Usually the user or the target was deleted while the window was open
+            log.warn("Could not write notification digest for {} ({} notifications)", key, window.absorbed, ex);
+            return false;
+        }
+    }
+
+    private record DigestKey(Long userId, NotificationType type, Long taskId, Long projectId) {
+
+        // Ids of lazy associations are read without loading them
+        private static DigestKey of(Notification notification) {
+            return new DigestKey(notification.getUser().getId(), notification.getType(),
+                    notification.getRelatedTask() != null ? notification.getRelatedTask().getId() : null,
+                    notification.getRelatedProject() != null ? notification.getRelatedProject().getId() : null);
+        }
+    }
+
+    // Mutated only inside windows.compute, i.e. under the map's lock for its key
+    private static final class Window {
+
+        private final DigestKey key;
+        private final Long leadingId;
+        private final long closesAt;
+        private int absorbed;
+        private String title;
+        private String message;
+
+        private Window(DigestKey key, Long leadingId, long closesAt) {
+            this.key = key;
+            this.leadingId = leadingId;
+            this.closesAt = closesAt;
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.i2i.pms.pms.service.impl;
+
+import com.i2i.pms.pms.entity.Issue;
+import com.i2i.pms.pms.entity.Notification;
+import com.i2i.pms.pms.entity.Notification.NotificationType;
+import com.i2i.pms.pms.entity.Project;
+import com.i2i.pms.pms.event.NotificationEvent;
+import com.i2i.pms.pms.repository.IssueRepository;
+import com.i2i.pms.pms.repository.NotificationRepository;
+import com.i2i.pms.pms.repository.ProjectRepository;
+import com.i2i.pms.pms.repository.UserRepository;
+import com.i2i.pms.pms.service.NotificationDigestService;
+import com.i2i.pms.pms.service.NotificationFanoutService;
+import com.i2i.pms.pms.service.NotificationStreamService;
+import com.i2i.pms.pms.service.UnreadNotificationCountService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class NotificationFanoutServiceImpl implements NotificationFanoutService {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationFanoutServiceImpl.class);
+
+    @Value("${notifications.fanout.threads:2}")
+    private int threads;
+
+    @Value("${notifications.fanout.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${notifications.fanout.batch-size:100}")
+    private int batchSize;
+
+    @Value("${notifications.fanout.shutdown-timeout-ms:10000}")
+    private long shutdownTimeoutMs;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UnreadNotificationCountService unreadNotificationCountService;
+
+    @Autowired
+    private NotificationStreamService notificationStreamService;
+
+    @Autowired
+    private NotificationDigestService notificationDigestService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private BlockingQueue<NotificationEvent> queue;
+    private ExecutorService workers;
+    private TransactionTemplate transaction;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+
+    @PostConstruct
+    void startWorkers() {
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+        transaction = new TransactionTemplate(transactionManager);
+        AtomicInteger threadNumber = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "notification-fanout-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < threads; i++) {
+            workers.execute(this::drain);
+        }
+    }
+
+    // Queued events are still written for a bounded time; whatever is left after that is lost and reported
+    @PreDestroy
+    void stopWorkers() throws InterruptedException {
+        workers.shutdown();
+        long deadline = System.currentTimeMillis() + shutdownTimeoutMs;
+        while (pending.get() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        workers.shutdownNow();
+        int lost = pending.get();
+        if (lost > 0) {
+            log.warn("Notification fan-out stopped with {} events not written", lost);
+        }
+        // The digest flushed its windows when the context closed; rows written since may have opened new ones
+        notificationDigestService.flushAll();
+    }
+
+    // Only committed writes are announced; events published outside a transaction are queued immediately
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationEvent(NotificationEvent event) {
+        enqueue(event);
+    }
+
+    @Override
+    public void enqueue(NotificationEvent event) {
+        pending.incrementAndGet();
+        if (!queue.offer(event)) {
+            pending.decrementAndGet();
+            log.warn("Notification queue is full, dropped {} ({} dropped so far)", event, dropped.incrementAndGet());
+        }
+    }
+
+    @Override
+    public int getPendingEvents() {
+        return pending.get();
+    }
+
+    @Override
+    public long getDroppedEvents() {
+        return dropped.get();
+    }
+
+    // Helper methods
+    // Each worker takes whatever has queued up, up to a batch, and writes it in one transaction
+    private void drain() {
+        List<NotificationEvent> batch = new ArrayList<>(batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch, batchSize - 1);
+            try {
+                write(batch);
+            } finally {
+                pending.addAndGet(-batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<NotificationEvent> events) {
+        try {
+            // Rows go out in JDBC batches: notification ids come from a pooled sequence. Bursts on one
+            // target are collapsed first, so a busy issue does not write a row per change per recipient
+            transaction.executeWithoutResult(status -> {
+                List<Notification> notifications = notificationRepository.saveAll(notificationDigestService.coalesce(buildNotifications(events)));
+                Map<Long, Long> unreadByUser = new HashMap<>();
+                notifications.forEach(notification -> unreadByUser.merge(notification.getUser().getId(), 1L, Long::sum));
+                unreadNotificationCountService.adjust(unreadByUser);
+                notificationStreamService.onNotificationsCreated(notifications);
+            });
+        } catch (RuntimeException ex) {
+            if (events.size() == 1) {
+                log.warn("Could not write notifications for {}", events.get(0), ex);
+                return;
+            }
+            // Usually a recipient or issue deleted meanwhile; retry one by one so the others get through
+            events.forEach(event -> write(List.of(event)));
+        }
+    }
+
+    // Recipients of the whole batch are resolved with one query per kind of row
+    private List<Notification> buildNotifications(List<NotificationEvent> events) {
+        Set<Long> issueIds = new HashSet<>();
+        Set<Long> projectIds = new HashSet<>();
+        for (NotificationEvent event : events) {
+            issueIds.addAll(event.getIssueIds());
+            if (event.getProjectId() != null) {
+                projectIds.add(event.getProjectId());
+            }
+        }
+
+        Map<Long, Issue> issues = new HashMap<>();
+        Map<Long, Set<Long>> watcherIds = new HashMap<>();
+        if (!issueIds.isEmpty()) {
+            issueRepository.findAllById(issueIds).forEach(issue -> issues.put(issue.getId(), issue));
+            for (Object[] row : issueRepository.findWatcherIdsByIssueIds(issueIds)) {
+                watcherIds.computeIfAbsent((Long) row[0], id -> new LinkedHashSet<>()).add((Long) row[1]);
+            }
+        }
+        Map<Long, Project> projects = new HashMap<>();
+        if (!projectIds.isEmpty()) {
+            projectRepository.findAllById(projectIds).forEach(project -> projects.put(project.getId(), project));
+        }
+
+        List<Notification> notifications = new ArrayList<>();
+        for (NotificationEvent event : events) {
+            if (event.getType() == NotificationType.PROJECT_ASSIGNED) {
+                Project project = projects.get(event.getProjectId());
+                if (project != null && event.getAssigneeId() != null) {
+                    notifications.add(notification(NotificationType.PROJECT_ASSIGNED, "Project Assignment",
+                            "You have been added to project: " + project.getName(), event.getAssigneeId(), null, project));
+                }
+                continue;
+            }
+            for (Long issueId : event.getIssueIds()) {
+                Issue issue = issues.get(issueId);
+                if (issue == null) {
+                    continue;
+                }
+                for (Long recipientId : recipients(event, issue, watcherIds.getOrDefault(issueId, Set.of()))) {
+                    NotificationType type = recipientId.equals(event.getAssigneeId()) ? NotificationType.TASK_ASSIGNED : event.getType();
+                    notifications.add(issueNotification(type, issue, recipientId));
+                }
+            }
+        }
+        return notifications;
+    }
+
+    private Set<Long> recipients(NotificationEvent event, Issue issue, Set<Long> watcherIds) {
+        Set<Long> recipients = new LinkedHashSet<>();
+        if (event.getType() == NotificationType.TASK_ASSIGNED) {
+            if (event.getAssigneeId() != null) {
+                recipients.add(event.getAssigneeId());
+            }
+        } else {
+            // Ids of lazy associations are read without loading the users
+            if (issue.getAssignee() != null) {
+                recipients.add(issue.getAssignee().getId());
+            }
+            if (issue.getReporter() != null) {
+                recipients.add(issue.getReporter().getId());
+            }
+            recipients.addAll(watcherIds);
+        }
+        recipients.remove(event.getActorId());
+        return recipients;
+    }
+
+    private Notification issueNotification(NotificationType type, Issue issue, Long userId) {
+        String key = issue.getIssueKey();
+        return switch (type) {
+            case TASK_ASSIGNED -> notification(type, "Task Assigned", "You have been assigned to task: " + key, userId, issue, issue.getProject());
+            case TASK_COMPLETED -> notification(type, "Task Completed", "Task has been completed: " + key, userId, issue, issue.getProject());
+            case COMMENT_ADDED -> notification(type, "New Comment", "New comment added to task: " + key, userId, issue, issue.getProject());
+            default -> notification(type, "Task Updated", "Task has been updated: " + key, userId, issue, issue.getProject());
+        };
+    }
+
+    private Notification notification(NotificationType type, String title, String message, Long userId, Issue issue, Project project) {
+        Notification notification = new Notification(title, message, type, userRepository.getReferenceById(userId));
+        notification.setRelatedTask(issue);
+        notification.setRelatedProject(project);
+        return notification;
+    }
+}
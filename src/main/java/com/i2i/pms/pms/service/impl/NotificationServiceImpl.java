@@ -1,18 +1,21 @@
 package com.i2i.pms.pms.service.impl;
 
-import com.i2i.pms.pms.entity.Issue;
+import com.i2i.pms.pms.dto.CursorPage;
 import com.i2i.pms.pms.entity.Notification;
-import com.i2i.pms.pms.entity.Project;
-import com.i2i.pms.pms.entity.User;
-import com.i2i.pms.pms.repository.IssueRepository;
+import com.i2i.pms.pms.event.NotificationEvent;
+import com.i2i.pms.pms.repository.NotificationCursor;
 import com.i2i.pms.pms.repository.NotificationRepository;
-import com.i2i.pms.pms.repository.ProjectRepository;
-import com.i2i.pms.pms.repository.UserRepository;
 import com.i2i.pms.pms.service.NotificationService;
+import com.i2i.pms.pms.service.NotificationStreamService;
+import com.i2i.pms.pms.service.UnreadNotificationCountService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,19 +27,41 @@ public class NotificationServiceImpl implements NotificationService {
     private NotificationRepository notificationRepository;
 
     @Autowired
-    private UserRepository userRepository;
+    private UnreadNotificationCountService unreadNotificationCountService;
 
     @Autowired
-    private IssueRepository issueRepository;
+    private NotificationStreamService notificationStreamService;
 
     @Autowired
-    private ProjectRepository projectRepository;
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${notifications.page.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${notifications.page.max-size:200}")
+    private int maxPageSize;
 
     @Override
     public List<Notification> getNotificationsByUser(Long userId) {
         return notificationRepository.findByUserIdOrderByCreatedAtDesc(userId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Notification> getNotificationPage(Long userId, boolean unreadOnly, LocalDateTime since, String cursor, Integer size) {
+        int limit = resolvePageSize(size);
+        NotificationCursor after = cursor != null && !cursor.isEmpty() ? NotificationCursor.decode(cursor) : null;
+
+        // Fetch one extra row to find out whether another page follows
+        List<Notification> notifications = notificationRepository.findNotificationPage(userId, unreadOnly, since, after, limit + 1);
+        String nextCursor = null;
+        if (notifications.size() > limit) {
+            notifications = new ArrayList<>(notifications.subList(0, limit));
+            nextCursor = NotificationCursor.of(notifications.get(limit - 1)).encode();
+        }
+        return new CursorPage<>(notifications, nextCursor, limit);
+    }
+
     @Override
     public List<Notification> getUnreadNotificationsByUser(Long userId) {
         return notificationRepository.findUnreadByUserId(userId);
@@ -51,105 +76,87 @@ public class NotificationServiceImpl implements NotificationService {
 
     @Override
     public Notification createNotification(Notification notification) {
-        return notificationRepository.save(notification);
+        Notification savedNotification = notificationRepository.save(notification);
+        if (!Boolean.TRUE.equals(savedNotification.getIsRead())) {
+            unreadNotificationCountService.adjust(savedNotification.getUser().getId(), 1);
+        }
+        notificationStreamService.onNotificationsCreated(List.of(savedNotification));
+        return savedNotification;
     }
 
     @Override
     public Notification markAsRead(Long notificationId, Long userId) {
-        Notification notification = getNotificationById(notificationId, userId)
-                .orElseThrow(() -> new RuntimeException("Notification not found or access denied"));
-        
-        notification.setIsRead(true);
+        Notification notification = lockNotification(notificationId, userId);
+
+        if (!Boolean.TRUE.equals(notification.getIsRead())) {
+            notification.setIsRead(true);
+            unreadNotificationCountService.adjust(userId, -1);
+        }
         return notificationRepository.save(notification);
     }
 
     @Override
     public void markAllAsRead(Long userId) {
-        notificationRepository.markAllAsReadForUser(userId);
+        int read = notificationRepository.markAllAsReadForUser(userId);
+        unreadNotificationCountService.adjust(userId, -read);
     }
 
     @Override
     public void deleteNotification(Long notificationId, Long userId) {
-        Notification notification = getNotificationById(notificationId, userId)
-                .orElseThrow(() -> new RuntimeException("Notification not found or access denied"));
-        
+        Notification notification = lockNotification(notificationId, userId);
+
+        if (!Boolean.TRUE.equals(notification.getIsRead())) {
+            unreadNotificationCountService.adjust(userId, -1);
+        }
         notificationRepository.delete(notification);
     }
 
     @Override
     public Long getUnreadCount(Long userId) {
-        return notificationRepository.countUnreadByUserId(userId);
+        return unreadNotificationCountService.getUnreadCount(userId);
+    }
+
+    @Override
+    public int deleteReadNotificationsBefore(LocalDateTime cutoff, int batchSize) {
+        return notificationRepository.deleteReadCreatedBefore(cutoff, batchSize);
     }
 
+    // The create* methods only publish an event: recipients are resolved and rows written by
+    // NotificationFanoutService once the caller's transaction commits
     @Override
     public void createTaskAssignedNotification(Long taskId, Long assigneeId) {
-        Issue task = issueRepository.findById(taskId).orElse(null);
-        User assignee = userRepository.findById(assigneeId).orElse(null);
-        
-        if (task != null && assignee != null) {
-            Notification notification = new Notification();
-            notification.setTitle("Task Assigned");
-            notification.setMessage("You have been assigned to task: " + task.getIssueKey());
-            notification.setType(Notification.NotificationType.TASK_ASSIGNED);
-            notification.setUser(assignee);
-            notification.setRelatedTask(task);
-            notification.setRelatedProject(task.getProject());
-            
-            createNotification(notification);
-        }
+        eventPublisher.publishEvent(NotificationEvent.taskAssigned(taskId, assigneeId, null));
     }
 
     @Override
     public void createTaskUpdatedNotification(Long taskId) {
-        Issue task = issueRepository.findById(taskId).orElse(null);
-        
-        if (task != null && task.getAssignee() != null) {
-            Notification notification = new Notification();
-            notification.setTitle("Task Updated");
-            notification.setMessage("Task has been updated: " + task.getIssueKey());
-            notification.setType(Notification.NotificationType.TASK_UPDATED);
-            notification.setUser(task.getAssignee());
-            notification.setRelatedTask(task);
-            notification.setRelatedProject(task.getProject());
-            
-            createNotification(notification);
-        }
+        eventPublisher.publishEvent(NotificationEvent.taskChanged(Notification.NotificationType.TASK_UPDATED, List.of(taskId), null, null));
     }
 
     @Override
     public void createCommentAddedNotification(Long taskId, Long userId) {
-        Issue task = issueRepository.findById(taskId).orElse(null);
-        User user = userRepository.findById(userId).orElse(null);
-        
-        if (task != null && user != null && task.getAssignee() != null && 
-            !task.getAssignee().getId().equals(userId)) {
-            
-            Notification notification = new Notification();
-            notification.setTitle("New Comment");
-            notification.setMessage("New comment added to task: " + task.getIssueKey());
-            notification.setType(Notification.NotificationType.COMMENT_ADDED);
-            notification.setUser(task.getAssignee());
-            notification.setRelatedTask(task);
-            notification.setRelatedProject(task.getProject());
-            
-            createNotification(notification);
-        }
+        eventPublisher.publishEvent(NotificationEvent.commentAdded(taskId, userId));
     }
 
     @Override
     public void createProjectAssignedNotification(Long projectId, Long userId) {
-        Project project = projectRepository.findById(projectId).orElse(null);
-        User user = userRepository.findById(userId).orElse(null);
-        
-        if (project != null && user != null) {
-            Notification notification = new Notification();
-            notification.setTitle("Project Assignment");
-            notification.setMessage("You have been added to project: " + project.getName());
-            notification.setType(Notification.NotificationType.PROJECT_ASSIGNED);
-            notification.setUser(user);
-            notification.setRelatedProject(project);
-            
-            createNotification(notification);
+        eventPublisher.publishEvent(NotificationEvent.projectAssigned(projectId, userId));
+    }
+
+    // Helper methods
+    private Notification lockNotification(Long notificationId, Long userId) {
+        return notificationRepository.lockById(notificationId)
+                .filter(notification -> notification.getUser().getId().equals(userId))
+                .orElseThrow(() -> new RuntimeException("Notification not found or access denied"));
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return Math.min(defaultPageSize, maxPageSize);
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
         }
+        return Math.min(size, maxPageSize);
     }
 }
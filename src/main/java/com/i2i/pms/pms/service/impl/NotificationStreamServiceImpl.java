@@ -0,0 +1,278 @@
+package com.i2i.pms.pms.service.impl;
+
+import com.i2i.pms.pms.dto.NotificationDto;
+import com.i2i.pms.pms.entity.Notification;
+import com.i2i.pms.pms.mapper.NotificationMapper;
+import com.i2i.pms.pms.service.NotificationStreamService;
+import com.i2i.pms.pms.util.TransactionHooks;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class NotificationStreamServiceImpl implements NotificationStreamService {
+
+    private static final StreamEvent KEEPALIVE = StreamEvent.comment("keepalive");
+
+    @Value("${notifications.stream.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    @Value("${notifications.stream.replay-size:10000}")
+    private int replaySize;
+
+    @Value("${notifications.stream.max-pending:256}")
+    private int maxPending;
+
+    @Value("${notifications.stream.sender-threads:4}")
+    private int senderThreads;
+
+    @Autowired
+    private NotificationMapper notificationMapper;
+
+    // Event ids are "<stream id>-<sequence>"; the stream id changes on restart, when the buffer is lost
+    private final String streamId = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    // Guarded by itself; appending, replaying and registering under one lock keeps every stream in order
+    private final Deque<StreamEvent> replay = new ArrayDeque<>();
+    private long sequence;
+    private long evictedThrough;
+
+    private ExecutorService senders;
+
+    @PostConstruct
+    void startSenders() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "notification-stream-sender-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Before graceful shutdown starts waiting on active requests, which open streams would otherwise hold up
+    @EventListener(ContextClosedEvent.class)
+    public void closeStreams() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    @PreDestroy
+    void stopSenders() {
+        senders.shutdownNow();
+    }
+
+    @Override
+    public SseEmitter subscribe(Long userId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(userId, emitter);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(error -> unsubscribe(subscriber));
+
+        // Opens the response right away, so the client sees the stream is live
+        subscriber.offer(StreamEvent.comment("connected"));
+        synchronized (replay) {
+            subscribers.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+            subscriberCount.incrementAndGet();
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                List<StreamEvent> missed = missedEvents(userId, lastEventId);
+                if (missed == null) {
+                    subscriber.offer(StreamEvent.resync());
+                } else {
+                    missed.forEach(subscriber::offer);
+                }
+            }
+        }
+        return emitter;
+    }
+
+    @Override
+    public void onNotificationsCreated(Collection<Notification> notifications) {
+        // Mapped now, while the entities are attached; sent only if the rows commit
+        List<NotificationDto> created = notificationMapper.toDtoList(new ArrayList<>(notifications));
+        TransactionHooks.afterCommit(() -> publish(created));
+    }
+
+    @Override
+    public void sendHeartbeats() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> {
+            if (subscriber.size.get() == 0) {
+                subscriber.offer(KEEPALIVE);
+            }
+        }));
+    }
+
+    @Override
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    // Helper methods
+    private void publish(List<NotificationDto> notifications) {
+        synchronized (replay) {
+            for (NotificationDto notification : notifications) {
+                long eventSequence = ++sequence;
+                StreamEvent event = StreamEvent.notification(notification.getUserId(), eventSequence, streamId + "-" + eventSequence, notification);
+                replay.addLast(event);
+                if (replay.size() > replaySize) {
+                    evictedThrough = replay.removeFirst().sequence;
+                }
+                Set<Subscriber> userSubscribers = subscribers.get(notification.getUserId());
+                if (userSubscribers != null) {
+                    userSubscribers.forEach(subscriber -> subscriber.offer(event));
+                }
+            }
+        }
+    }
+
+    // The user's events after the given one, or null when some may be gone; called holding the replay lock
+    private List<StreamEvent> missedEvents(Long userId, String lastEventId) {
+        int separator = lastEventId.lastIndexOf('-');
+        if (separator < 0 || !lastEventId.substring(0, separator).equals(streamId)) {
+            return null;
+        }
+        long lastSequence;
+        try {
+            lastSequence = Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (lastSequence < evictedThrough) {
+            return null;
+        }
+        List<StreamEvent> missed = new ArrayList<>();
+        for (StreamEvent event : replay) {
+            if (event.sequence > lastSequence && event.userId.equals(userId)) {
+                missed.add(event);
+            }
+        }
+        // More than the client may have pending would only get it closed again; reloading is cheaper
+        return missed.size() < maxPending / 2 ? missed : null;
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (subscriber.closed.compareAndSet(false, true)) {
+            subscribers.computeIfPresent(subscriber.userId, (userId, userSubscribers) -> {
+                userSubscribers.remove(subscriber);
+                return userSubscribers.isEmpty() ? null : userSubscribers;
+            });
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    private static final class StreamEvent {
+
+        private final Long userId;
+        private final long sequence;
+        private final String id;
+        private final String name;
+        private final Object data;
+        private final String comment;
+
+        private StreamEvent(Long userId, long sequence, String id, String name, Object data, String comment) {
+            this.userId = userId;
+            this.sequence = sequence;
+            this.id = id;
+            this.name = name;
+            this.data = data;
+            this.comment = comment;
+        }
+
+        private static StreamEvent notification(Long userId, long sequence, String id, NotificationDto notification) {
+            return new StreamEvent(userId, sequence, id, "notification", notification, null);
+        }
+
+        private static StreamEvent resync() {
+            return new StreamEvent(null, 0, null, "resync", "", null);
+        }
+
+        private static StreamEvent comment(String comment) {
+            return new StreamEvent(null, 0, null, null, null, comment);
+        }
+
+        // Builders are single-use, so each subscriber gets its own
+        private SseEmitter.SseEventBuilder toSse() {
+            if (comment != null) {
+                return SseEmitter.event().comment(comment);
+            }
+            SseEmitter.SseEventBuilder builder = SseEmitter.event().name(name).data(data);
+            return id != null ? builder.id(id) : builder;
+        }
+    }
+
+    // Sends on the shared pool; a client that falls too far behind is closed and resumes on reconnect
+    private final class Subscriber {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final Queue<StreamEvent> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        private void offer(StreamEvent event) {
+            if (closed.get()) {
+                return;
+            }
+            if (size.incrementAndGet() > maxPending) {
+                unsubscribe(this);
+                emitter.complete();
+                return;
+            }
+            pending.add(event);
+            if (sending.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                StreamEvent event = pending.poll();
+                if (event == null) {
+                    sending.set(false);
+                    // An offer may have landed between the poll and the release
+                    if (pending.isEmpty() || !sending.compareAndSet(false, true)) {
+                        return;
+                    }
+                    continue;
+                }
+                size.decrementAndGet();
+                try {
+                    emitter.send(event.toSse());
+                } catch (IOException | IllegalStateException e) {
+                    // The client is gone; the container completes the request through the error callback
+                    unsubscribe(this);
+                    pending.clear();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -1,18 +1,33 @@
 package com.i2i.pms.pms.service.impl;
 
+import com.i2i.pms.pms.entity.DashboardCounter;
 import com.i2i.pms.pms.entity.Project;
 import com.i2i.pms.pms.entity.User;
+import com.i2i.pms.pms.event.NotificationEvent;
 import com.i2i.pms.pms.exception.DuplicateResourceException;
 import com.i2i.pms.pms.exception.ResourceNotFoundException;
+import com.i2i.pms.pms.repository.DashboardCounterRepository;
 import com.i2i.pms.pms.repository.IssueRepository;
+import com.i2i.pms.pms.repository.ProjectCounts;
 import com.i2i.pms.pms.repository.ProjectRepository;
 import com.i2i.pms.pms.repository.UserRepository;
+import com.i2i.pms.pms.service.AutocompleteService;
+import com.i2i.pms.pms.service.DashboardCacheService;
+import com.i2i.pms.pms.service.DashboardCounterService;
+import com.i2i.pms.pms.service.DashboardRollupService;
 import com.i2i.pms.pms.service.ProjectService;
+import com.i2i.pms.pms.service.RealtimeDashboardService;
+import com.i2i.pms.pms.service.UnreadNotificationCountService;
+import com.i2i.pms.pms.util.TransactionHooks;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -28,6 +43,30 @@ public class ProjectServiceImpl implements ProjectService {
     @Autowired
     private IssueRepository issueRepository;
 
+    @Autowired
+    private DashboardCounterService dashboardCounterService;
+
+    @Autowired
+    private DashboardCounterRepository dashboardCounterRepository;
+
+    @Autowired
+    private AutocompleteService autocompleteService;
+
+    @Autowired
+    private DashboardRollupService dashboardRollupService;
+
+    @Autowired
+    private RealtimeDashboardService realtimeDashboardService;
+
+    @Autowired
+    private DashboardCacheService dashboardCacheService;
+
+    @Autowired
+    private UnreadNotificationCountService unreadNotificationCountService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public List<Project> getAllProjects() {
         return projectRepository.findAll();
@@ -63,7 +102,10 @@ public class ProjectServiceImpl implements ProjectService {
             project.addMember(projectLead); // Project lead is automatically a member
         }
 
-        return projectRepository.save(project);
+        Project savedProject = projectRepository.save(project);
+        autocompleteService.onProjectSaved(savedProject);
+        dashboardCacheService.onProjectChanged(savedProject.getId());
+        return savedProject;
     }
 
     @Override
@@ -100,7 +142,10 @@ public class ProjectServiceImpl implements ProjectService {
             }
         }
 
-        return projectRepository.save(existingProject);
+        Project savedProject = projectRepository.save(existingProject);
+        autocompleteService.onProjectSaved(savedProject);
+        dashboardCacheService.onProjectChanged(savedProject.getId());
+        return savedProject;
     }
 
     @Override
@@ -108,6 +153,15 @@ public class ProjectServiceImpl implements ProjectService {
         if (!projectRepository.existsById(id)) {
             throw new ResourceNotFoundException("Project not found with id: " + id);
         }
+        // Issues are removed by cascade, so drop the project's counters in one go
+        dashboardCounterService.onProjectDeleted(id);
+        dashboardRollupService.onProjectDeleted(id);
+        autocompleteService.onProjectDeleted(id);
+        // The project's issues and comments go by cascade, so rebuild the window instead of replaying each
+        TransactionHooks.afterCommit(realtimeDashboardService::seed);
+        dashboardCacheService.onProjectChanged(id);
+        // So do their notifications, by ON DELETE CASCADE
+        unreadNotificationCountService.invalidateAll();
         projectRepository.deleteById(id);
     }
 
@@ -144,8 +198,14 @@ public class ProjectServiceImpl implements ProjectService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
 
+        boolean added = !project.getMembers().contains(user);
         project.addMember(user);
-        return projectRepository.save(project);
+        Project savedProject = projectRepository.save(project);
+        dashboardCacheService.onProjectChanged(projectId);
+        if (added) {
+            eventPublisher.publishEvent(NotificationEvent.projectAssigned(projectId, userId));
+        }
+        return savedProject;
     }
 
     @Override
@@ -162,7 +222,9 @@ public class ProjectServiceImpl implements ProjectService {
         }
 
         project.removeMember(user);
-        return projectRepository.save(project);
+        Project savedProject = projectRepository.save(project);
+        dashboardCacheService.onProjectChanged(projectId);
+        return savedProject;
     }
 
     @Override
@@ -180,7 +242,9 @@ public class ProjectServiceImpl implements ProjectService {
             project.addMember(user);
         }
 
-        return projectRepository.save(project);
+        Project savedProject = projectRepository.save(project);
+        dashboardCacheService.onProjectChanged(projectId);
+        return savedProject;
     }
 
     @Override
@@ -201,4 +265,35 @@ public class ProjectServiceImpl implements ProjectService {
     public Long getProjectIssueCount(Long projectId) {
         return issueRepository.countByProjectId(projectId);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, ProjectCounts> getProjectCounts(Collection<Long> projectIds) {
+        Map<Long, ProjectCounts> counts = new HashMap<>();
+        if (projectIds.isEmpty()) {
+            return counts;
+        }
+
+        Map<Long, Long> members = new HashMap<>();
+        for (Object[] row : projectRepository.countMembersByProjectIds(projectIds)) {
+            members.put((Long) row[0], (Long) row[1]);
+        }
+
+        // Issue counts come from the materialized dashboard counters, so no issue rows are read
+        Map<Long, Long> issues = new HashMap<>();
+        Map<Long, Long> completedIssues = new HashMap<>();
+        for (DashboardCounter counter : dashboardCounterRepository.findIssueCountsByProjectIds(projectIds)) {
+            if (counter.getDimension() == DashboardCounter.Dimension.TOTAL) {
+                issues.put(counter.getProjectId(), counter.getCounterValue());
+            } else {
+                completedIssues.put(counter.getProjectId(), counter.getCounterValue());
+            }
+        }
+
+        for (Long projectId : projectIds) {
+            counts.put(projectId, new ProjectCounts(members.getOrDefault(projectId, 0L),
+                    issues.getOrDefault(projectId, 0L), completedIssues.getOrDefault(projectId, 0L)));
+        }
+        return counts;
+    }
 } 
\ No newline at end of file
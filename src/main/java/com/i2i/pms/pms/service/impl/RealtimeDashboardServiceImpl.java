@@ -0,0 +1,240 @@
+package com.i2i.pms.pms.service.impl;
+
+import com.i2i.pms.pms.dto.RealtimeDashboardUpdate;
+import com.i2i.pms.pms.event.DashboardActivityEvent;
+import com.i2i.pms.pms.event.DashboardActivityEvent.Metric;
+import com.i2i.pms.pms.repository.CommentRepository;
+import com.i2i.pms.pms.repository.IssueRepository;
+import com.i2i.pms.pms.repository.WorkLogRepository;
+import com.i2i.pms.pms.service.RealtimeDashboardService;
+import com.i2i.pms.pms.util.SlidingWindowCounter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Service
+public class RealtimeDashboardServiceImpl implements RealtimeDashboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(RealtimeDashboardServiceImpl.class);
+
+    private static final Duration WINDOW = Duration.ofHours(24);
+
+    @Value("${dashboard.realtime.heartbeat-ms:15000}")
+    private long heartbeatMs;
+
+    @Value("${dashboard.realtime.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    @Value("${dashboard.realtime.sender-threads:4}")
+    private int senderThreads;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private WorkLogRepository workLogRepository;
+
+    private volatile SlidingWindowCounter<Metric> window = new SlidingWindowCounter<>(Metric.class, WINDOW);
+    // Events committed while a seed is reading, replayed onto the seeded window; null when no seed runs
+    private final Object seedLock = new Object();
+    private List<DashboardActivityEvent> seedBuffer;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile Map<String, Long> lastPublished;
+    private volatile long lastPublishedAt;
+    private ExecutorService senders;
+
+    @PostConstruct
+    void startSenders() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "realtime-dashboard-sender-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stopSenders() {
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    // Only committed writes reach the window; events published outside a transaction apply immediately
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActivity(DashboardActivityEvent event) {
+        if (event.getOccurredAt() == null) {
+            return;
+        }
+        SlidingWindowCounter<Metric> current;
+        synchronized (seedLock) {
+            if (seedBuffer != null) {
+                seedBuffer.add(event);
+            }
+            current = window;
+        }
+        current.add(event.getMetric(), event.getOccurredAt(), LocalDateTime.now(), event.getDelta());
+    }
+
+    @Override
+    public RealtimeDashboardUpdate getSnapshot() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Long> counters = new LinkedHashMap<>();
+        window.totals(now).forEach((metric, total) -> counters.put(metric.name(), total));
+        return new RealtimeDashboardUpdate(sequence.incrementAndGet(), now.minus(WINDOW), now, counters);
+    }
+
+    @Override
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        subscriber.offer(getSnapshot());
+        return emitter;
+    }
+
+    @Override
+    public void publishUpdates() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        // One computation per tick, shared by every subscriber; unchanged totals only go out as heartbeats
+        RealtimeDashboardUpdate snapshot = getSnapshot();
+        long now = System.currentTimeMillis();
+        if (snapshot.getCounters().equals(lastPublished) && now - lastPublishedAt < heartbeatMs) {
+            return;
+        }
+        lastPublished = snapshot.getCounters();
+        lastPublishedAt = now;
+        subscribers.forEach(subscriber -> subscriber.offer(snapshot));
+    }
+
+    // Also runs after commits that cascade deletes, where the surrounding transaction is already finished.
+    // One snapshot for all four reads; events are buffered from before it is taken, so a write that
+    // commits while the seed reads is replayed onto the seeded window instead of being lost with the
+    // old one. Only a write committed between opening the buffer and taking the snapshot is counted twice.
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public synchronized void seed() {
+        synchronized (seedLock) {
+            seedBuffer = new ArrayList<>();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = now.minus(WINDOW);
+        // Built aside and swapped in, so readers never see a half-filled window
+        SlidingWindowCounter<Metric> seeded = new SlidingWindowCounter<>(Metric.class, WINDOW);
+        try {
+            issueRepository.findCreatedAtSince(since).forEach(createdAt -> seeded.add(Metric.ISSUES_CREATED, createdAt, now, 1L));
+            issueRepository.findResolvedAtSince(since).forEach(resolvedAt -> seeded.add(Metric.ISSUES_RESOLVED, resolvedAt, now, 1L));
+            commentRepository.findCreatedAtSince(since).forEach(createdAt -> seeded.add(Metric.COMMENTS_ADDED, createdAt, now, 1L));
+            for (Object[] row : workLogRepository.findTimeSpentCreatedSince(since)) {
+                seeded.add(Metric.MINUTES_LOGGED, (LocalDateTime) row[0], now, ((Number) row[1]).longValue());
+            }
+            synchronized (seedLock) {
+                LocalDateTime replayedAt = LocalDateTime.now();
+                seedBuffer.forEach(event -> seeded.add(event.getMetric(), event.getOccurredAt(), replayedAt, event.getDelta()));
+                window = seeded;
+            }
+        } finally {
+            synchronized (seedLock) {
+                seedBuffer = null;
+            }
+        }
+        log.info("Real-time dashboard seeded: {}", seeded.totals(now));
+    }
+
+    // Holds at most one pending update, so a slow client never queues more than the newest totals
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final AtomicReference<RealtimeDashboardUpdate> pending = new AtomicReference<>();
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private Map<String, Long> lastSent;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void offer(RealtimeDashboardUpdate update) {
+            pending.set(update);
+            if (sending.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                RealtimeDashboardUpdate update = pending.getAndSet(null);
+                if (update == null) {
+                    sending.set(false);
+                    // An offer may have landed between the read and the release
+                    if (pending.get() == null || !sending.compareAndSet(false, true)) {
+                        return;
+                    }
+                    continue;
+                }
+                try {
+                    send(update);
+                } catch (IOException | IllegalStateException e) {
+                    subscribers.remove(this);
+                    pending.set(null);
+                    emitter.completeWithError(e);
+                    return;
+                }
+            }
+        }
+
+        private void send(RealtimeDashboardUpdate update) throws IOException {
+            if (lastSent == null) {
+                emitter.send(SseEmitter.event().name("snapshot").id(update.getSequence().toString()).data(update));
+            } else {
+                Map<String, Long> changed = new LinkedHashMap<>();
+                update.getCounters().forEach((name, value) -> {
+                    if (!Objects.equals(lastSent.get(name), value)) {
+                        changed.put(name, value);
+                    }
+                });
+                if (changed.isEmpty()) {
+                    emitter.send(SseEmitter.event().comment("keepalive"));
+                } else {
+                    RealtimeDashboardUpdate delta = new RealtimeDashboardUpdate(update.getSequence(),
+                            update.getWindowStart(), update.getWindowEnd(), changed);
+                    emitter.send(SseEmitter.event().name("delta").id(update.getSequence().toString()).data(delta));
+                }
+            }
+            lastSent = update.getCounters();
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.i2i.pms.pms.exception.DuplicateResourceException;
 import com.i2i.pms.pms.exception.ResourceNotFoundException;
 import com.i2i.pms.pms.repository.RoleRepository;
 import com.i2i.pms.pms.repository.UserRepository;
+import com.i2i.pms.pms.security.PrincipalCache;
 import com.i2i.pms.pms.service.RoleService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -23,6 +24,9 @@ public class RoleServiceImpl implements RoleService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
     @Override
     public List<Role> getAllRoles() {
         return roleRepository.findAll();
@@ -67,6 +71,8 @@ public class RoleServiceImpl implements RoleService {
         role.setName(roleDetails.getName());
         role.setDescription(roleDetails.getDescription());
 
+        // Cached principals carry role names
+        principalCache.invalidateAll();
         return roleRepository.save(role);
     }
 
@@ -0,0 +1,110 @@
+package com.i2i.pms.pms.service.impl;
+
+import com.i2i.pms.pms.repository.NotificationRepository;
+import com.i2i.pms.pms.service.UnreadNotificationCountService;
+import com.i2i.pms.pms.util.TransactionHooks;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class UnreadNotificationCountServiceImpl implements UnreadNotificationCountService {
+
+    private static final long UNKNOWN = -1;
+
+    @Value("${notifications.unread-count.ttl-ms:300000}")
+    private long ttlMillis;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    // One entry per user that has polled or received notifications; entries are never removed, so a
+    // write in flight always finds the entry its completion will update
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public long getUnreadCount(Long userId) {
+        Entry entry = entry(userId);
+        long version;
+        synchronized (entry) {
+            if (entry.count != UNKNOWN && entry.expiresAt > System.currentTimeMillis()) {
+                return entry.count;
+            }
+            version = entry.version;
+        }
+
+        long count = notificationRepository.countUnreadByUserId(userId);
+        synchronized (entry) {
+            // A write that was in flight or completed meanwhile may or may not be in the count
+            if (entry.version == version && entry.writesInFlight == 0) {
+                entry.count = count;
+                entry.expiresAt = System.currentTimeMillis() + ttlMillis;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void adjust(Long userId, long delta) {
+        Map<Long, Long> deltaByUser = new HashMap<>();
+        deltaByUser.put(userId, delta);
+        adjust(deltaByUser);
+    }
+
+    @Override
+    public void adjust(Map<Long, Long> deltaByUser) {
+        Map<Entry, Long> deltaByEntry = new HashMap<>();
+        deltaByUser.forEach((userId, delta) -> {
+            if (delta != 0) {
+                deltaByEntry.put(entry(userId), delta);
+            }
+        });
+        if (deltaByEntry.isEmpty()) {
+            return;
+        }
+        deltaByEntry.keySet().forEach(entry -> {
+            synchronized (entry) {
+                entry.writesInFlight++;
+                entry.version++;
+            }
+        });
+        TransactionHooks.afterCompletion(committed -> deltaByEntry.forEach((entry, delta) -> {
+            synchronized (entry) {
+                entry.writesInFlight--;
+                entry.version++;
+                if (committed && entry.count != UNKNOWN) {
+                    // Never below zero; a negative result means the count drifted, so reload it
+                    entry.count = entry.count + delta >= 0 ? entry.count + delta : UNKNOWN;
+                }
+            }
+        }));
+    }
+
+    @Override
+    public void invalidateAll() {
+        TransactionHooks.afterCommit(() -> entries.values().forEach(entry -> {
+            synchronized (entry) {
+                entry.count = UNKNOWN;
+                entry.version++;
+            }
+        }));
+    }
+
+    // Helper methods
+    private Entry entry(Long userId) {
+        return entries.computeIfAbsent(userId, id -> new Entry());
+    }
+
+    private static final class Entry {
+
+        private long count = UNKNOWN;
+        private long expiresAt;
+        // Bumped by every change, so a load that raced with one is returned but not cached
+        private long version;
+        private int writesInFlight;
+    }
+}
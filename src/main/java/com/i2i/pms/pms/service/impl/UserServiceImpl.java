@@ -6,6 +6,7 @@ import com.i2i.pms.pms.exception.DuplicateResourceException;
 import com.i2i.pms.pms.exception.ResourceNotFoundException;
 import com.i2i.pms.pms.repository.RoleRepository;
 import com.i2i.pms.pms.repository.UserRepository;
+import com.i2i.pms.pms.security.PrincipalCache;
 import com.i2i.pms.pms.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -24,6 +25,9 @@ public class UserServiceImpl implements UserService {
     @Autowired
     private RoleRepository roleRepository;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
     @Override
     public List<User> getAllUsers() {
         return userRepository.findAll();
@@ -85,6 +89,7 @@ public class UserServiceImpl implements UserService {
         user.setPassword(userDetails.getPassword());
         user.setIsActive(userDetails.getIsActive());
 
+        principalCache.invalidateUser(id);
         return userRepository.save(user);
     }
 
@@ -93,6 +98,7 @@ public class UserServiceImpl implements UserService {
         if (!userRepository.existsById(id)) {
             throw new ResourceNotFoundException("User", "id", id);
         }
+        principalCache.invalidateUser(id);
         userRepository.deleteById(id);
     }
 
@@ -142,6 +148,7 @@ public class UserServiceImpl implements UserService {
         }
         
         user.addRole(role);
+        principalCache.invalidateUser(userId);
         return userRepository.save(user);
     }
 
@@ -166,6 +173,7 @@ public class UserServiceImpl implements UserService {
         }
         
         user.removeRole(role);
+        principalCache.invalidateUser(userId);
         return userRepository.save(user);
     }
 } 
\ No newline at end of file
@@ -3,12 +3,17 @@ package com.i2i.pms.pms.service.impl;
 import com.i2i.pms.pms.entity.Issue;
 import com.i2i.pms.pms.entity.User;
 import com.i2i.pms.pms.entity.WorkLog;
+import com.i2i.pms.pms.event.DashboardActivityEvent;
 import com.i2i.pms.pms.exception.ResourceNotFoundException;
 import com.i2i.pms.pms.repository.IssueRepository;
 import com.i2i.pms.pms.repository.UserRepository;
 import com.i2i.pms.pms.repository.WorkLogRepository;
+import com.i2i.pms.pms.service.DashboardCacheService;
+import com.i2i.pms.pms.service.DashboardCounterService;
+import com.i2i.pms.pms.service.DashboardRollupService;
 import com.i2i.pms.pms.service.WorkLogService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +34,18 @@ public class WorkLogServiceImpl implements WorkLogService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private DashboardCounterService dashboardCounterService;
+
+    @Autowired
+    private DashboardRollupService dashboardRollupService;
+
+    @Autowired
+    private DashboardCacheService dashboardCacheService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public List<WorkLog> getWorkLogsByIssue(Long issueId) {
         return workLogRepository.findByIssueId(issueId);
@@ -54,8 +71,13 @@ public class WorkLogServiceImpl implements WorkLogService {
         Integer currentActualTime = issue.getActualTime() != null ? issue.getActualTime() : 0;
         issue.setActualTime(currentActualTime + workLog.getTimeSpent());
         issueRepository.save(issue);
+        dashboardCounterService.onIssueSaved(issue);
+        dashboardCacheService.onIssueChanged(issue, null);
 
-        return workLogRepository.save(workLog);
+        WorkLog savedWorkLog = workLogRepository.save(workLog);
+        dashboardRollupService.onWorkLogSaved(savedWorkLog, null);
+        publishMinutesLogged(savedWorkLog, savedWorkLog.getTimeSpent() != null ? savedWorkLog.getTimeSpent() : 0);
+        return savedWorkLog;
     }
 
     @Override
@@ -71,7 +93,10 @@ public class WorkLogServiceImpl implements WorkLogService {
         
         issue.setActualTime(currentActualTime - oldTimeSpent + newTimeSpent);
         issueRepository.save(issue);
+        dashboardCounterService.onIssueSaved(issue);
+        dashboardCacheService.onIssueChanged(issue, null);
 
+        LocalDateTime previousDate = existingWorkLog.getDate();
         existingWorkLog.setTimeSpent(workLog.getTimeSpent());
         existingWorkLog.setTimeSpentUnit(workLog.getTimeSpentUnit());
         existingWorkLog.setComment(workLog.getComment());
@@ -79,7 +104,10 @@ public class WorkLogServiceImpl implements WorkLogService {
         existingWorkLog.setStartTime(workLog.getStartTime());
         existingWorkLog.setEndTime(workLog.getEndTime());
 
-        return workLogRepository.save(existingWorkLog);
+        WorkLog savedWorkLog = workLogRepository.save(existingWorkLog);
+        dashboardRollupService.onWorkLogSaved(savedWorkLog, previousDate);
+        publishMinutesLogged(savedWorkLog, newTimeSpent - oldTimeSpent);
+        return savedWorkLog;
     }
 
     @Override
@@ -93,6 +121,10 @@ public class WorkLogServiceImpl implements WorkLogService {
         Integer timeSpent = workLog.getTimeSpent() != null ? workLog.getTimeSpent() : 0;
         issue.setActualTime(currentActualTime - timeSpent);
         issueRepository.save(issue);
+        dashboardCounterService.onIssueSaved(issue);
+        dashboardCacheService.onIssueChanged(issue, null);
+        dashboardRollupService.onWorkLogDeleted(workLog);
+        publishMinutesLogged(workLog, -timeSpent);
 
         workLogRepository.deleteById(id);
     }
@@ -148,7 +180,10 @@ public class WorkLogServiceImpl implements WorkLogService {
 
     @Override
     public WorkLog createWorkLog(WorkLog workLog) {
-        return workLogRepository.save(workLog);
+        WorkLog savedWorkLog = workLogRepository.save(workLog);
+        dashboardRollupService.onWorkLogSaved(savedWorkLog, null);
+        publishMinutesLogged(savedWorkLog, savedWorkLog.getTimeSpent() != null ? savedWorkLog.getTimeSpent() : 0);
+        return savedWorkLog;
     }
 
     @Override
@@ -175,4 +210,12 @@ public class WorkLogServiceImpl implements WorkLogService {
                workLog.get().getAuthor() != null && 
                workLog.get().getAuthor().getEmail().equals(userEmail);
     }
+
+    // Helper methods
+    // Minutes count at the time the work log was recorded, so edits and deletes correct that moment
+    private void publishMinutesLogged(WorkLog workLog, long minutes) {
+        if (minutes != 0) {
+            eventPublisher.publishEvent(new DashboardActivityEvent(DashboardActivityEvent.Metric.MINUTES_LOGGED, workLog.getCreatedAt(), minutes));
+        }
+    }
 } 
\ No newline at end of file
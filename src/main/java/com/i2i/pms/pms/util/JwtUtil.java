@@ -2,11 +2,19 @@ package com.i2i.pms.pms.util;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Component
 public class JwtUtil {
@@ -17,8 +25,28 @@ public class JwtUtil {
     @Value("${jwt.expiration:604800000}") // 7 days in milliseconds
     private long expiration;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private int claimsCacheMaxSize;
+
+    // Built once; both are immutable and thread-safe
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    // Verified claims keyed by SHA-256 of the token, least recently used evicted first
+    private Map<String, TokenClaims> claimsCache;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        claimsCache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TokenClaims> eldest) {
+                return size() > claimsCacheMaxSize;
+            }
+        });
     }
 
     public String generateToken(String email, Long userId) {
@@ -30,35 +58,50 @@ public class JwtUtil {
                 .claim("userId", userId)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
+    /**
+     * Verify the token and return its claims, from the cache when this exact token was verified before
+     * and has not expired since.
+     *
+     * @throws JwtException if the token is malformed, tampered with or expired
+     * @throws IllegalArgumentException if the token is empty
+     */
+    public TokenClaims parseToken(String token) {
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("JWT token is empty");
+        }
+        String key = hash(token);
+        TokenClaims cached = claimsCache.get(key);
+        if (cached != null) {
+            if (!cached.isExpired(System.currentTimeMillis())) {
+                return cached;
+            }
+            claimsCache.remove(key);
+        }
+
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        TokenClaims parsed = new TokenClaims(claims.getSubject(), claims.get("userId", Long.class), claims.getExpiration());
+        // Tokens without an expiry are still accepted, just never cached
+        if (claims.getExpiration() != null) {
+            claimsCache.put(key, parsed);
+        }
+        return parsed;
+    }
+
     public String getEmailFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parseToken(token).getEmail();
     }
 
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        
-        return claims.get("userId", Long.class);
+        return parseToken(token).getUserId();
     }
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
+            parseToken(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
@@ -66,11 +109,15 @@ public class JwtUtil {
     }
 
     public Date getExpirationDateFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getExpiration();
+        return parseToken(token).getExpiration();
+    }
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
-} 
\ No newline at end of file
+}
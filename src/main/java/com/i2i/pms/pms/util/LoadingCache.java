@@ -0,0 +1,149 @@
+package com.i2i.pms.pms.util;
+
+import com.i2i.pms.pms.dto.CacheStatsDto;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Size-bounded LRU cache whose entries expire after a TTL. Concurrent misses on the same key share a
+ * single load: the first caller runs the loader and the others wait for its result, so an expired hot
+ * key costs one computation however many requests arrive at once.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class LoadingCache<K, V> {
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlMillis;
+
+    private final Map<K, Entry<V>> entries;
+    private final Map<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+
+    // Bumped by every invalidation so a load that raced with it is not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+
+    public LoadingCache(String name, int maxSize, long ttlMillis) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > LoadingCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        });
+    }
+
+    /**
+     * Cached value for the key, loading it if absent or expired. A failed load is not cached and its
+     * exception reaches every caller that was waiting for it.
+     */
+    public V get(K key, Supplier<V> loader) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && entry.expiresAt > System.currentTimeMillis()) {
+            hits.increment();
+            return entry.value;
+        }
+        misses.increment();
+
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> running = loading.putIfAbsent(key, load);
+        if (running != null) {
+            return await(running);
+        }
+        try {
+            long loadGeneration = generation.get();
+            long start = System.nanoTime();
+            V value = loader.get();
+            loads.increment();
+            loadNanos.add(System.nanoTime() - start);
+            synchronized (entries) {
+                if (generation.get() == loadGeneration) {
+                    entries.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+                }
+            }
+            load.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, load);
+        }
+    }
+
+    public void invalidate(K key) {
+        invalidateIf(key::equals);
+    }
+
+    public void invalidateIf(Predicate<K> filter) {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            int before = entries.size();
+            entries.keySet().removeIf(filter);
+            invalidations.add(before - entries.size());
+        }
+    }
+
+    public void invalidateAll() {
+        invalidateIf(key -> true);
+    }
+
+    public CacheStatsDto getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requests = hitCount + missCount;
+        long loadCount = loads.sum();
+        return new CacheStatsDto(name, entries.size(), maxSize, hitCount, missCount, evictions.sum(),
+                invalidations.sum(), requests > 0 ? (double) hitCount / requests : 0.0,
+                loadCount, loadCount > 0 ? loadNanos.sum() / 1_000_000.0 / loadCount : 0.0);
+    }
+
+    // Helper methods
+    private V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package com.i2i.pms.pms.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * In-memory inverted index for type-ahead lookups. Every word of a document is indexed under each of
+ * its leading prefixes (edge n-grams) up to a maximum length; posting lists are sorted int arrays of
+ * document slots, so a query is a merge of a few primitive arrays. Safe for concurrent use: lookups
+ * share a read lock, updates take the write lock.
+ *
+ * @param <T> payload returned for matching documents
+ */
+public class PrefixIndex<T> {
+
+    private final int maxPrefixLength;
+    // Upper bound on matches ranked per query; broad one-letter prefixes stop scanning here
+    private final int maxCandidates;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, IntPostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+    private final List<Document<T>> documents = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+
+    public PrefixIndex(int maxPrefixLength, int maxCandidates) {
+        this.maxPrefixLength = maxPrefixLength;
+        this.maxCandidates = maxCandidates;
+    }
+
+    /**
+     * Lower-case words made of letters and digits, in order of first appearance.
+     */
+    public static List<String> tokenize(String text) {
+        Set<String> words = new LinkedHashSet<>();
+        if (text != null) {
+            for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+                if (!word.isEmpty()) {
+                    words.add(word);
+                }
+            }
+        }
+        return new ArrayList<>(words);
+    }
+
+    /**
+     * Index or re-index a document. The first text is its title: matches there rank first.
+     */
+    public void put(long id, T payload, Collection<String> texts) {
+        Set<String> words = new LinkedHashSet<>();
+        List<String> titleWords = new ArrayList<>();
+        boolean title = true;
+        for (String text : texts) {
+            List<String> tokens = tokenize(text);
+            if (title) {
+                titleWords.addAll(tokens);
+                title = false;
+            }
+            words.addAll(tokens);
+        }
+        Document<T> document = new Document<>(id, payload, words.toArray(new String[0]), titleWords.toArray(new String[0]));
+
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsById.get(id);
+            if (slot != null) {
+                unindex(slot);
+            } else {
+                slot = freeSlots.isEmpty() ? documents.size() : freeSlots.pop();
+                if (slot == documents.size()) {
+                    documents.add(null);
+                }
+                slotsById.put(id, slot);
+            }
+            documents.set(slot, document);
+            for (String word : document.words) {
+                for (int length = 1; length <= Math.min(word.length(), maxPrefixLength); length++) {
+                    postings.computeIfAbsent(word.substring(0, length), prefix -> new IntPostingList()).add(slot);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsById.remove(id);
+            if (slot != null) {
+                unindex(slot);
+                documents.set(slot, null);
+                freeSlots.push(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeIf(Predicate<T> filter) {
+        lock.writeLock().lock();
+        try {
+            List<Long> ids = new ArrayList<>();
+            for (Document<T> document : documents) {
+                if (document != null && filter.test(document.payload)) {
+                    ids.add(document.id);
+                }
+            }
+            ids.forEach(this::remove);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            slotsById.clear();
+            documents.clear();
+            freeSlots.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Payloads of documents in which every query word prefixes some word, best first: documents whose
+     * title matches more words exactly or by prefix, then higher ids.
+     */
+    public List<T> search(String query, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty() || limit < 1) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            // Intersect from the shortest posting list
+            List<IntPostingList> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                IntPostingList list = postings.get(term.length() > maxPrefixLength ? term.substring(0, maxPrefixLength) : term);
+                if (list == null) {
+                    return new ArrayList<>();
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(IntPostingList::size));
+            int[] candidates = lists.get(0).toArray();
+            int candidateCount = candidates.length;
+            for (int i = 1; i < lists.size() && candidateCount > 0; i++) {
+                candidateCount = lists.get(i).retainAll(candidates, candidateCount);
+            }
+
+            // Highest slots first keeps the scan bounded; longer terms are verified against the words
+            List<Match<T>> matches = new ArrayList<>();
+            for (int i = candidateCount - 1; i >= 0 && matches.size() < maxCandidates; i--) {
+                Document<T> document = documents.get(candidates[i]);
+                if (document.matchesAll(terms, maxPrefixLength)) {
+                    matches.add(new Match<>(document, document.titleScore(terms)));
+                }
+            }
+            matches.sort(Comparator.comparingInt((Match<T> match) -> match.score)
+                    .thenComparingLong(match -> match.document.id).reversed());
+
+            List<T> results = new ArrayList<>(Math.min(limit, matches.size()));
+            for (int i = 0; i < matches.size() && results.size() < limit; i++) {
+                results.add(matches.get(i).document.payload);
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Helper methods
+    private void unindex(int slot) {
+        for (String word : documents.get(slot).words) {
+            for (int length = 1; length <= Math.min(word.length(), maxPrefixLength); length++) {
+                String prefix = word.substring(0, length);
+                IntPostingList list = postings.get(prefix);
+                if (list != null && list.remove(slot) && list.size() == 0) {
+                    postings.remove(prefix);
+                }
+            }
+        }
+    }
+
+    private record Match<T>(Document<T> document, int score) {
+    }
+
+    private static final class Document<T> {
+
+        private final long id;
+        private final T payload;
+        private final String[] words;
+        private final String[] titleWords;
+
+        private Document(long id, T payload, String[] words, String[] titleWords) {
+            this.id = id;
+            this.payload = payload;
+            this.words = words;
+            this.titleWords = titleWords;
+        }
+
+        private boolean matchesAll(List<String> terms, int verifiedLength) {
+            for (String term : terms) {
+                if (term.length() > verifiedLength && !anyStartsWith(words, term)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // Two points for an exact title word, one for a title prefix
+        private int titleScore(List<String> terms) {
+            int score = 0;
+            for (String term : terms) {
+                if (Arrays.asList(titleWords).contains(term)) {
+                    score += 2;
+                } else if (anyStartsWith(titleWords, term)) {
+                    score += 1;
+                }
+            }
+            return score;
+        }
+
+        private static boolean anyStartsWith(String[] words, String term) {
+            for (String word : words) {
+                if (word.startsWith(term)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    // Sorted, duplicate-free list of document slots
+    private static final class IntPostingList {
+
+        private int[] slots = new int[4];
+        private int size;
+
+        private int size() {
+            return size;
+        }
+
+        private void add(int slot) {
+            // New documents get increasing slots, so appends are the common case
+            if (size > 0 && slots[size - 1] >= slot) {
+                int index = Arrays.binarySearch(slots, 0, size, slot);
+                if (index >= 0) {
+                    return;
+                }
+                insertAt(-index - 1, slot);
+                return;
+            }
+            insertAt(size, slot);
+        }
+
+        private boolean remove(int slot) {
+            int index = Arrays.binarySearch(slots, 0, size, slot);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(slots, index + 1, slots, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(slots, size);
+        }
+
+        // Keeps in candidates[0..count) only the slots present in this list; returns the new count
+        private int retainAll(int[] candidates, int count) {
+            int kept = 0;
+            int j = 0;
+            for (int i = 0; i < count; i++) {
+                while (j < size && slots[j] < candidates[i]) {
+                    j++;
+                }
+                if (j == size) {
+                    break;
+                }
+                if (slots[j] == candidates[i]) {
+                    candidates[kept++] = candidates[i];
+                }
+            }
+            return kept;
+        }
+
+        private void insertAt(int index, int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            System.arraycopy(slots, index, slots, index + 1, size - index);
+            slots[index] = slot;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.i2i.pms.pms.util;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Counters over a sliding time window, kept in a ring of one-minute buckets. Adding is O(1);
+ * reading the totals sums the live buckets. A bucket is reused once its minute falls out of the
+ * window, so memory stays fixed however many events arrive.
+ *
+ * @param <E> the counters, one per enum constant
+ */
+public class SlidingWindowCounter<E extends Enum<E>> {
+
+    private final Class<E> type;
+    private final int minutes;
+    private final long[] bucketMinutes;
+    private final long[][] counts;
+
+    public SlidingWindowCounter(Class<E> type, Duration window) {
+        this.type = type;
+        this.minutes = (int) window.toMinutes();
+        this.bucketMinutes = new long[minutes];
+        this.counts = new long[minutes][type.getEnumConstants().length];
+        Arrays.fill(bucketMinutes, Long.MIN_VALUE);
+    }
+
+    /**
+     * Add delta to a counter in the bucket of occurredAt. Times outside the window ending at now are ignored.
+     */
+    public synchronized void add(E counter, LocalDateTime occurredAt, LocalDateTime now, long delta) {
+        long minute = epochMinute(occurredAt);
+        long nowMinute = epochMinute(now);
+        if (minute <= nowMinute - minutes) {
+            return;
+        }
+        // Clock skew between writers must not push events into the future
+        minute = Math.min(minute, nowMinute);
+        int bucket = (int) Math.floorMod(minute, (long) minutes);
+        if (bucketMinutes[bucket] != minute) {
+            bucketMinutes[bucket] = minute;
+            Arrays.fill(counts[bucket], 0L);
+        }
+        counts[bucket][counter.ordinal()] += delta;
+    }
+
+    /**
+     * Totals over the window ending at now.
+     */
+    public synchronized Map<E, Long> totals(LocalDateTime now) {
+        long nowMinute = epochMinute(now);
+        long[] sums = new long[type.getEnumConstants().length];
+        for (int bucket = 0; bucket < minutes; bucket++) {
+            if (bucketMinutes[bucket] > nowMinute - minutes && bucketMinutes[bucket] <= nowMinute) {
+                for (int i = 0; i < sums.length; i++) {
+                    sums[i] += counts[bucket][i];
+                }
+            }
+        }
+        Map<E, Long> totals = new EnumMap<>(type);
+        for (E counter : type.getEnumConstants()) {
+            totals.put(counter, sums[counter.ordinal()]);
+        }
+        return totals;
+    }
+
+    // Helper methods
+    private static long epochMinute(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 60L);
+    }
+}
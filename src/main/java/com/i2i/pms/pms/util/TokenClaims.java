@@ -0,0 +1,35 @@
+package com.i2i.pms.pms.util;
+
+import java.util.Date;
+
+/**
+ * Claims of a verified JWT that the application reads. Immutable so it can be shared from the claims cache.
+ */
+public final class TokenClaims {
+
+    private final String email;
+    private final Long userId;
+    private final Date expiration;
+
+    public TokenClaims(String email, Long userId, Date expiration) {
+        this.email = email;
+        this.userId = userId;
+        this.expiration = expiration;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Date getExpiration() {
+        return expiration != null ? new Date(expiration.getTime()) : null;
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return expiration != null && expiration.getTime() <= nowMillis;
+    }
+}
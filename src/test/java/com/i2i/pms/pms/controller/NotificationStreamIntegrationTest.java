@@ -0,0 +1,179 @@
+package com.i2i.pms.pms.controller;
+
+import com.i2i.pms.pms.dto.LoginRequest;
+import com.i2i.pms.pms.entity.Notification;
+import com.i2i.pms.pms.entity.User;
+import com.i2i.pms.pms.repository.RoleRepository;
+import com.i2i.pms.pms.service.AuthService;
+import com.i2i.pms.pms.service.NotificationService;
+import com.i2i.pms.pms.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A real server: the stream is an async request that stays open while notifications are created
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class NotificationStreamIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private User user;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        user = userService.createUser(new User("Stream Reader", "streamreader", "stream.reader@example.com", "password123"));
+        userService.assignRoleToUser(user.getId(), roleRepository.findByName("DEVELOPER").orElseThrow().getId());
+        token = authService.login(new LoginRequest("stream.reader@example.com", "password123")).getToken();
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Through the service, so the cached principal of this email goes too
+        userService.deleteUser(user.getId());
+    }
+
+    @Test
+    void deliversNewNotificationsAndResumesAfterLastEventId() throws Exception {
+        Map<String, String> first;
+        Map<String, String> second;
+        try (Stream<String> lines = open(null)) {
+            BlockingQueue<String> received = read(lines);
+            notify("First");
+            notify("Second");
+            first = nextEvent(received);
+            second = nextEvent(received);
+        }
+        assertEquals("notification", first.get("event"));
+        assertTrue(first.get("data").contains("\"title\":\"First\""));
+        assertTrue(first.get("data").contains("\"userId\":" + user.getId()));
+        assertTrue(second.get("data").contains("\"title\":\"Second\""));
+
+        // Created while the client was away, then replayed after the last event it saw
+        notify("Third");
+        try (Stream<String> lines = open(first.get("id"))) {
+            BlockingQueue<String> received = read(lines);
+            assertEquals(second, nextEvent(received));
+            assertTrue(nextEvent(received).get("data").contains("\"title\":\"Third\""));
+        }
+
+        // Events that may be gone (e.g. from before a restart) are not guessed at
+        try (Stream<String> lines = open("stale-42")) {
+            assertEquals("resync", nextEvent(read(lines)).get("event"));
+        }
+    }
+
+    @Test
+    void listIsPagedUnlessUnpagedIsAsked() throws Exception {
+        notify("First");
+        notify("Second");
+        notify("Third");
+
+        // Paged by default, like the issue lists
+        String page = get("/api/notifications?size=2");
+        assertTrue(page.startsWith("{\"items\":["));
+        assertFalse(page.contains("\"title\":\"First\""));
+        assertFalse(page.contains("\"nextCursor\":null"));
+        assertTrue(get("/api/notifications").startsWith("{\"items\":["));
+
+        // The legacy plain array only on request
+        String legacy = get("/api/notifications?unpaged=true");
+        assertTrue(legacy.startsWith("["));
+        assertTrue(legacy.contains("\"title\":\"First\""));
+
+        assertTrue(get("/api/notifications/unread").contains("\"nextCursor\":null"));
+        assertTrue(get("/api/notifications/unread?unpaged=true").startsWith("["));
+    }
+
+    private void notify(String title) {
+        notificationService.createNotification(new Notification(title, "Something happened", Notification.NotificationType.SYSTEM, user));
+    }
+
+    private String get(String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer " + token)
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode());
+        return response.body();
+    }
+
+    private Stream<String> open(String lastEventId) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/notifications/stream"))
+                .header("Authorization", "Bearer " + token)
+                .header("Accept", "text/event-stream");
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        HttpResponse<Stream<String>> response = httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.ofLines())
+                .get(10, TimeUnit.SECONDS);
+        assertEquals(200, response.statusCode());
+        return response.body();
+    }
+
+    // Lines arrive on a reader thread; the stream starts with a "connected" comment once it is subscribed
+    private BlockingQueue<String> read(Stream<String> lines) throws InterruptedException {
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        Thread reader = new Thread(() -> {
+            try {
+                lines.forEach(received::add);
+            } catch (RuntimeException ignored) {
+                // Closed by the test
+            }
+        });
+        reader.setDaemon(true);
+        reader.start();
+        assertEquals(":connected", received.poll(10, TimeUnit.SECONDS));
+        return received;
+    }
+
+    // The fields of the next event, skipping comments
+    private Map<String, String> nextEvent(BlockingQueue<String> received) throws InterruptedException {
+        Map<String, String> event = new HashMap<>();
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (System.nanoTime() < deadline) {
+            String line = received.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            assertNotNull(line, "Timed out waiting for an event");
+            if (line.isEmpty()) {
+                if (!event.isEmpty()) {
+                    return event;
+                }
+            } else if (!line.startsWith(":")) {
+                int separator = line.indexOf(':');
+                event.put(line.substring(0, separator), line.substring(separator + 1));
+            }
+        }
+        return fail("Timed out waiting for an event");
+    }
+}
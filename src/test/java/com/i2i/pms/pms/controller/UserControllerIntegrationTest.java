@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.i2i.pms.pms.dto.LoginRequest;
 import com.i2i.pms.pms.dto.LoginResponse;
 import com.i2i.pms.pms.entity.User;
+import com.i2i.pms.pms.repository.RoleRepository;
 import com.i2i.pms.pms.service.AuthService;
 import com.i2i.pms.pms.service.UserService;
 import org.junit.jupiter.api.Test;
@@ -14,6 +15,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -30,36 +32,45 @@ class UserControllerIntegrationTest {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private RoleRepository roleRepository;
+
     private MockMvc mockMvc;
     private ObjectMapper objectMapper = new ObjectMapper();
 
     @Test
     void testGetCurrentUser_WithValidToken() throws Exception {
-        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).apply(springSecurity()).build();
 
         // First, create a test user and get a valid token
         User testUser = new User("Test User", "testuser", "test@example.com", "password123");
         testUser = userService.createUser(testUser);
+        userService.assignRoleToUser(testUser.getId(), roleRepository.findByName("DEVELOPER").orElseThrow().getId());
 
         // Login to get a token
         LoginRequest loginRequest = new LoginRequest("test@example.com", "password123");
         LoginResponse loginResponse = authService.login(loginRequest);
 
-        // Test the /me endpoint
-        mockMvc.perform(get("/api/users/me")
-                .header("Authorization", "Bearer " + loginResponse.getToken())
-                .contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id").value(testUser.getId()))
-                .andExpect(jsonPath("$.name").value("Test User"))
-                .andExpect(jsonPath("$.username").value("testuser"))
-                .andExpect(jsonPath("$.email").value("test@example.com"))
-                .andExpect(jsonPath("$.isActive").value(true));
+        try {
+            // Test the /me endpoint
+            mockMvc.perform(get("/api/users/me")
+                    .header("Authorization", "Bearer " + loginResponse.getToken())
+                    .contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id").value(testUser.getId()))
+                    .andExpect(jsonPath("$.name").value("Test User"))
+                    .andExpect(jsonPath("$.username").value("testuser"))
+                    .andExpect(jsonPath("$.email").value("test@example.com"))
+                    .andExpect(jsonPath("$.isActive").value(true));
+        } finally {
+            // Through the service, so the cached principal of this email goes too
+            userService.deleteUser(testUser.getId());
+        }
     }
 
     @Test
     void testGetCurrentUser_WithInvalidToken() throws Exception {
-        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).apply(springSecurity()).build();
 
         // Test with invalid token
         mockMvc.perform(get("/api/users/me")
@@ -70,7 +81,7 @@ class UserControllerIntegrationTest {
 
     @Test
     void testGetCurrentUser_WithoutToken() throws Exception {
-        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).apply(springSecurity()).build();
 
         // Test without token
         mockMvc.perform(get("/api/users/me")
@@ -0,0 +1,78 @@
+package com.i2i.pms.pms.security;
+
+import com.i2i.pms.pms.dto.CacheStatsDto;
+import com.i2i.pms.pms.entity.Role;
+import com.i2i.pms.pms.entity.User;
+import com.i2i.pms.pms.repository.RoleRepository;
+import com.i2i.pms.pms.repository.UserRepository;
+import com.i2i.pms.pms.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class PrincipalCacheTest {
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        // Entries cached by other tests may point at rows that were rolled back
+        principalCache.invalidateAll();
+        user = userRepository.save(new User("Cached User", "cacheduser", "cached.user@example.com", "password123"));
+    }
+
+    @Test
+    void secondLookupIsServedFromCache() {
+        CacheStatsDto before = principalCache.getStats();
+
+        JwtPrincipal first = principalCache.getActivePrincipal(user.getEmail());
+        JwtPrincipal second = principalCache.getActivePrincipal(user.getEmail());
+
+        CacheStatsDto after = principalCache.getStats();
+        assertEquals(user.getId(), first.getUserId());
+        assertSame(first, second);
+        assertEquals(1, after.getMisses() - before.getMisses());
+        assertEquals(1, after.getHits() - before.getHits());
+    }
+
+    @Test
+    void deactivatingUserInvalidatesCachedPrincipal() {
+        assertNotNull(principalCache.getActivePrincipal(user.getEmail()));
+
+        User details = new User(user.getName(), user.getUsername(), user.getEmail(), user.getPassword());
+        details.setIsActive(false);
+        userService.updateUser(user.getId(), details);
+
+        assertNull(principalCache.getActivePrincipal(user.getEmail()));
+    }
+
+    @Test
+    void roleChangesInvalidateCachedPrincipal() {
+        Role role = roleRepository.save(new Role("CACHE_TEST_ROLE"));
+        assertFalse(principalCache.getActivePrincipal(user.getEmail()).getRoles().contains("CACHE_TEST_ROLE"));
+
+        userService.assignRoleToUser(user.getId(), role.getId());
+        assertTrue(principalCache.getActivePrincipal(user.getEmail()).getRoles().contains("CACHE_TEST_ROLE"));
+
+        userService.removeRoleFromUser(user.getId(), role.getId());
+        assertFalse(principalCache.getActivePrincipal(user.getEmail()).getRoles().contains("CACHE_TEST_ROLE"));
+    }
+}
@@ -0,0 +1,139 @@
+package com.i2i.pms.pms.service;
+
+import com.i2i.pms.pms.dto.SuggestionDto;
+import com.i2i.pms.pms.entity.Issue;
+import com.i2i.pms.pms.entity.Project;
+import com.i2i.pms.pms.entity.User;
+import com.i2i.pms.pms.repository.IssueRepository;
+import com.i2i.pms.pms.repository.ProjectRepository;
+import com.i2i.pms.pms.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Before/after benchmark for type-ahead over 10k issues: every keystroke used to run the project and
+ * issue LIKE queries and hydrate each match, the prefix index answers from memory. Building the data
+ * set takes a while, so it is left out of the default build; run it with
+ * {@code mvn test -Dtest.excludedGroups=}.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class AutocompleteBenchmarkTest {
+
+    private static final int ISSUES = 10_000;
+    private static final List<String> KEYSTROKES = List.of("l", "lo", "log", "logi", "login");
+
+    @Autowired
+    private AutocompleteService autocompleteService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    private Project project;
+    private User reporter;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        reporter = userRepository.save(new User("Autocomplete Bench", "acbench", "ac.bench@example.com", "password123"));
+        project = projectService.createProject(new Project("ACB", "Autocomplete Benchmark", "Type-ahead benchmark project"));
+
+        // Bulk-load the issues in SQL (every fourth one about login, all of them about a flow), then index them
+        transactionTemplate.executeWithoutResult(status -> entityManager.createNativeQuery(
+                        "INSERT INTO issues (issue_key, summary, project_id, reporter_id, status, priority, issue_type, created_at, updated_at) " +
+                        "SELECT 'ACB-' || n, 'Benchmark issue ' || n || CASE WHEN n % 4 = 0 THEN ' login flow' ELSE ' export flow' END, " +
+                        ":projectId, :reporterId, 'TODO', 'MEDIUM', 'TASK', now(), now() FROM generate_series(1, :issues) AS n")
+                .setParameter("projectId", project.getId())
+                .setParameter("reporterId", reporter.getId())
+                .setParameter("issues", ISSUES)
+                .executeUpdate());
+        autocompleteService.rebuildIndexes();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> entityManager
+                .createNativeQuery("DELETE FROM issues WHERE project_id = :projectId")
+                .setParameter("projectId", project.getId())
+                .executeUpdate());
+        projectService.deleteProject(project.getId());
+        userRepository.deleteById(reporter.getId());
+    }
+
+    @Test
+    void prefixIndexAnswersKeystrokesWithoutQueries() {
+        String issueEntity = Issue.class.getName();
+
+        // Before: both LIKE queries on every keystroke, hydrating every match
+        statistics.clear();
+        Set<Long> likeMatches = Set.of();
+        for (String keystroke : KEYSTROKES) {
+            projectRepository.findByKeyword(keystroke);
+            likeMatches = issueRepository.findByProjectIdAndKeyword(project.getId(), keystroke).stream()
+                    .map(Issue::getId)
+                    .collect(Collectors.toSet());
+        }
+        long beforeStatements = statistics.getPrepareStatementCount();
+        long beforeIssues = statistics.getEntityStatistics(issueEntity).getLoadCount();
+
+        // After: the prefix index, a bounded number of suggestions per keystroke
+        statistics.clear();
+        List<SuggestionDto> suggestions = List.of();
+        for (String keystroke : KEYSTROKES) {
+            suggestions = autocompleteService.suggest(keystroke, 10);
+        }
+        long afterStatements = statistics.getPrepareStatementCount();
+
+        assertTrue(beforeStatements >= 2L * KEYSTROKES.size());
+        // "l" alone matches every issue through "flow"
+        assertTrue(beforeIssues >= ISSUES);
+        assertEquals(0, afterStatements);
+
+        assertEquals(ISSUES / 4, likeMatches.size());
+        List<SuggestionDto> issueSuggestions = suggestions.stream()
+                .filter(suggestion -> "ISSUE".equals(suggestion.getType()))
+                .toList();
+        assertFalse(issueSuggestions.isEmpty());
+        for (SuggestionDto suggestion : issueSuggestions) {
+            if (project.getId().equals(suggestion.getProjectId())) {
+                assertTrue(likeMatches.contains(suggestion.getId()), suggestion.getKey());
+            }
+        }
+    }
+}
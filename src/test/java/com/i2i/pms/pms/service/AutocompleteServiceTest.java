@@ -0,0 +1,120 @@
+package com.i2i.pms.pms.service;
+
+import com.i2i.pms.pms.dto.SuggestionDto;
+import com.i2i.pms.pms.entity.Issue;
+import com.i2i.pms.pms.entity.Project;
+import com.i2i.pms.pms.entity.User;
+import com.i2i.pms.pms.repository.IssueRepository;
+import com.i2i.pms.pms.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not transactional: the indexes only change once a write commits
+@SpringBootTest
+class AutocompleteServiceTest {
+
+    private static final int INDEXED_ISSUES = 500;
+
+    @Autowired
+    private AutocompleteService autocompleteService;
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Project project;
+    private User reporter;
+
+    @BeforeEach
+    void setUp() {
+        reporter = userRepository.save(new User("Autocomplete Reporter", "acreporter", "ac.reporter@example.com", "password123"));
+        project = projectService.createProject(new Project("ACMP", "Autocomplete Alpha", "Type-ahead project"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectService.deleteProject(project.getId());
+        userRepository.deleteById(reporter.getId());
+    }
+
+    @Test
+    void indexFollowsIssueAndProjectWrites() {
+        Issue issue = newIssue("Zephyr onboarding checklist");
+        issue.getTags().add("zeppelin");
+        Issue created = issueService.createIssue(issue);
+
+        assertEquals("PROJECT", autocompleteService.suggest("acmp", null).get(0).getType());
+        assertTrue(keys(autocompleteService.suggest("zeph", null)).contains(created.getIssueKey()));
+        assertTrue(keys(autocompleteService.suggest("zepp onboard", null)).contains(created.getIssueKey()));
+
+        Issue details = new Issue(created.getIssueKey(), "Yonder onboarding checklist", null);
+        issueService.updateIssue(created.getId(), details);
+        assertFalse(keys(autocompleteService.suggest("zeph", null)).contains(created.getIssueKey()));
+        assertTrue(keys(autocompleteService.suggest("yond", null)).contains(created.getIssueKey()));
+
+        issueService.deleteIssue(created.getId());
+        assertFalse(keys(autocompleteService.suggest("yond", null)).contains(created.getIssueKey()));
+    }
+
+    @Test
+    void indexAgreesWithKeywordQuery() {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Issue> issues = new ArrayList<>();
+            for (int i = 0; i < INDEXED_ISSUES; i++) {
+                Issue issue = newIssue("Benchmark issue " + i + (i % 2 == 0 ? " login flow" : " export flow"));
+                issue.setIssueKey("ACMP-B" + i);
+                issues.add(issue);
+            }
+            issueRepository.saveAll(issues);
+        });
+        autocompleteService.rebuildIndexes();
+
+        List<SuggestionDto> suggestions = autocompleteService.suggest("benchmark log", 20);
+        Set<Long> keywordMatches = issueRepository.findByProjectIdAndKeyword(project.getId(), "login").stream()
+                .map(Issue::getId)
+                .collect(Collectors.toSet());
+        assertEquals(20, suggestions.size());
+        assertTrue(suggestions.stream().allMatch(suggestion -> keywordMatches.contains(suggestion.getId())));
+
+        // Every suggestion for the other word comes from the other half of the issues
+        Set<Long> exportMatches = issueRepository.findByProjectIdAndKeyword(project.getId(), "export").stream()
+                .map(Issue::getId)
+                .collect(Collectors.toSet());
+        List<SuggestionDto> exportSuggestions = autocompleteService.suggest("benchmark exp", 20);
+        assertEquals(20, exportSuggestions.size());
+        assertTrue(exportSuggestions.stream().allMatch(suggestion -> exportMatches.contains(suggestion.getId())));
+    }
+
+    private Issue newIssue(String summary) {
+        Issue issue = new Issue(null, summary, null);
+        issue.setProject(project);
+        issue.setReporter(reporter);
+        return issue;
+    }
+
+    private List<String> keys(List<SuggestionDto> suggestions) {
+        return suggestions.stream().map(SuggestionDto::getKey).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,147 @@
+package com.i2i.pms.pms.service;
+
+import com.i2i.pms.pms.dto.BulkIssueUpdateRequest;
+import com.i2i.pms.pms.dto.BulkIssueUpdateResult;
+import com.i2i.pms.pms.entity.Issue;
+import com.i2i.pms.pms.entity.Project;
+import com.i2i.pms.pms.entity.User;
+import com.i2i.pms.pms.exception.ResourceNotFoundException;
+import com.i2i.pms.pms.repository.IssueRepository;
+import com.i2i.pms.pms.repository.IssueStatistics;
+import com.i2i.pms.pms.repository.ProjectRepository;
+import com.i2i.pms.pms.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class BulkIssueUpdateTest {
+
+    private static final int ISSUES = 120;
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private DashboardCounterService dashboardCounterService;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Project project;
+    private User assignee;
+    private List<Long> issueIds;
+
+    @BeforeEach
+    void setUp() {
+        User reporter = userRepository.save(new User("Bulk Reporter", "bulkreporter", "bulk.reporter@example.com", "password123"));
+        assignee = userRepository.save(new User("Bulk Assignee", "bulkassignee", "bulk.assignee@example.com", "password123"));
+        project = projectRepository.save(new Project("BLK", "Bulk Updates", "Bulk issue operations"));
+
+        issueIds = new ArrayList<>();
+        for (int i = 0; i < ISSUES; i++) {
+            Issue issue = new Issue(null, "Bulk issue " + i, null);
+            issue.setProject(project);
+            issue.setReporter(reporter);
+            issue.setStatus(Issue.Status.TODO);
+            issue.setPriority(Issue.Priority.LOW);
+            issue.getTags().add("legacy");
+            issueIds.add(issueService.createIssue(issue).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void updatesEveryIssueInBatchesAndReportsMissingOnes() {
+        BulkIssueUpdateRequest request = new BulkIssueUpdateRequest();
+        List<Long> requested = new ArrayList<>(issueIds);
+        requested.add(-1L);
+        request.setIssueIds(requested);
+        request.setStatus(Issue.Status.IN_PROGRESS);
+        request.setPriority(Issue.Priority.HIGH);
+        request.setAssigneeId(assignee.getId());
+        request.setAddTags(List.of("bulk"));
+        request.setRemoveTags(List.of("legacy"));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        BulkIssueUpdateResult result = issueService.bulkUpdateIssues(request);
+        entityManager.flush();
+        long statements = statistics.getPrepareStatementCount();
+
+        assertEquals(ISSUES + 1, result.getRequested());
+        assertEquals(ISSUES, result.getUpdated());
+        assertEquals(1, result.getFailed());
+        BulkIssueUpdateResult.ItemResult missing = result.getItems().get(ISSUES);
+        assertEquals(-1L, missing.getIssueId());
+        assertFalse(missing.getSuccess());
+        assertEquals("Issue not found", missing.getError());
+        assertTrue(result.getItems().get(0).getSuccess());
+        assertTrue(result.getItems().get(0).getIssueKey().startsWith("BLK-"));
+
+        // Row updates and tag changes are sent in JDBC batches rather than a statement per issue
+        assertEquals((long) ISSUES, statistics.getEntityUpdateCount());
+        assertTrue(statements < 30, () -> "Statements prepared: " + statements);
+
+        entityManager.clear();
+        Issue reloaded = issueRepository.findById(issueIds.get(0)).orElseThrow();
+        assertEquals(Issue.Status.IN_PROGRESS, reloaded.getStatus());
+        assertEquals(Issue.Priority.HIGH, reloaded.getPriority());
+        assertEquals(assignee.getId(), reloaded.getAssignee().getId());
+        assertEquals(Set.of("bulk"), reloaded.getTags());
+
+        IssueStatistics counters = dashboardCounterService.getIssueStatistics(project.getId(), LocalDateTime.now());
+        assertEquals((long) ISSUES, counters.getByStatus().get(Issue.Status.IN_PROGRESS));
+        assertEquals(0L, counters.getByStatus().get(Issue.Status.TODO));
+        assertEquals((long) ISSUES, counters.getByPriority().get(Issue.Priority.HIGH));
+    }
+
+    @Test
+    void resolutionMarksIssuesDoneAndInvalidRequestsFailAsAWhole() {
+        BulkIssueUpdateRequest resolve = new BulkIssueUpdateRequest();
+        resolve.setIssueIds(issueIds.subList(0, 2));
+        resolve.setResolution(Issue.Resolution.FIXED);
+        assertEquals(2, issueService.bulkUpdateIssues(resolve).getUpdated());
+        entityManager.flush();
+        entityManager.clear();
+        Issue resolved = issueRepository.findById(issueIds.get(0)).orElseThrow();
+        assertEquals(Issue.Status.DONE, resolved.getStatus());
+        assertNotNull(resolved.getResolvedAt());
+
+        BulkIssueUpdateRequest empty = new BulkIssueUpdateRequest();
+        empty.setIssueIds(issueIds);
+        assertThrows(IllegalArgumentException.class, () -> issueService.bulkUpdateIssues(empty));
+
+        BulkIssueUpdateRequest unknownAssignee = new BulkIssueUpdateRequest();
+        unknownAssignee.setIssueIds(issueIds);
+        unknownAssignee.setAssigneeId(-1L);
+        assertThrows(ResourceNotFoundException.class, () -> issueService.bulkUpdateIssues(unknownAssignee));
+    }
+}
@@ -0,0 +1,90 @@
+package com.i2i.pms.pms.service;
+
+import com.i2i.pms.pms.dto.DashboardDto;
+import com.i2i.pms.pms.entity.Issue;
+import com.i2i.pms.pms.entity.Project;
+import com.i2i.pms.pms.entity.User;
+import com.i2i.pms.pms.repository.UserRepository;
+import com.i2i.pms.pms.service.DashboardCacheService.Scope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not transactional: the cache is bypassed inside read-write transactions
+@SpringBootTest
+class DashboardCacheServiceTest {
+
+    @Autowired
+    private DashboardCacheService dashboardCacheService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Project first;
+    private Project second;
+    private User reporter;
+
+    @BeforeEach
+    void setUp() {
+        reporter = userRepository.save(new User("Cache Reporter", "cachereporter", "cache.reporter@example.com", "password123"));
+        first = projectService.createProject(new Project("DCA", "Cache Alpha", "Cached dashboard project"));
+        second = projectService.createProject(new Project("DCB", "Cache Beta", "Cached dashboard project"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectService.deleteProject(first.getId());
+        projectService.deleteProject(second.getId());
+        userRepository.deleteById(reporter.getId());
+    }
+
+    @Test
+    void issueWritesInvalidateOnlyAffectedScopes() {
+        AtomicInteger firstLoads = new AtomicInteger();
+        AtomicInteger secondLoads = new AtomicInteger();
+
+        assertEquals(0L, projectDashboard(first, firstLoads).getTotalIssues());
+        projectDashboard(second, secondLoads);
+        projectDashboard(first, firstLoads);
+        projectDashboard(second, secondLoads);
+        assertEquals(1, firstLoads.get());
+        assertEquals(1, secondLoads.get());
+
+        Issue issue = new Issue(null, "Cached issue", null);
+        issue.setProject(first);
+        issue.setReporter(reporter);
+        issueService.createIssue(issue);
+
+        assertEquals(1L, projectDashboard(first, firstLoads).getTotalIssues());
+        projectDashboard(second, secondLoads);
+        assertEquals(2, firstLoads.get());
+        assertEquals(1, secondLoads.get());
+    }
+
+    private DashboardDto projectDashboard(Project project, AtomicInteger loads) {
+        return dashboardCacheService.get(Scope.PROJECT, project.getId(), () -> {
+            loads.incrementAndGet();
+            // Requests load dashboards with the session held open by the web layer
+            return transactionTemplate.execute(status -> dashboardService.getProjectDashboard(project.getId()));
+        });
+    }
+}
@@ -0,0 +1,116 @@
+package com.i2i.pms.pms.service;
+
+import com.i2i.pms.pms.dto.CounterReconciliationReport;
+import com.i2i.pms.pms.entity.Issue;
+import com.i2i.pms.pms.entity.Project;
+import com.i2i.pms.pms.entity.User;
+import com.i2i.pms.pms.repository.DashboardCounterRepository;
+import com.i2i.pms.pms.repository.IssueStatistics;
+import com.i2i.pms.pms.repository.ProjectRepository;
+import com.i2i.pms.pms.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class DashboardCounterServiceTest {
+
+    @Autowired
+    private DashboardCounterService dashboardCounterService;
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private DashboardCounterRepository dashboardCounterRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Project project;
+    private User reporter;
+
+    @BeforeEach
+    void setUp() {
+        // Start from counters that match the current issues table
+        dashboardCounterService.reconcile();
+        // Counter rows are updated natively, so don't keep the entities loaded by that pass
+        entityManager.clear();
+
+        reporter = userRepository.save(new User("Counter Reporter", "counterreporter", "counter.reporter@example.com", "password123"));
+        project = projectRepository.save(new Project("CNT", "Counter Project", "Dashboard counter project"));
+    }
+
+    @Test
+    void countersFollowIssueWrites() {
+        Issue first = issueService.createIssue(newIssue("CNT-1", Issue.Priority.HIGH, 120));
+        Issue second = issueService.createIssue(newIssue("CNT-2", Issue.Priority.LOW, null));
+        issueService.createIssue(newIssue("CNT-3", Issue.Priority.LOW, 30));
+
+        issueService.updateIssueStatus(first.getId(), Issue.Status.IN_PROGRESS);
+        issueService.updateIssuePriority(second.getId(), Issue.Priority.CRITICAL);
+        issueService.resolveIssue(second.getId(), Issue.Resolution.FIXED);
+        issueService.deleteIssue(first.getId());
+
+        IssueStatistics statistics = dashboardCounterService.getIssueStatistics(project.getId(), LocalDateTime.now());
+        assertEquals(2, statistics.getTotalIssues());
+        assertEquals(1, statistics.countByStatus(Issue.Status.TODO));
+        assertEquals(1, statistics.countByStatus(Issue.Status.DONE));
+        assertEquals(0, statistics.countByStatus(Issue.Status.IN_PROGRESS));
+        assertEquals(1, statistics.countByPriority(Issue.Priority.CRITICAL));
+        assertEquals(1, statistics.countByPriority(Issue.Priority.LOW));
+        assertEquals(0, statistics.countByPriority(Issue.Priority.HIGH));
+        assertEquals(30L, statistics.getEstimatedTime());
+
+        entityManager.flush();
+        entityManager.clear();
+        CounterReconciliationReport report = dashboardCounterService.reconcile();
+        assertEquals(0, report.getDriftCount(), () -> "Unexpected drift: " + report.getDrifts());
+    }
+
+    @Test
+    void reconcileReportsAndRepairsDrift() {
+        issueService.createIssue(newIssue("CNT-1", Issue.Priority.MEDIUM, null));
+        entityManager.flush();
+
+        // Simulate a lost update on the project's TODO counter
+        dashboardCounterRepository.increment("PROJECT", project.getId(), "STATUS", "TODO", 5L);
+
+        CounterReconciliationReport report = dashboardCounterService.reconcile();
+        assertEquals(1, report.getDriftCount());
+        CounterReconciliationReport.CounterDrift drift = report.getDrifts().get(0);
+        assertEquals(project.getId(), drift.getProjectId());
+        assertEquals("TODO", drift.getDimensionValue());
+        assertEquals(1L, drift.getExpected());
+        assertEquals(6L, drift.getActual());
+
+        // Counter rows are updated natively, so drop the stale entities loaded by the first pass
+        entityManager.clear();
+        assertEquals(0, dashboardCounterService.reconcile().getDriftCount());
+        IssueStatistics statistics = dashboardCounterService.getIssueStatistics(project.getId(), LocalDateTime.now());
+        assertEquals(1, statistics.countByStatus(Issue.Status.TODO));
+    }
+
+    private Issue newIssue(String issueKey, Issue.Priority priority, Integer estimatedTime) {
+        Issue issue = new Issue(issueKey, "Counter issue " + issueKey, null);
+        issue.setProject(project);
+        issue.setReporter(reporter);
+        issue.setPriority(priority);
+        issue.setEstimatedTime(estimatedTime);
+        return issue;
+    }
+}
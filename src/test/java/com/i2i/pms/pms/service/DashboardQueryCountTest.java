@@ -0,0 +1,174 @@
+package com.i2i.pms.pms.service;
+
+import com.i2i.pms.pms.dto.DashboardDto;
+import com.i2i.pms.pms.entity.Issue;
+import com.i2i.pms.pms.entity.Project;
+import com.i2i.pms.pms.entity.User;
+import com.i2i.pms.pms.repository.IssueRepository;
+import com.i2i.pms.pms.repository.IssueStatistics;
+import com.i2i.pms.pms.repository.ProjectRepository;
+import com.i2i.pms.pms.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Before/after benchmark for the overall dashboard: counts the SQL statements issued by the
+ * per-counter queries the dashboard used to run and by the single aggregate scan that replaced them.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class DashboardQueryCountTest {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        User reporter = userRepository.save(new User("Dashboard Reporter", "dashreporter", "dash.reporter@example.com", "password123"));
+        project = new Project("DQC", "Dashboard Query Count", "Dashboard benchmark project");
+        project.setProjectLead(reporter);
+        project = projectRepository.save(project);
+
+        LocalDateTime now = LocalDateTime.now();
+        Issue.Status[] statuses = Issue.Status.values();
+        Issue.Priority[] priorities = Issue.Priority.values();
+        Issue.IssueType[] types = Issue.IssueType.values();
+        for (int i = 0; i < 40; i++) {
+            Issue issue = new Issue("DQC-" + (i + 1), "Benchmark issue " + i, "Description " + i);
+            issue.setProject(project);
+            issue.setReporter(reporter);
+            issue.setStatus(statuses[i % statuses.length]);
+            issue.setPriority(priorities[i % priorities.length]);
+            issue.setIssueType(types[i % types.length]);
+            issue.setDueDate(now.plusDays(i % 20 - 5));
+            issue.setEstimatedTime(i % 3 == 0 ? null : 60 * i);
+            issue.setActualTime(i % 4 == 0 ? null : 30 * i);
+            issueService.createIssue(issue);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void aggregateScanMatchesPerCounterQueriesWithOneStatement() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime weekStart = now.toLocalDate().atStartOfDay();
+
+        // Before: one round trip per counter
+        statistics.clear();
+        long total = issueRepository.countAllIssues();
+        long[] byStatus = new long[Issue.Status.values().length];
+        for (Issue.Status status : Issue.Status.values()) {
+            byStatus[status.ordinal()] = issueRepository.countByStatus(status);
+        }
+        long[] byPriority = new long[Issue.Priority.values().length];
+        for (Issue.Priority priority : Issue.Priority.values()) {
+            byPriority[priority.ordinal()] = issueRepository.countByPriority(priority);
+        }
+        long[] byType = new long[Issue.IssueType.values().length];
+        for (Issue.IssueType issueType : Issue.IssueType.values()) {
+            byType[issueType.ordinal()] = issueRepository.countByIssueType(issueType);
+        }
+        long overdue = issueRepository.countOverdueIssues(now);
+        long dueThisWeek = issueRepository.countIssuesDueBetween(weekStart, weekStart.plusWeeks(1));
+        long dueNextWeek = issueRepository.countIssuesDueBetween(weekStart.plusWeeks(1), weekStart.plusWeeks(2));
+        long completed = issueRepository.countCompletedIssues();
+        Long estimated = issueRepository.getTotalEstimatedTime();
+        Long actual = issueRepository.getTotalActualTime();
+        long before = statistics.getPrepareStatementCount();
+
+        // After: a single conditional-aggregation scan
+        statistics.clear();
+        IssueStatistics aggregate = issueRepository.aggregateIssueStatistics(null, now);
+        long after = statistics.getPrepareStatementCount();
+
+        assertEquals(1, after);
+        assertTrue(before > 20);
+
+        assertEquals(total, aggregate.getTotalIssues());
+        for (Issue.Status status : Issue.Status.values()) {
+            assertEquals(byStatus[status.ordinal()], aggregate.countByStatus(status), status.name());
+        }
+        for (Issue.Priority priority : Issue.Priority.values()) {
+            assertEquals(byPriority[priority.ordinal()], aggregate.countByPriority(priority), priority.name());
+        }
+        for (Issue.IssueType issueType : Issue.IssueType.values()) {
+            assertEquals(byType[issueType.ordinal()], aggregate.countByType(issueType), issueType.name());
+        }
+        assertEquals(overdue, aggregate.getOverdueIssues());
+        assertEquals(dueThisWeek, aggregate.getDueThisWeekIssues());
+        assertEquals(dueNextWeek, aggregate.getDueNextWeekIssues());
+        assertEquals(completed, aggregate.getCompletedIssues());
+        assertEquals(estimated, aggregate.getEstimatedTime());
+        assertEquals(actual, aggregate.getActualTime());
+    }
+
+    @Test
+    void overallDashboardCountsAllIssues() {
+        DashboardDto dashboard = dashboardService.getOverallDashboard();
+        assertNotNull(dashboard.getTotalIssues());
+        assertTrue(dashboard.getTotalIssues() >= 40);
+    }
+
+    @Test
+    void recentIssuesAreLimitedByTheDatabase() {
+        String issueEntity = Issue.class.getName();
+
+        // Before: every issue of the project is hydrated and trimmed in memory
+        statistics.clear();
+        List<Issue> all = issueRepository.findRecentIssuesByProject(project.getId());
+        entityManager.clear();
+
+        // After: the database returns only the top 10
+        statistics.clear();
+        List<Issue> top = issueRepository.findRecentIssuesByProject(project.getId(), PageRequest.of(0, 10));
+        long loadedAfter = statistics.getEntityStatistics(issueEntity).getLoadCount();
+
+        assertEquals(40, all.size());
+        assertEquals(10, top.size());
+        assertEquals(10, loadedAfter);
+        for (int i = 0; i < top.size(); i++) {
+            assertEquals(all.get(i).getUpdatedAt(), top.get(i).getUpdatedAt());
+        }
+
+        DashboardDto dashboard = dashboardService.getProjectDashboard(project.getId());
+        assertEquals(10, dashboard.getRecentIssues().size());
+    }
+}
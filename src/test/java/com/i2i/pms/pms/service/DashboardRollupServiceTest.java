@@ -0,0 +1,147 @@
+package com.i2i.pms.pms.service;
+
+import com.i2i.pms.pms.dto.DashboardDto;
+import com.i2i.pms.pms.entity.Issue;
+import com.i2i.pms.pms.entity.Project;
+import com.i2i.pms.pms.entity.User;
+import com.i2i.pms.pms.entity.WorkLog;
+import com.i2i.pms.pms.repository.DashboardRollupDirtyDayRepository;
+import com.i2i.pms.pms.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not transactional: the job only sees committed writes. Its schedule is pushed out so the test drives it.
+@SpringBootTest(properties = "dashboard.rollups.initial-delay-ms=3600000")
+class DashboardRollupServiceTest {
+
+    @Autowired
+    private DashboardRollupService dashboardRollupService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private WorkLogService workLogService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DashboardRollupDirtyDayRepository dashboardRollupDirtyDayRepository;
+
+    private Project project;
+    private User reporter;
+    private WorkLog workLog;
+    private String yesterday;
+    private String today;
+
+    @BeforeEach
+    void setUp() {
+        reporter = userRepository.save(new User("Rollup Reporter", "rollupreporter", "rollup.reporter@example.com", "password123"));
+        project = projectService.createProject(new Project("ROLL", "Rollup Project", "Period dashboard project"));
+        yesterday = LocalDate.now().minusDays(1).toString();
+        today = LocalDate.now().toString();
+        refreshRollups();
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Left behind when an assertion fails first; it would block the project's deletion
+        if (workLog != null) {
+            workLogService.deleteWorkLog(workLog.getId());
+        }
+        if (project != null) {
+            projectService.deleteProject(project.getId());
+        }
+        userRepository.deleteById(reporter.getId());
+        refreshRollups();
+    }
+
+    @Test
+    void periodDashboardFollowsRollupsOnceRefreshed() {
+        DashboardDto before = dashboardService.getDashboardForPeriod(yesterday, today);
+
+        Issue resolved = issueService.createIssue(newIssue("Resolved in period", null));
+        issueService.updateIssueStatus(resolved.getId(), Issue.Status.DONE);
+        Issue late = issueService.createIssue(newIssue("Overdue in period", LocalDateTime.now().minusDays(1)));
+        issueService.assignIssue(late.getId(), reporter.getId());
+        workLog = workLogService.createWorkLog(late.getId(), reporter.getId(), new WorkLog(90, "Rollup work", null, null));
+
+        // Writes only queue days; the figures move when the job runs
+        assertEquals(before.getCreatedIssues(), dashboardService.getDashboardForPeriod(yesterday, today).getCreatedIssues());
+        refreshRollups();
+
+        DashboardDto after = dashboardService.getDashboardForPeriod(yesterday, today);
+        assertEquals(before.getCreatedIssues() + 2, after.getCreatedIssues());
+        assertEquals(before.getResolvedIssues() + 1, after.getResolvedIssues());
+        assertEquals(before.getOverdueIssues() + 1, after.getOverdueIssues());
+        assertEquals(before.getLoggedHours() + 1.5, after.getLoggedHours(), 0.001);
+        assertEquals(countOrZero(before, "Rollup Reporter") + 1, countOrZero(after, "Rollup Reporter"));
+
+        // Reopening moves the issue out of the resolved bucket
+        issueService.updateIssueStatus(resolved.getId(), Issue.Status.IN_PROGRESS);
+        workLogService.deleteWorkLog(workLog.getId());
+        workLog = null;
+        refreshRollups();
+
+        DashboardDto reopened = dashboardService.getDashboardForPeriod(yesterday, today);
+        assertEquals(before.getResolvedIssues(), reopened.getResolvedIssues());
+        assertEquals(before.getLoggedHours(), reopened.getLoggedHours(), 0.001);
+        assertEquals(before.getCreatedIssues() + 2, reopened.getCreatedIssues());
+    }
+
+    @Test
+    void deletingProjectQueuesDaysWithoutRollupsYet() {
+        LocalDate dueDay = LocalDate.now().plusDays(3);
+        issueService.createIssue(newIssue("Claimed day", dueDay.atStartOfDay()));
+        // As if the job had claimed the queued days and not written their rollups yet
+        dashboardRollupDirtyDayRepository.deleteById(LocalDate.now());
+        dashboardRollupDirtyDayRepository.deleteById(dueDay);
+
+        projectService.deleteProject(project.getId());
+        project = null;
+
+        assertTrue(dashboardRollupDirtyDayRepository.existsById(LocalDate.now()));
+        assertTrue(dashboardRollupDirtyDayRepository.existsById(dueDay));
+    }
+
+    @Test
+    void rejectsInvalidPeriods() {
+        assertThrows(IllegalArgumentException.class, () -> dashboardService.getDashboardForPeriod(today, yesterday));
+        assertThrows(IllegalArgumentException.class, () -> dashboardService.getDashboardForPeriod("yesterday", today));
+    }
+
+    private Issue newIssue(String summary, LocalDateTime dueDate) {
+        Issue issue = new Issue(null, summary, null);
+        issue.setProject(project);
+        issue.setReporter(reporter);
+        issue.setDueDate(dueDate);
+        return issue;
+    }
+
+    private long countOrZero(DashboardDto dashboard, String assignee) {
+        return dashboard.getIssuesByAssignee().getOrDefault(assignee, 0L);
+    }
+
+    // Also waits out days claimed by the scheduled job of another test context on the same database
+    private void refreshRollups() {
+        long deadline = System.currentTimeMillis() + 10_000;
+        do {
+            dashboardRollupService.processDirtyDays(Integer.MAX_VALUE);
+        } while (dashboardRollupDirtyDayRepository.count() > 0 && System.currentTimeMillis() < deadline);
+    }
+}
@@ -0,0 +1,8 @@
+package com.i2i.pms.pms.service;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+// Same expectations against the in-memory index, used where the search schema is not installed
+@SpringBootTest(properties = "issues.search.engine=memory")
+class InMemoryIssueSearchServiceTest extends IssueSearchServiceTest {
+}
@@ -0,0 +1,110 @@
+package com.i2i.pms.pms.service;
+
+import com.i2i.pms.pms.entity.Issue;
+import com.i2i.pms.pms.entity.IssueHistory;
+import com.i2i.pms.pms.entity.Notification;
+import com.i2i.pms.pms.entity.Project;
+import com.i2i.pms.pms.entity.User;
+import com.i2i.pms.pms.repository.ProjectRepository;
+import com.i2i.pms.pms.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class InsertBatchingTest {
+
+    private static final int ROWS = 200;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+    private Issue issue;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("Batch Writer", "batchwriter", "batch.writer@example.com", "password123"));
+        Project project = projectRepository.save(new Project("BAT", "Insert Batching", "Write-heavy tables"));
+        Issue newIssue = new Issue(null, "Busy issue", null);
+        newIssue.setProject(project);
+        newIssue.setReporter(user);
+        issue = issueService.createIssue(newIssue);
+        entityManager.flush();
+    }
+
+    @Test
+    void notificationInsertsAreBatched() {
+        compare(i -> {
+            Notification notification = new Notification("Update " + i, "Issue BAT-1 changed", Notification.NotificationType.TASK_UPDATED, user);
+            notification.setRelatedTask(issue);
+            entityManager.persist(notification);
+        });
+    }
+
+    @Test
+    void historyInsertsAreBatched() {
+        compare(i -> {
+            IssueHistory history = new IssueHistory("status", "TODO", "IN_PROGRESS");
+            history.setIssue(issue);
+            history.setChangedBy(user);
+            entityManager.persist(history);
+        });
+    }
+
+    // Inserts the rows once one statement per row, once in batches, and compares the statement counts
+    private void compare(IntConsumer insert) {
+        long unbatched = run(1, insert);
+        long batched = run(BATCH_SIZE, insert);
+
+        // Sequence ids are fetched once per block of 50, and one prepared insert carries every batch
+        assertEquals(ROWS / BATCH_SIZE + 1, batched);
+        assertEquals(ROWS + ROWS / BATCH_SIZE, unbatched);
+    }
+
+    // Returns the number of statements prepared
+    private long run(int batchSize, IntConsumer insert) {
+        Session session = entityManager.unwrap(Session.class);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        session.setJdbcBatchSize(batchSize);
+        try {
+            statistics.clear();
+            for (int i = 0; i < ROWS; i++) {
+                insert.accept(i);
+            }
+            entityManager.flush();
+            long statements = statistics.getPrepareStatementCount();
+            entityManager.clear();
+            issue = entityManager.getReference(Issue.class, issue.getId());
+            user = entityManager.getReference(User.class, user.getId());
+            return statements;
+        } finally {
+            session.setJdbcBatchSize(null);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.i2i.pms.pms.service;
+
+import com.i2i.pms.pms.dto.DashboardDto;
+import com.i2i.pms.pms.dto.RecentIssueDto;
+import com.i2i.pms.pms.entity.Comment;
+import com.i2i.pms.pms.entity.Issue;
+import com.i2i.pms.pms.entity.Project;
+import com.i2i.pms.pms.entity.User;
+import com.i2i.pms.pms.repository.IssueRepository;
+import com.i2i.pms.pms.repository.ProjectRepository;
+import com.i2i.pms.pms.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class IssueCountsTest {
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Issue issue;
+    private User reporter;
+    private User watcher;
+
+    @BeforeEach
+    void setUp() {
+        reporter = userRepository.save(new User("Counts Reporter", "countsreporter", "counts.reporter@example.com", "password123"));
+        watcher = userRepository.save(new User("Counts Watcher", "countswatcher", "counts.watcher@example.com", "password123"));
+        Project project = projectRepository.save(new Project("CNT", "Issue Counts", "Comment and watcher counts"));
+
+        Issue newIssue = new Issue(null, "Counted issue", null);
+        newIssue.setProject(project);
+        newIssue.setReporter(reporter);
+        issue = issueService.createIssue(newIssue);
+    }
+
+    @Test
+    void commentAndWatcherWritesAdjustTheCounts() {
+        Comment parent = commentService.createComment(issue.getId(), reporter.getId(), new Comment("Parent", null, null));
+        Comment reply = new Comment("Reply", null, null);
+        reply.setParentComment(parent);
+        commentService.createComment(issue.getId(), watcher.getId(), reply);
+        commentService.createComment(issue.getId(), watcher.getId(), new Comment("Other", null, null));
+
+        issueService.addWatcher(issue.getId(), watcher.getId());
+        issueService.addWatcher(issue.getId(), watcher.getId());
+        issueService.addWatcher(issue.getId(), reporter.getId());
+        assertCounts(3, 2);
+
+        // Deleting a comment removes its replies too
+        commentService.deleteComment(parent.getId());
+        issueService.removeWatcher(issue.getId(), reporter.getId());
+        issueService.removeWatcher(issue.getId(), reporter.getId());
+        assertCounts(1, 1);
+    }
+
+    @Test
+    void repairRecountsDriftedIssues() {
+        commentService.createComment(issue.getId(), reporter.getId(), new Comment("Only", null, null));
+        entityManager.flush();
+        entityManager.createNativeQuery("UPDATE issues SET comment_count = 7, watcher_count = 3 WHERE id = :id")
+                .setParameter("id", issue.getId())
+                .executeUpdate();
+
+        assertTrue(issueService.repairCommentAndWatcherCounts() >= 1);
+        assertCounts(1, 0);
+        assertFalse(issueRepository.findIdsWithDriftedCounts().contains(issue.getId()));
+    }
+
+    @Test
+    void recentIssuesReadTheCountsWithoutLoadingCollections() {
+        commentService.createComment(issue.getId(), reporter.getId(), new Comment("Counted", null, null));
+        issueService.addWatcher(issue.getId(), watcher.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        DashboardDto dashboard = dashboardService.getProjectDashboard(issue.getProject().getId());
+
+        RecentIssueDto recent = dashboard.getRecentIssues().get(0);
+        assertEquals(1, recent.getCommentCount());
+        assertEquals(1, recent.getWatcherCount());
+        assertEquals(0, statistics.getCollectionStatistics(Issue.class.getName() + ".comments").getFetchCount());
+        assertEquals(0, statistics.getCollectionStatistics(Issue.class.getName() + ".watchers").getFetchCount());
+    }
+
+    private void assertCounts(int comments, int watchers) {
+        entityManager.flush();
+        entityManager.clear();
+        Issue reloaded = issueRepository.findById(issue.getId()).orElseThrow();
+        assertEquals(comments, reloaded.getCommentCount());
+        assertEquals(watchers, reloaded.getWatcherCount());
+    }
+}
@@ -0,0 +1,98 @@
+package com.i2i.pms.pms.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.i2i.pms.pms.entity.Issue;
+import com.i2i.pms.pms.entity.Project;
+import com.i2i.pms.pms.entity.User;
+import com.i2i.pms.pms.repository.ProjectRepository;
+import com.i2i.pms.pms.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.StringWriter;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class IssueExportServiceTest {
+
+    @Autowired
+    private IssueExportService issueExportService;
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        User reporter = userRepository.save(new User("Export Reporter", "exportreporter", "export.reporter@example.com", "password123"));
+        project = projectRepository.save(new Project("EXP", "Export Project", "Issue export project"));
+        String[] summaries = {"Plain summary", "Summary, with comma", "Summary with \"quotes\""};
+        for (int i = 0; i < summaries.length; i++) {
+            Issue issue = new Issue("EXP-" + (i + 1), summaries[i], null);
+            issue.setProject(project);
+            issue.setReporter(reporter);
+            if (i == 0) {
+                issue.setTags(new LinkedHashSet<>(List.of("export", "csv")));
+            }
+            issueService.createIssue(issue);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void exportsOneJsonObjectPerLine() throws Exception {
+        StringWriter writer = new StringWriter();
+        long count = issueExportService.exportIssues(IssueExportService.Format.NDJSON, project.getId(), writer);
+
+        String[] lines = writer.toString().split("\n");
+        assertEquals(3, count);
+        assertEquals(3, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("EXP-1", first.get("taskKey").asText());
+        assertEquals("exportreporter", first.get("reporter").get("username").asText());
+        assertEquals(2, first.get("tags").size());
+    }
+
+    @Test
+    void exportsEscapedCsvWithHeader() throws Exception {
+        StringWriter writer = new StringWriter();
+        long count = issueExportService.exportIssues(IssueExportService.Format.CSV, project.getId(), writer);
+
+        String[] lines = writer.toString().split("\r\n");
+        assertEquals(3, count);
+        assertEquals(4, lines.length);
+        assertTrue(lines[0].startsWith("id,taskKey,title,"));
+        assertTrue(lines[1].contains(",export;csv,") || lines[1].contains(",csv;export,"));
+        assertTrue(lines[2].contains(",\"Summary, with comma\","));
+        assertTrue(lines[3].contains(",\"Summary with \"\"quotes\"\"\","));
+    }
+
+    @Test
+    void rejectsUnknownFormat() {
+        assertEquals(IssueExportService.Format.CSV, IssueExportService.Format.from("csv"));
+        assertThrows(IllegalArgumentException.class, () -> IssueExportService.Format.from("xml"));
+    }
+}
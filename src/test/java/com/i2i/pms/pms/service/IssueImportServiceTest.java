@@ -0,0 +1,175 @@
+package com.i2i.pms.pms.service;
+
+import com.i2i.pms.pms.dto.IssueImportDto;
+import com.i2i.pms.pms.entity.Issue;
+import com.i2i.pms.pms.entity.Project;
+import com.i2i.pms.pms.entity.User;
+import com.i2i.pms.pms.repository.IssueImportRepository;
+import com.i2i.pms.pms.repository.IssueRepository;
+import com.i2i.pms.pms.repository.ProjectRepository;
+import com.i2i.pms.pms.repository.UserRepository;
+import com.i2i.pms.pms.service.impl.IssueImportServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not transactional: every chunk commits, and the checkpoint must survive a failed run
+@SpringBootTest
+class IssueImportServiceTest {
+
+    private static final int CHUNK_SIZE = 100;
+    private static final int RECORDS = 250;
+
+    @Autowired
+    private IssueImportServiceImpl issueImportService;
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private DashboardCounterService dashboardCounterService;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private IssueImportRepository issueImportRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Project project;
+    private User importer;
+    private User assignee;
+    private final List<Long> importIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(issueImportService, "chunkSize", CHUNK_SIZE);
+        importer = userRepository.save(new User("Import Runner", "importrunner", "import.runner@example.com", "password123"));
+        assignee = userRepository.save(new User("Import Assignee", "importassignee", "import.assignee@example.com", "password123"));
+        project = projectRepository.save(new Project("IMP", "Import Target", "Bulk import project"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(issueImportService, "chunkSize", 1000);
+        importIds.forEach(issueImportRepository::deleteById);
+        projectService.deleteProject(project.getId());
+        userRepository.deleteById(assignee.getId());
+        userRepository.deleteById(importer.getId());
+    }
+
+    @Test
+    void importsValidRecordsAndReportsTheRest() throws IOException {
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < RECORDS; i++) {
+            if (i == 10) {
+                input.append("{\"projectKey\":\"IMP\",\"summary\":\"Old tracker issue\",\"assignee\":\"nobody\"}\n");
+            } else if (i == 20) {
+                input.append("{\"projectKey\":\"IMP\",\"summary\":\n");
+            } else if (i == 30) {
+                // Explicit keys are kept, and the project's allocation moves past them
+                input.append("{\"issueKey\":\"IMP-500\",\"projectKey\":\"IMP\",\"summary\":\"Migrated with its key\"}\n");
+            } else {
+                input.append("{\"projectKey\":\"IMP\",\"summary\":\"Imported issue ").append(i)
+                        .append("\",\"status\":\"DONE\",\"assignee\":\"importassignee\",\"tags\":[\"legacy\"],")
+                        .append("\"createdAt\":\"2020-03-01T10:00:00\"}\n");
+            }
+        }
+
+        IssueImportDto result = issueImportService.importIssues(IssueImportService.Format.NDJSON,
+                new StringReader(input.toString()), null, importer.getId());
+        importIds.add(result.getId());
+
+        assertEquals("COMPLETED", result.getStatus());
+        assertEquals(RECORDS, result.getRecordsProcessed());
+        assertEquals(RECORDS - 2, result.getIssuesCreated());
+        assertEquals(2, result.getRecordsFailed());
+        assertEquals(List.of(11L, 21L), result.getErrors().stream().map(IssueImportDto.RecordError::getRecord).toList());
+        assertEquals("Unknown assignee 'nobody'", result.getErrors().get(0).getMessage());
+
+        List<Issue> issues = issueRepository.findByProjectId(project.getId());
+        assertEquals(RECORDS - 2, issues.size());
+        Set<String> keys = new HashSet<>();
+        issues.forEach(issue -> keys.add(issue.getIssueKey()));
+        assertEquals(RECORDS - 2, keys.size());
+        assertTrue(keys.contains("IMP-500"));
+        assertEquals("IMP-" + (500 + RECORDS - 2), issueService.generateIssueKey(project.getId()));
+
+        Issue imported = issueRepository.findByIssueKey("IMP-501").orElseThrow();
+        assertEquals(LocalDateTime.of(2020, 3, 1, 10, 0), imported.getCreatedAt());
+        assertEquals(imported.getCreatedAt(), imported.getResolvedAt());
+        assertEquals(RECORDS - 2L, dashboardCounterService.getIssueStatistics(project.getId(), LocalDateTime.now()).getTotalIssues());
+    }
+
+    @Test
+    void interruptedImportResumesFromItsCheckpoint() throws IOException {
+        String input = csv(RECORDS);
+        Reader failing = new StringReader(input) {
+            private int read;
+
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                if (read > input.length() * 3 / 5) {
+                    throw new IOException("Connection reset");
+                }
+                int count = super.read(buffer, offset, Math.min(length, 64));
+                read += Math.max(count, 0);
+                return count;
+            }
+        };
+        assertThrows(IOException.class,
+                () -> issueImportService.importIssues(IssueImportService.Format.CSV, failing, null, importer.getId()));
+
+        Long importId = issueImportRepository.findAll().stream()
+                .filter(issueImport -> importer.getId().equals(issueImport.getCreatedById()))
+                .findFirst().orElseThrow().getId();
+        importIds.add(importId);
+        IssueImportDto interrupted = issueImportService.getImport(importId);
+        assertEquals("INTERRUPTED", interrupted.getStatus());
+        assertEquals("Connection reset", interrupted.getLastError());
+        assertEquals(CHUNK_SIZE, interrupted.getRecordsProcessed());
+        assertEquals((long) CHUNK_SIZE, issueRepository.countByProjectId(project.getId()));
+
+        IssueImportDto resumed = issueImportService.importIssues(IssueImportService.Format.CSV,
+                new StringReader(input), importId, importer.getId());
+        assertEquals("COMPLETED", resumed.getStatus());
+        assertEquals(RECORDS, resumed.getIssuesCreated());
+        assertEquals((long) RECORDS, issueRepository.countByProjectId(project.getId()));
+
+        Issue quoted = issueRepository.findByIssueKey("IMP-7").orElseThrow();
+        assertEquals("Row 6, with \"quotes\"", quoted.getSummary());
+        assertEquals("line one\nline two", quoted.getDescription());
+        assertThrows(IllegalStateException.class, () -> issueImportService.importIssues(IssueImportService.Format.CSV,
+                new StringReader(input), importId, importer.getId()));
+    }
+
+    private String csv(int records) {
+        StringBuilder csv = new StringBuilder("summary,projectKey,description,priority,tags\r\n");
+        for (int i = 0; i < records; i++) {
+            csv.append("\"Row ").append(i).append(", with \"\"quotes\"\"\",IMP,\"line one\nline two\",HIGH,a;b\r\n");
+        }
+        return csv.toString();
+    }
+}
@@ -0,0 +1,127 @@
+package com.i2i.pms.pms.service;
+
+import com.i2i.pms.pms.entity.Issue;
+import com.i2i.pms.pms.entity.Project;
+import com.i2i.pms.pms.entity.User;
+import com.i2i.pms.pms.repository.DashboardRollupDirtyDayRepository;
+import com.i2i.pms.pms.repository.IssueRepository;
+import com.i2i.pms.pms.repository.ProjectRepository;
+import com.i2i.pms.pms.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not transactional: every create commits so concurrent allocations really contend. The issues are
+// deleted with the project afterwards, and the rollups they touched are recomputed before the next test.
+@SpringBootTest
+class IssueKeySequenceTest {
+
+    private static final int THREADS = 8;
+    private static final int ISSUES = 2000;
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DashboardRollupService dashboardRollupService;
+
+    @Autowired
+    private DashboardRollupDirtyDayRepository dashboardRollupDirtyDayRepository;
+
+    private Project project;
+    private User reporter;
+
+    @BeforeEach
+    void setUp() {
+        reporter = userRepository.save(new User("Sequence Reporter", "seqreporter", "seq.reporter@example.com", "password123"));
+        project = projectRepository.save(new Project("SEQ", "Sequence Project", "Issue key sequence project"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        Long projectId = project.getId();
+        projectService.deleteProject(projectId);
+        userRepository.deleteById(reporter.getId());
+        assertEquals(0L, issueRepository.countByProjectId(projectId).longValue());
+        refreshRollups();
+    }
+
+    @Test
+    void concurrentCreatesGetUniqueContiguousKeys() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<String>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < ISSUES; i++) {
+                futures.add(executor.submit(() -> issueService.createIssue(newIssue()).getIssueKey()));
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.MINUTES));
+        } finally {
+            // No create may still be running when the project is deleted
+            executor.shutdownNow();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+
+        TreeSet<Long> numbers = new TreeSet<>();
+        for (Future<String> future : futures) {
+            String key = future.get();
+            assertTrue(key.startsWith("SEQ-"), key);
+            assertTrue(numbers.add(Long.parseLong(key.substring("SEQ-".length()))), () -> "Duplicate key " + key);
+        }
+        assertEquals(ISSUES, numbers.size());
+        assertEquals(1L, numbers.first());
+        assertEquals((long) ISSUES, numbers.last());
+        assertEquals(ISSUES, issueRepository.countByProjectId(project.getId()).longValue());
+    }
+
+    @Test
+    void keysAreNotReusedAfterDelete() {
+        issueService.createIssue(newIssue());
+        Issue second = issueService.createIssue(newIssue());
+        assertEquals("SEQ-2", second.getIssueKey());
+
+        issueService.deleteIssue(second.getId());
+
+        assertEquals("SEQ-3", issueService.createIssue(newIssue()).getIssueKey());
+        assertEquals(List.of("SEQ-4", "SEQ-5", "SEQ-6"), issueService.generateIssueKeys(project.getId(), 3));
+    }
+
+    // Also waits out days claimed by the scheduled job of another test context on the same database
+    private void refreshRollups() {
+        long deadline = System.currentTimeMillis() + 10_000;
+        do {
+            dashboardRollupService.processDirtyDays(Integer.MAX_VALUE);
+        } while (dashboardRollupDirtyDayRepository.count() > 0 && System.currentTimeMillis() < deadline);
+    }
+
+    private Issue newIssue() {
+        Issue issue = new Issue(null, "Sequenced issue", null);
+        issue.setProject(project);
+        issue.setReporter(reporter);
+        return issue;
+    }
+}
@@ -0,0 +1,105 @@
+package com.i2i.pms.pms.service;
+
+import com.i2i.pms.pms.dto.CursorPage;
+import com.i2i.pms.pms.dto.IssueDto;
+import com.i2i.pms.pms.entity.Issue;
+import com.i2i.pms.pms.entity.Project;
+import com.i2i.pms.pms.entity.User;
+import com.i2i.pms.pms.repository.IssueListScope;
+import com.i2i.pms.pms.repository.ProjectRepository;
+import com.i2i.pms.pms.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class IssuePaginationTest {
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private IssueQueryService issueQueryService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        User reporter = userRepository.save(new User("Page Reporter", "pagereporter", "page.reporter@example.com", "password123"));
+        project = projectRepository.save(new Project("PAG", "Pagination Project", "Keyset pagination project"));
+        for (int i = 0; i < 25; i++) {
+            Issue issue = new Issue("PAG-" + (i + 1), "Paged issue " + i, null);
+            issue.setProject(project);
+            issue.setReporter(reporter);
+            issueService.createIssue(issue);
+        }
+        entityManager.flush();
+
+        // Give most issues the same timestamp so the id tie-breaker decides their order
+        entityManager.createQuery("UPDATE Issue i SET i.updatedAt = :updatedAt WHERE i.project.id = :projectId AND i.issueKey <> 'PAG-1'")
+                .setParameter("updatedAt", LocalDateTime.of(2024, 1, 1, 12, 0))
+                .setParameter("projectId", project.getId())
+                .executeUpdate();
+        entityManager.clear();
+    }
+
+    @Test
+    void pagesCoverEveryIssueOnceInStableOrder() {
+        List<IssueDto> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<IssueDto> page = issueQueryService.getIssuePage(IssueListScope.PROJECT, project.getId(), cursor, 10);
+            assertTrue(page.getItems().size() <= 10);
+            seen.addAll(page.getItems());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(25, seen.size());
+        Set<Long> ids = new HashSet<>();
+        seen.forEach(issue -> ids.add(issue.getId()));
+        assertEquals(25, ids.size());
+
+        // Newest first, then descending id among equal timestamps
+        assertEquals("PAG-1", seen.get(0).getTaskKey());
+        for (int i = 2; i < seen.size(); i++) {
+            assertTrue(seen.get(i - 1).getId() > seen.get(i).getId());
+        }
+    }
+
+    @Test
+    void pageSizeIsCappedAndValidated() {
+        CursorPage<IssueDto> page = issueQueryService.getIssuePage(IssueListScope.PROJECT, project.getId(), null, 10_000);
+        assertEquals(200, page.getSize());
+        assertEquals(25, page.getItems().size());
+        assertNull(page.getNextCursor());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> issueQueryService.getIssuePage(IssueListScope.ALL, null, null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> issueQueryService.getIssuePage(IssueListScope.ALL, null, "not-a-cursor", 10));
+    }
+}
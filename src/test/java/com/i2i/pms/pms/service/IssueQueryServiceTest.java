@@ -0,0 +1,123 @@
+package com.i2i.pms.pms.service;
+
+import com.i2i.pms.pms.dto.IssueDto;
+import com.i2i.pms.pms.entity.Issue;
+import com.i2i.pms.pms.entity.Project;
+import com.i2i.pms.pms.entity.Role;
+import com.i2i.pms.pms.entity.User;
+import com.i2i.pms.pms.mapper.IssueMapper;
+import com.i2i.pms.pms.repository.IssueListScope;
+import com.i2i.pms.pms.repository.IssueRepository;
+import com.i2i.pms.pms.repository.ProjectRepository;
+import com.i2i.pms.pms.repository.RoleRepository;
+import com.i2i.pms.pms.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Statement counts for building a 100-issue list through managed entities versus the projection read path.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class IssueQueryServiceTest {
+
+    private static final int ISSUE_COUNT = 100;
+
+    @Autowired
+    private IssueQueryService issueQueryService;
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private IssueMapper issueMapper;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Role role = roleRepository.save(new Role("QUERY_TESTER", "Issue query test role"));
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            User user = new User("Query User" + i, "queryuser" + i, "query.user" + i + "@example.com", "password123");
+            user.addRole(role);
+            users.add(userRepository.save(user));
+        }
+        project = projectRepository.save(new Project("QRY", "Query Project", "Issue query project"));
+
+        for (int i = 0; i < ISSUE_COUNT; i++) {
+            Issue issue = new Issue("QRY-" + (i + 1), "Query issue " + i, "Description " + i);
+            issue.setProject(project);
+            issue.setReporter(users.get(i % users.size()));
+            if (i % 3 != 0) {
+                issue.setAssignee(users.get((i + 1) % users.size()));
+            }
+            issue.setEstimatedTime(i % 2 == 0 ? 90 : null);
+            issue.setTags(i % 4 == 0 ? Set.of("backend", "tag" + i) : Set.of());
+            issueService.createIssue(issue);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void projectionPathUsesConstantStatementCount() {
+        // Before: entity list plus lazy tags, reporter, assignee and their roles per issue
+        statistics.clear();
+        List<IssueDto> legacy = issueMapper.toDtoList(issueRepository.findByProjectId(project.getId()));
+        // The mapper hands out the lazy tag collections; JSON serialization initializes each of them
+        legacy.forEach(dto -> dto.getTags().size());
+        long before = statistics.getPrepareStatementCount();
+        entityManager.clear();
+
+        // After: issues, tags, user roles and users in four statements
+        statistics.clear();
+        List<IssueDto> projected = issueQueryService.getIssues(IssueListScope.PROJECT, project.getId());
+        long after = statistics.getPrepareStatementCount();
+
+        assertEquals(4, after);
+        assertTrue(before > ISSUE_COUNT);
+
+        assertEquals(ISSUE_COUNT, projected.size());
+        legacy.sort(Comparator.comparing(IssueDto::getId));
+        List<IssueDto> sorted = new ArrayList<>(projected);
+        sorted.sort(Comparator.comparing(IssueDto::getId));
+        assertEquals(legacy, sorted);
+    }
+}
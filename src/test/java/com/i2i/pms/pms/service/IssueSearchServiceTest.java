@@ -0,0 +1,118 @@
+package com.i2i.pms.pms.service;
+
+import com.i2i.pms.pms.dto.BulkIssueUpdateRequest;
+import com.i2i.pms.pms.dto.IssueDto;
+import com.i2i.pms.pms.dto.SearchPage;
+import com.i2i.pms.pms.entity.Issue;
+import com.i2i.pms.pms.entity.Project;
+import com.i2i.pms.pms.entity.User;
+import com.i2i.pms.pms.repository.ProjectRepository;
+import com.i2i.pms.pms.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class IssueSearchServiceTest {
+
+    @Autowired
+    private IssueSearchService issueSearchService;
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Project project;
+    private Project otherProject;
+    private User reporter;
+
+    @BeforeEach
+    void setUp() {
+        reporter = userRepository.save(new User("Search Reporter", "searchreporter", "search.reporter@example.com", "password123"));
+        project = projectRepository.save(new Project("SRCH", "Search Project", "Full-text search project"));
+        otherProject = projectRepository.save(new Project("SRCX", "Other Search Project", "Second search project"));
+
+        createIssue(project, "Authentication fails on login", "Stack trace attached", Set.of("security"), Issue.Status.TODO);
+        createIssue(project, "Dashboard layout", "The authentication banner overlaps the chart", Set.of(), Issue.Status.IN_PROGRESS);
+        createIssue(project, "Export to CSV", "Quotes are not escaped", Set.of("authentication"), Issue.Status.TODO);
+        createIssue(otherProject, "Authentication for the other project", null, Set.of(), Issue.Status.TODO);
+        entityManager.flush();
+    }
+
+    @Test
+    void prefixMatchesAreRankedBySummaryThenTagsThenDescription() {
+        SearchPage<IssueDto> page = issueSearchService.searchIssues("Auth", project.getId(), null, null, null);
+
+        assertEquals(List.of("Authentication fails on login", "Export to CSV", "Dashboard layout"), summaries(page));
+        assertFalse(page.isHasNext());
+    }
+
+    @Test
+    void everyTermMustMatchAndFiltersApply() {
+        assertEquals(List.of("Dashboard layout"),
+                summaries(issueSearchService.searchIssues("auth dash", project.getId(), null, null, null)));
+        assertEquals(List.of("Dashboard layout"),
+                summaries(issueSearchService.searchIssues("authentication", project.getId(), Issue.Status.IN_PROGRESS, null, null)));
+        assertTrue(summaries(issueSearchService.searchIssues("authentication", null, null, null, null))
+                .contains("Authentication for the other project"));
+        assertThrows(IllegalArgumentException.class, () -> issueSearchService.searchIssues("?!", null, null, null, null));
+    }
+
+    @Test
+    void resultsArePaged() {
+        SearchPage<IssueDto> first = issueSearchService.searchIssues("auth", project.getId(), null, 0, 2);
+        SearchPage<IssueDto> second = issueSearchService.searchIssues("auth", project.getId(), null, 1, 2);
+
+        assertEquals(List.of("Authentication fails on login", "Export to CSV"), summaries(first));
+        assertTrue(first.isHasNext());
+        assertEquals(List.of("Dashboard layout"), summaries(second));
+        assertFalse(second.isHasNext());
+    }
+
+    @Test
+    void bulkTagChangesAreSearchable() {
+        Long exportId = issueSearchService.searchIssues("csv", project.getId(), null, null, null).getItems().get(0).getId();
+        BulkIssueUpdateRequest request = new BulkIssueUpdateRequest();
+        request.setIssueIds(List.of(exportId));
+        request.setAddTags(List.of("billing"));
+        request.setRemoveTags(List.of("authentication"));
+        issueService.bulkUpdateIssues(request);
+        entityManager.flush();
+
+        assertEquals(List.of("Export to CSV"),
+                summaries(issueSearchService.searchIssues("billing", project.getId(), null, null, null)));
+        assertEquals(List.of("Authentication fails on login", "Dashboard layout"),
+                summaries(issueSearchService.searchIssues("auth", project.getId(), null, null, null)));
+    }
+
+    private void createIssue(Project owner, String summary, String description, Set<String> tags, Issue.Status status) {
+        Issue issue = new Issue(null, summary, description);
+        issue.setProject(owner);
+        issue.setReporter(reporter);
+        issue.setStatus(status);
+        issue.getTags().addAll(tags);
+        issueService.createIssue(issue);
+    }
+
+    private List<String> summaries(SearchPage<IssueDto> page) {
+        return page.getItems().stream().map(IssueDto::getTitle).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,101 @@
+package com.i2i.pms.pms.service;
+
+import com.i2i.pms.pms.dto.MyDashboardDto;
+import com.i2i.pms.pms.entity.Issue;
+import com.i2i.pms.pms.entity.Project;
+import com.i2i.pms.pms.entity.User;
+import com.i2i.pms.pms.repository.ProjectRepository;
+import com.i2i.pms.pms.repository.UserRepository;
+import com.i2i.pms.pms.service.impl.DashboardServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not transactional: the sections are loaded on worker threads that only see committed rows
+@SpringBootTest
+class MyDashboardServiceTest {
+
+    @Autowired
+    private DashboardServiceImpl dashboardService;
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Project project;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("My Dashboard User", "mydashuser", "my.dash@example.com", "password123"));
+        Project newProject = new Project("MYD", "My Dashboard Project", "Personal dashboard project");
+        newProject.setProjectLead(user);
+        // Saved directly so the lead is not also a member; memberships would outlive the project
+        project = projectRepository.save(newProject);
+
+        Issue issue = new Issue(null, "Personal issue", null);
+        issue.setProject(project);
+        issue.setReporter(user);
+        Issue created = issueService.createIssue(issue);
+        issueService.assignIssue(created.getId(), user.getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(dashboardService, "myDashboardDeadlineMillis", 2000L);
+        projectService.deleteProject(project.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void combinesEveryPerspectiveOfTheUser() {
+        MyDashboardDto dashboard = dashboardService.getMyDashboard(user.getId(), true);
+
+        assertFalse(dashboard.isPartial());
+        assertTrue(dashboard.getMissingSections().isEmpty());
+        assertEquals(1L, dashboard.getAsManager().getProjectsAsLead());
+        assertEquals(1L, dashboard.getAsManager().getIssuesInLeadProjects());
+        assertEquals(0L, dashboard.getAsMember().getProjectsAsLead());
+        assertEquals(1L, dashboard.getAssignedIssues().getTotalIssues());
+        assertEquals(1L, dashboard.getReportedIssues().getTotalIssues());
+    }
+
+    @Test
+    void managerSectionIsLeftOutWhenNotRequested() {
+        MyDashboardDto dashboard = dashboardService.getMyDashboard(user.getId(), false);
+
+        assertFalse(dashboard.isPartial());
+        assertNull(dashboard.getAsManager());
+        assertFalse(dashboard.getMissingSections().contains("asManager"));
+        assertEquals(1L, dashboard.getAssignedIssues().getTotalIssues());
+    }
+
+    @Test
+    void sectionsMissingTheDeadlineAreFlagged() {
+        ReflectionTestUtils.setField(dashboardService, "myDashboardDeadlineMillis", 0L);
+
+        MyDashboardDto dashboard = dashboardService.getMyDashboard(user.getId(), true);
+
+        assertTrue(dashboard.isPartial());
+        assertFalse(dashboard.getMissingSections().isEmpty());
+        for (String section : List.of("asManager", "asMember", "assignedIssues", "reportedIssues")) {
+            Object value = ReflectionTestUtils.getField(dashboard, section);
+            assertEquals(dashboard.getMissingSections().contains(section), value == null, section);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.i2i.pms.pms.service;
+
+import com.i2i.pms.pms.entity.Issue;
+import com.i2i.pms.pms.entity.Notification;
+import com.i2i.pms.pms.entity.Notification.NotificationType;
+import com.i2i.pms.pms.entity.Project;
+import com.i2i.pms.pms.entity.User;
+import com.i2i.pms.pms.repository.NotificationRepository;
+import com.i2i.pms.pms.repository.ProjectRepository;
+import com.i2i.pms.pms.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A window longer than the test, flushed by hand; one fan-out worker so batches see each other's windows
+@SpringBootTest(properties = {"notifications.digest.window-ms=600000", "notifications.fanout.threads=1"})
+class NotificationDigestTest {
+
+    private static final int UPDATES = 20;
+
+    @Autowired
+    private NotificationDigestService notificationDigestService;
+
+    @Autowired
+    private NotificationFanoutService notificationFanoutService;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User reporter;
+    private User assignee;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        reporter = userRepository.save(new User("Digest Reporter", "digestreporter", "digest.reporter@example.com", "password123"));
+        assignee = userRepository.save(new User("Digest Assignee", "digestassignee", "digest.assignee@example.com", "password123"));
+        project = projectRepository.save(new Project("DIG", "Digest", "Notification digests"));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        awaitFanout();
+        notificationDigestService.flushAll();
+        // Notifications go with their issues and users by ON DELETE CASCADE
+        projectService.deleteProject(project.getId());
+        userRepository.deleteById(assignee.getId());
+        userRepository.deleteById(reporter.getId());
+    }
+
+    @Test
+    void burstOnOneIssueCollapsesIntoOneRowPerRecipient() throws InterruptedException {
+        Issue issue = new Issue(null, "Busy issue", null);
+        issue.setProject(project);
+        issue.setReporter(reporter);
+        issue.setAssignee(assignee);
+        Long issueId = issueService.createIssue(issue).getId();
+        for (int i = 0; i < UPDATES; i++) {
+            issueService.updateIssuePriority(issueId, i % 2 == 0 ? Issue.Priority.HIGH : Issue.Priority.LOW);
+        }
+        awaitFanout();
+
+        // Only the first update of the burst is written right away
+        assertEquals(1, updates(assignee).size());
+        assertEquals(1, updates(reporter).size());
+
+        // The reporter has already read it, so the rest of the burst needs a row of its own
+        notificationService.markAsRead(updates(reporter).get(0).getId(), reporter.getId());
+        assertEquals(2, notificationDigestService.flushAll());
+        assertEquals(0, notificationDigestService.getOpenWindows());
+
+        List<Notification> assigneeUpdates = updates(assignee);
+        assertEquals(1, assigneeUpdates.size());
+        assertEquals(UPDATES, assigneeUpdates.get(0).getOccurrences());
+        assertEquals(2L, notificationService.getUnreadCount(assignee.getId()));
+
+        List<Notification> reporterUpdates = updates(reporter);
+        assertEquals(List.of(1, UPDATES - 1), reporterUpdates.stream().map(Notification::getOccurrences).toList());
+        assertTrue(reporterUpdates.get(0).getIsRead());
+        assertFalse(reporterUpdates.get(1).getIsRead());
+        assertEquals(1L, notificationService.getUnreadCount(reporter.getId()));
+    }
+
+    // Oldest first
+    private List<Notification> updates(User user) {
+        return notificationRepository.findByUserIdOrderByCreatedAtDesc(user.getId()).stream()
+                .filter(notification -> notification.getType() == NotificationType.TASK_UPDATED)
+                .sorted(Comparator.comparing(Notification::getCreatedAt).thenComparing(Notification::getId))
+                .toList();
+    }
+
+    private void awaitFanout() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (notificationFanoutService.getPendingEvents() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(0, notificationFanoutService.getPendingEvents());
+    }
+}
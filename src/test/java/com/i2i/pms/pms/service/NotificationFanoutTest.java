@@ -0,0 +1,142 @@
+package com.i2i.pms.pms.service;
+
+import com.i2i.pms.pms.dto.BulkIssueUpdateRequest;
+import com.i2i.pms.pms.entity.Comment;
+import com.i2i.pms.pms.entity.Issue;
+import com.i2i.pms.pms.entity.Notification;
+import com.i2i.pms.pms.entity.Notification.NotificationType;
+import com.i2i.pms.pms.entity.Project;
+import com.i2i.pms.pms.entity.User;
+import com.i2i.pms.pms.repository.NotificationRepository;
+import com.i2i.pms.pms.repository.ProjectRepository;
+import com.i2i.pms.pms.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not transactional: events are fanned out once the writing transaction commits
+@SpringBootTest
+class NotificationFanoutTest {
+
+    @Autowired
+    private NotificationFanoutService notificationFanoutService;
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User reporter;
+    private User assignee;
+    private User watcher;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        reporter = userRepository.save(new User("Fanout Reporter", "fanoutreporter", "fanout.reporter@example.com", "password123"));
+        assignee = userRepository.save(new User("Fanout Assignee", "fanoutassignee", "fanout.assignee@example.com", "password123"));
+        watcher = userRepository.save(new User("Fanout Watcher", "fanoutwatcher", "fanout.watcher@example.com", "password123"));
+        project = projectRepository.save(new Project("FAN", "Fan-out", "Notification fan-out"));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        awaitFanout();
+        // Notifications go with their issues and users by ON DELETE CASCADE
+        projectService.deleteProject(project.getId());
+        userRepository.deleteById(watcher.getId());
+        userRepository.deleteById(assignee.getId());
+        userRepository.deleteById(reporter.getId());
+    }
+
+    @Test
+    void everyoneInvolvedButTheActorIsNotified() throws InterruptedException {
+        Issue issue = newIssue("Notify me");
+        issue.setAssignee(assignee);
+        Long issueId = issueService.createIssue(issue).getId();
+        issueService.addWatcher(issueId, watcher.getId());
+        commentService.createComment(issueId, watcher.getId(), new Comment("Any news?", null, null));
+        issueService.resolveIssue(issueId, Issue.Resolution.FIXED);
+        awaitFanout();
+
+        assertEquals(List.of(NotificationType.TASK_ASSIGNED, NotificationType.TASK_COMPLETED, NotificationType.COMMENT_ADDED), types(assignee));
+        assertEquals(List.of(NotificationType.TASK_COMPLETED, NotificationType.COMMENT_ADDED), types(reporter));
+        assertEquals(List.of(NotificationType.TASK_COMPLETED), types(watcher));
+
+        Notification completed = notificationRepository.findByUserIdOrderByCreatedAtDesc(watcher.getId()).get(0);
+        assertEquals("Task has been completed: " + issue.getIssueKey(), completed.getMessage());
+        assertEquals(0, notificationFanoutService.getDroppedEvents());
+        issueService.removeWatcher(issueId, watcher.getId());
+    }
+
+    @Test
+    void bulkChangesFanOutAsOneEvent() throws InterruptedException {
+        List<Long> issueIds = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            issueIds.add(issueService.createIssue(newIssue("Bulk " + i)).getId());
+        }
+        // Ten of them already belong to the assignee
+        for (int i = 0; i < 10; i++) {
+            Issue issue = newIssue("Assigned " + i);
+            issue.setAssignee(assignee);
+            issueIds.add(issueService.createIssue(issue).getId());
+        }
+        awaitFanout();
+        assertEquals(10, types(assignee).size());
+
+        BulkIssueUpdateRequest request = new BulkIssueUpdateRequest();
+        request.setIssueIds(issueIds);
+        request.setAssigneeId(assignee.getId());
+        issueService.bulkUpdateIssues(request);
+        awaitFanout();
+
+        // The new assignee hears about the assignment only, the reporter about the update; issues
+        // that were already assigned to the assignee are an update for them too
+        assertEquals(70, types(assignee).stream().filter(type -> type == NotificationType.TASK_ASSIGNED).count());
+        assertEquals(10, types(assignee).stream().filter(type -> type == NotificationType.TASK_UPDATED).count());
+        assertEquals(80, types(assignee).size());
+        assertEquals(70, types(reporter).stream().filter(type -> type == NotificationType.TASK_UPDATED).count());
+        assertEquals(70, types(reporter).size());
+    }
+
+    private Issue newIssue(String summary) {
+        Issue issue = new Issue(null, summary, null);
+        issue.setProject(project);
+        issue.setReporter(reporter);
+        return issue;
+    }
+
+    // Sorted by type: events of one batch may be written in any order
+    private List<NotificationType> types(User user) {
+        return notificationRepository.findByUserIdOrderByCreatedAtDesc(user.getId()).stream()
+                .map(Notification::getType).sorted().toList();
+    }
+
+    private void awaitFanout() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (notificationFanoutService.getPendingEvents() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(0, notificationFanoutService.getPendingEvents());
+    }
+}
@@ -0,0 +1,126 @@
+package com.i2i.pms.pms.service;
+
+import com.i2i.pms.pms.dto.CursorPage;
+import com.i2i.pms.pms.entity.Notification;
+import com.i2i.pms.pms.entity.User;
+import com.i2i.pms.pms.repository.NotificationRepository;
+import com.i2i.pms.pms.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+class NotificationPaginationTest {
+
+    private static final LocalDateTime OLD = LocalDateTime.now().minusDays(400).withNano(0);
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("Page Reader", "pagereader", "page.reader@example.com", "password123"));
+        for (int i = 0; i < 12; i++) {
+            notificationService.createNotification(new Notification("Ping " + i, "Something happened",
+                    Notification.NotificationType.SYSTEM, user));
+        }
+        entityManager.flush();
+
+        // Half the history is old, all with one timestamp so the id tie-breaker decides their order
+        entityManager.createQuery("UPDATE Notification n SET n.createdAt = :createdAt WHERE n.user.id = :userId AND n.title IN :titles")
+                .setParameter("createdAt", OLD)
+                .setParameter("userId", user.getId())
+                .setParameter("titles", List.of("Ping 0", "Ping 1", "Ping 2", "Ping 3", "Ping 4", "Ping 5"))
+                .executeUpdate();
+        entityManager.createQuery("UPDATE Notification n SET n.isRead = true WHERE n.user.id = :userId AND n.title IN :titles")
+                .setParameter("userId", user.getId())
+                .setParameter("titles", List.of("Ping 0", "Ping 1", "Ping 2", "Ping 3", "Ping 6", "Ping 7"))
+                .executeUpdate();
+        entityManager.clear();
+    }
+
+    @Test
+    void pagesWalkTheHistoryNewestFirstWithoutGapsOrRepeats() {
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<Notification> page = notificationService.getNotificationPage(user.getId(), false, null, cursor, 5);
+            assertTrue(page.getItems().size() <= 5);
+            page.getItems().forEach(notification -> seen.add(notification.getId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        List<Long> expected = notificationRepository.findByUserIdOrderByCreatedAtDesc(user.getId()).stream()
+                .sorted(Comparator.comparing(Notification::getCreatedAt).thenComparing(Notification::getId).reversed())
+                .map(Notification::getId)
+                .toList();
+        assertEquals(3, pages);
+        assertEquals(expected, seen);
+    }
+
+    @Test
+    void unreadAndSinceFiltersNarrowThePage() {
+        CursorPage<Notification> unread = notificationService.getNotificationPage(user.getId(), true, null, null, 50);
+        assertEquals(6, unread.getItems().size());
+        assertTrue(unread.getItems().stream().noneMatch(Notification::getIsRead));
+        assertNull(unread.getNextCursor());
+
+        CursorPage<Notification> recent = notificationService.getNotificationPage(user.getId(), false, OLD.plusDays(1), null, 50);
+        assertEquals(6, recent.getItems().size());
+        assertTrue(recent.getItems().stream().allMatch(notification -> notification.getCreatedAt().isAfter(OLD)));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> notificationService.getNotificationPage(user.getId(), false, null, "not-a-cursor", 5));
+        assertThrows(IllegalArgumentException.class,
+                () -> notificationService.getNotificationPage(user.getId(), false, null, null, 0));
+    }
+
+    @Test
+    void retentionPurgesOnlyOldReadNotificationsInBatches() {
+        long unreadBefore = notificationService.getUnreadCount(user.getId());
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(90);
+
+        // Rows of other users may also be due, so batches run until the purge is exhausted
+        int batches = 0;
+        int deleted;
+        do {
+            deleted = notificationService.deleteReadNotificationsBefore(cutoff, 3);
+            assertTrue(deleted <= 3);
+            batches++;
+        } while (deleted == 3);
+        entityManager.clear();
+
+        List<String> remaining = notificationRepository.findByUserIdOrderByCreatedAtDesc(user.getId()).stream()
+                .map(Notification::getTitle)
+                .sorted()
+                .toList();
+        // Ping 0-3 were old and read; old unread and recent read notifications stay
+        assertEquals(List.of("Ping 10", "Ping 11", "Ping 4", "Ping 5", "Ping 6", "Ping 7", "Ping 8", "Ping 9"), remaining);
+        assertTrue(batches >= 2);
+        assertEquals(unreadBefore, notificationService.getUnreadCount(user.getId()));
+    }
+}
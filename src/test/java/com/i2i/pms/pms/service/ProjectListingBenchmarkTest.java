@@ -0,0 +1,141 @@
+package com.i2i.pms.pms.service;
+
+import com.i2i.pms.pms.dto.ProjectDto;
+import com.i2i.pms.pms.entity.Issue;
+import com.i2i.pms.pms.entity.Project;
+import com.i2i.pms.pms.entity.User;
+import com.i2i.pms.pms.mapper.ProjectMapper;
+import com.i2i.pms.pms.repository.ProjectCounts;
+import com.i2i.pms.pms.repository.ProjectRepository;
+import com.i2i.pms.pms.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Before/after benchmark for project listings over 200 projects and 200k issues: the old mapping
+ * loaded every project's issue and member collections, the new one reads grouped counts. Building
+ * the data set takes a while, so it is left out of the default build; run it with
+ * {@code mvn test -Dtest.excludedGroups=}.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class ProjectListingBenchmarkTest {
+
+    private static final int PROJECTS = 200;
+    private static final int ISSUES_PER_PROJECT = 1000;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private DashboardCounterService dashboardCounterService;
+
+    @Autowired
+    private ProjectMapper projectMapper;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private List<Long> projectIds;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        User lead = userRepository.save(new User("Listing Lead", "listinglead", "listing.lead@example.com", "password123"));
+        User member = userRepository.save(new User("Listing Member", "listingmember", "listing.member@example.com", "password123"));
+        projectIds = new ArrayList<>();
+        for (int i = 0; i < PROJECTS; i++) {
+            Project project = new Project("PLB" + i, "Listing Benchmark " + i, "Project listing benchmark");
+            project.setProjectLead(lead);
+            project.getMembers().add(lead);
+            if (i % 2 == 0) {
+                project.getMembers().add(member);
+            }
+            projectIds.add(projectRepository.save(project).getId());
+        }
+        entityManager.flush();
+
+        // Bulk-load the issues in SQL (every fifth one DONE), then rebuild the counters from them
+        entityManager.createNativeQuery("INSERT INTO issues (issue_key, summary, project_id, reporter_id, status, priority, issue_type, created_at, updated_at) " +
+                        "SELECT p.project_key || '-' || n, 'Listing issue ' || n, p.id, :reporterId, " +
+                        "CASE WHEN n % 5 = 0 THEN 'DONE' ELSE 'TODO' END, 'MEDIUM', 'TASK', now(), now() " +
+                        "FROM projects p CROSS JOIN generate_series(1, :issues) AS n WHERE p.id IN (:projectIds)")
+                .setParameter("reporterId", lead.getId())
+                .setParameter("issues", ISSUES_PER_PROJECT)
+                .setParameter("projectIds", projectIds)
+                .executeUpdate();
+        dashboardCounterService.reconcile();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void groupedCountsMatchCollectionLoadsWithoutReadingIssues() {
+        String issueEntity = Issue.class.getName();
+
+        // Before: each project's members and issues are loaded to be counted. Projects are loaded and
+        // cleared one at a time only to bound the heap; the issue rows read are the same.
+        statistics.clear();
+        Map<Long, int[]> loaded = new HashMap<>();
+        for (Long projectId : projectIds) {
+            Project project = projectRepository.findById(projectId).orElseThrow();
+            int completed = (int) project.getIssues().stream()
+                    .filter(issue -> issue.getStatus() == Issue.Status.DONE)
+                    .count();
+            loaded.put(project.getId(), new int[]{project.getMembers().size(), project.getIssues().size(), completed});
+            entityManager.clear();
+        }
+        long beforeStatements = statistics.getPrepareStatementCount();
+        long beforeIssues = statistics.getEntityStatistics(issueEntity).getLoadCount();
+        entityManager.clear();
+
+        // After: two grouped queries for the whole page, members left out
+        List<Project> projects = projectRepository.findAllById(projectIds);
+        statistics.clear();
+        Map<Long, ProjectCounts> counts = projectService.getProjectCounts(projectIds);
+        List<ProjectDto> dtos = projectMapper.toDtoList(projects, counts, false);
+        long afterStatements = statistics.getPrepareStatementCount();
+        long afterIssues = statistics.getEntityStatistics(issueEntity).getLoadCount();
+
+        assertTrue(beforeStatements > PROJECTS);
+        assertEquals((long) PROJECTS * ISSUES_PER_PROJECT, beforeIssues);
+        assertEquals(0, afterIssues);
+        // The two grouped queries plus one load of the lead shared by every project
+        assertEquals(3, afterStatements);
+
+        assertEquals(PROJECTS, dtos.size());
+        for (ProjectDto dto : dtos) {
+            assertArrayEquals(loaded.get(dto.getId()), new int[]{dto.getMemberCount(), dto.getIssueCount(), dto.getCompletedIssueCount()});
+            assertTrue(dto.getMembers().isEmpty());
+        }
+        assertEquals(ISSUES_PER_PROJECT / 5, dtos.get(0).getCompletedIssueCount());
+    }
+}
@@ -0,0 +1,108 @@
+package com.i2i.pms.pms.service;
+
+import com.i2i.pms.pms.entity.Comment;
+import com.i2i.pms.pms.entity.Issue;
+import com.i2i.pms.pms.entity.Project;
+import com.i2i.pms.pms.entity.User;
+import com.i2i.pms.pms.entity.WorkLog;
+import com.i2i.pms.pms.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not transactional: events reach the window when the writing transaction commits
+@SpringBootTest
+class RealtimeDashboardServiceTest {
+
+    @Autowired
+    private RealtimeDashboardService realtimeDashboardService;
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private WorkLogService workLogService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Project project;
+    private User reporter;
+
+    @BeforeEach
+    void setUp() {
+        reporter = userRepository.save(new User("Realtime Reporter", "rtreporter", "rt.reporter@example.com", "password123"));
+        project = projectService.createProject(new Project("RTD", "Realtime Project", "Wallboard project"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectService.deleteProject(project.getId());
+        userRepository.deleteById(reporter.getId());
+    }
+
+    @Test
+    void windowFollowsCommittedActivity() {
+        Map<String, Long> before = counters();
+
+        Issue issue = issueService.createIssue(newIssue());
+        issueService.updateIssueStatus(issue.getId(), Issue.Status.DONE);
+        Comment comment = commentService.createComment(issue.getId(), reporter.getId(), new Comment("Looks good", null, null));
+        Comment reply = new Comment("Agreed", null, null);
+        reply.setParentComment(comment);
+        commentService.createComment(issue.getId(), reporter.getId(), reply);
+        WorkLog workLog = workLogService.createWorkLog(issue.getId(), reporter.getId(), new WorkLog(45, "Review", null, null));
+
+        Map<String, Long> after = counters();
+        assertEquals(before.get("ISSUES_CREATED") + 1, after.get("ISSUES_CREATED"));
+        assertEquals(before.get("ISSUES_RESOLVED") + 1, after.get("ISSUES_RESOLVED"));
+        assertEquals(before.get("COMMENTS_ADDED") + 2, after.get("COMMENTS_ADDED"));
+        assertEquals(before.get("MINUTES_LOGGED") + 45, after.get("MINUTES_LOGGED"));
+
+        // Rolled-back writes never reach the window
+        transactionTemplate.executeWithoutResult(status -> {
+            issueService.createIssue(newIssue());
+            status.setRollbackOnly();
+        });
+        assertEquals(after, counters());
+
+        // Reopening, deleting (the reply goes with its comment) and seeding from the database all agree
+        issueService.updateIssueStatus(issue.getId(), Issue.Status.IN_PROGRESS);
+        workLogService.deleteWorkLog(workLog.getId());
+        commentService.deleteComment(comment.getId());
+        Map<String, Long> reverted = counters();
+        assertEquals(before.get("ISSUES_RESOLVED"), reverted.get("ISSUES_RESOLVED"));
+        assertEquals(before.get("COMMENTS_ADDED"), reverted.get("COMMENTS_ADDED"));
+        assertEquals(before.get("MINUTES_LOGGED"), reverted.get("MINUTES_LOGGED"));
+
+        realtimeDashboardService.seed();
+        assertEquals(reverted, counters());
+    }
+
+    private Map<String, Long> counters() {
+        return realtimeDashboardService.getSnapshot().getCounters();
+    }
+
+    private Issue newIssue() {
+        Issue issue = new Issue(null, "Realtime issue", null);
+        issue.setProject(project);
+        issue.setReporter(reporter);
+        return issue;
+    }
+}
@@ -0,0 +1,150 @@
+package com.i2i.pms.pms.service;
+
+import com.i2i.pms.pms.entity.Notification;
+import com.i2i.pms.pms.entity.User;
+import com.i2i.pms.pms.repository.NotificationRepository;
+import com.i2i.pms.pms.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not transactional: every write commits on its own, interleaved with the others
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class UnreadNotificationCountTest {
+
+    private static final int WRITERS = 4;
+    private static final int NOTIFICATIONS_PER_WRITER = 50;
+
+    // NotificationRepository.countUnreadByUserId; statistics are kept per query, so jobs running meanwhile do not count
+    private static final String UNREAD_COUNT_QUERY = "SELECT COUNT(n) FROM Notification n WHERE n.user.id = :userId AND n.isRead = false";
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("Unread Counter", "unreadcounter", "unread.counter@example.com", "password123"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Notifications go with the user by ON DELETE CASCADE
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void countStaysExactUnderInterleavedInsertsAndReads() throws Exception {
+        // Loaded once up front; from then on every write adjusts the count in memory
+        assertEquals(0L, notificationService.getUnreadCount(user.getId()));
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> writers = new ArrayList<>();
+        try {
+            for (int writer = 0; writer < WRITERS; writer++) {
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < NOTIFICATIONS_PER_WRITER; i++) {
+                        notificationService.createNotification(new Notification("Ping " + i, "Something happened",
+                                Notification.NotificationType.SYSTEM, user));
+                    }
+                    return null;
+                }));
+            }
+            // Reads, marks and deletes race with the inserts, and with each other on the same rows
+            Future<?> reader = executor.submit(() -> {
+                start.await();
+                while (writers.stream().anyMatch(writer -> !writer.isDone())) {
+                    notificationService.getUnreadCount(user.getId());
+                    List<Notification> notifications = notificationService.getNotificationsByUser(user.getId());
+                    if (!notifications.isEmpty()) {
+                        Notification target = notifications.get(ThreadLocalRandom.current().nextInt(notifications.size()));
+                        notificationService.markAsRead(target.getId(), user.getId());
+                        if (ThreadLocalRandom.current().nextBoolean()) {
+                            notificationService.deleteNotification(target.getId(), user.getId());
+                        }
+                    }
+                    if (ThreadLocalRandom.current().nextInt(4) == 0) {
+                        notificationService.markAllAsRead(user.getId());
+                    }
+                }
+                return null;
+            });
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(60, TimeUnit.SECONDS);
+            }
+            reader.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Statistics statistics = statistics();
+        long unread = notificationRepository.countUnreadByUserId(user.getId());
+        assertEquals(1, unreadCountQueries(statistics));
+        statistics.clear();
+        assertEquals(unread, notificationService.getUnreadCount(user.getId()));
+        assertEquals(0, unreadCountQueries(statistics));
+
+        notificationService.markAllAsRead(user.getId());
+        assertEquals(0L, notificationService.getUnreadCount(user.getId()));
+    }
+
+    @Test
+    void pollingIsServedFromMemory() {
+        for (int i = 0; i < 3; i++) {
+            notificationService.createNotification(new Notification("Ping " + i, "Something happened",
+                    Notification.NotificationType.SYSTEM, user));
+        }
+        assertEquals(3L, notificationService.getUnreadCount(user.getId()));
+
+        Statistics statistics = statistics();
+        for (int i = 0; i < 100; i++) {
+            assertEquals(3L, notificationService.getUnreadCount(user.getId()));
+        }
+        assertEquals(0, unreadCountQueries(statistics));
+
+        Long first = notificationRepository.findByUserIdOrderByCreatedAtDesc(user.getId()).get(0).getId();
+        notificationService.markAsRead(first, user.getId());
+        notificationService.markAsRead(first, user.getId());
+        assertEquals(2L, notificationService.getUnreadCount(user.getId()));
+        notificationService.deleteNotification(first, user.getId());
+        assertEquals(2L, notificationService.getUnreadCount(user.getId()));
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private long unreadCountQueries(Statistics statistics) {
+        return statistics.getQueryStatistics(UNREAD_COUNT_QUERY).getExecutionCount();
+    }
+}
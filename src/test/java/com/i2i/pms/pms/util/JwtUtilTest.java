@@ -0,0 +1,79 @@
+package com.i2i.pms.pms.util;
+
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "a3f9c7d2e5b4a19f82c0d6e7f5a4b3c29d4e1f7b8a6c2d3f0e1a5b6c7d8e9f01f2a1c3b5d7e9f0a2b4c6d8e0f1a3b5c7";
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = newJwtUtil(60_000L, 2);
+    }
+
+    @Test
+    void repeatedTokenIsServedFromCache() {
+        String token = jwtUtil.generateToken("cache@example.com", 42L);
+
+        TokenClaims first = jwtUtil.parseToken(token);
+        TokenClaims second = jwtUtil.parseToken(token);
+
+        assertSame(first, second);
+        assertEquals("cache@example.com", second.getEmail());
+        assertEquals(42L, second.getUserId());
+        assertTrue(jwtUtil.validateToken(token));
+    }
+
+    @Test
+    void tamperedAndEmptyTokensAreRejected() {
+        String token = jwtUtil.generateToken("cache@example.com", 42L);
+        jwtUtil.parseToken(token);
+
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+        assertThrows(JwtException.class, () -> jwtUtil.parseToken(tampered));
+        assertFalse(jwtUtil.validateToken(tampered));
+        assertFalse(jwtUtil.validateToken(""));
+        assertFalse(jwtUtil.validateToken(null));
+    }
+
+    @Test
+    void expiredTokenIsNotServedFromCache() throws InterruptedException {
+        JwtUtil shortLived = newJwtUtil(1_000L, 10);
+        String token = shortLived.generateToken("expiry@example.com", 7L);
+        assertTrue(shortLived.validateToken(token));
+
+        // JWT expiry has second precision
+        Thread.sleep(2_100L);
+        assertFalse(shortLived.validateToken(token));
+    }
+
+    @Test
+    void cacheEvictsLeastRecentlyUsedTokens() {
+        String a = jwtUtil.generateToken("a@example.com", 1L);
+        String b = jwtUtil.generateToken("b@example.com", 2L);
+        String c = jwtUtil.generateToken("c@example.com", 3L);
+
+        TokenClaims claimsA = jwtUtil.parseToken(a);
+        jwtUtil.parseToken(b);
+        jwtUtil.parseToken(c);
+
+        // Cache holds two entries, so a was evicted and is verified again
+        assertNotSame(claimsA, jwtUtil.parseToken(a));
+    }
+
+    private JwtUtil newJwtUtil(long expiration, int cacheSize) {
+        JwtUtil util = new JwtUtil();
+        ReflectionTestUtils.setField(util, "secret", SECRET);
+        ReflectionTestUtils.setField(util, "expiration", expiration);
+        ReflectionTestUtils.setField(util, "claimsCacheMaxSize", cacheSize);
+        util.init();
+        return util;
+    }
+}
@@ -0,0 +1,87 @@
+package com.i2i.pms.pms.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadingCacheTest {
+
+    private static final int THREADS = 16;
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        LoadingCache<String, Integer> cache = new LoadingCache<>("test", 10, 60_000);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> cache.get("hot", () -> {
+                loads.incrementAndGet();
+                await(release);
+                return 42;
+            })));
+        }
+        // Give every thread time to reach the cache before the load finishes
+        Thread.sleep(200);
+        release.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        for (Future<Integer> future : futures) {
+            assertEquals(42, future.get());
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1L, cache.getStats().getLoads());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedAndExpires() throws Exception {
+        LoadingCache<String, Integer> cache = new LoadingCache<>("test", 2, 60_000);
+        cache.get("a", () -> 1);
+        cache.get("b", () -> 2);
+        cache.get("a", () -> -1);
+        cache.get("c", () -> 3);
+
+        assertEquals(1, cache.get("a", () -> -1));
+        assertEquals(20, cache.get("b", () -> 20));
+        // "a" was used after "b", so adding "c" evicted "b", and reloading "b" evicted "c"
+        assertEquals(2L, cache.getStats().getEvictions());
+
+        LoadingCache<String, Integer> shortLived = new LoadingCache<>("test", 2, 50);
+        shortLived.get("a", () -> 1);
+        Thread.sleep(100);
+        assertEquals(2, shortLived.get("a", () -> 2));
+    }
+
+    @Test
+    void failedLoadIsNotCachedAndInvalidationReloads() {
+        LoadingCache<String, Integer> cache = new LoadingCache<>("test", 10, 60_000);
+        assertThrows(IllegalStateException.class, () -> cache.get("a", () -> {
+            throw new IllegalStateException("boom");
+        }));
+        assertEquals(1, cache.get("a", () -> 1));
+
+        cache.invalidate("a");
+        assertEquals(2, cache.get("a", () -> 2));
+        assertEquals(1L, cache.getStats().getInvalidations());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
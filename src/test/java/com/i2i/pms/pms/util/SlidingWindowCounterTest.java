@@ -0,0 +1,41 @@
+package com.i2i.pms.pms.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlidingWindowCounterTest {
+
+    private enum Counter { A, B }
+
+    private final LocalDateTime now = LocalDateTime.of(2024, 3, 1, 12, 0, 30);
+    private final SlidingWindowCounter<Counter> window = new SlidingWindowCounter<>(Counter.class, Duration.ofHours(24));
+
+    @Test
+    void totalsCoverOnlyTheWindow() {
+        window.add(Counter.A, now.minusMinutes(5), now, 2L);
+        window.add(Counter.A, now.minusHours(23), now, 1L);
+        window.add(Counter.B, now, now, 7L);
+        window.add(Counter.A, now.minusHours(25), now, 100L);
+
+        assertEquals(3L, window.totals(now).get(Counter.A));
+        assertEquals(7L, window.totals(now).get(Counter.B));
+
+        // Two hours later the 23 hour old contribution has slid out
+        assertEquals(2L, window.totals(now.plusHours(2)).get(Counter.A));
+        assertEquals(0L, window.totals(now.plusHours(25)).get(Counter.B));
+    }
+
+    @Test
+    void reusedBucketsStartFromZero() {
+        window.add(Counter.A, now, now, 5L);
+        LocalDateTime nextDay = now.plusDays(1);
+        window.add(Counter.A, nextDay, nextDay, 1L);
+        window.add(Counter.A, now, nextDay, -5L);
+
+        assertEquals(1L, window.totals(nextDay).get(Counter.A));
+    }
+}